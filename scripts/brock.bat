@@ -0,0 +1,8 @@
+@ECHO OFF
+REM Runs brock.jar from the same folder, with its class data sharing archive (brock.jsa) if present.
+REM The archive is created by `gradlew cdsArchive`, and is ignored by Java if it no longer matches the jar.
+IF EXIST "%~dp0brock.jsa" (
+    java -XX:SharedArchiveFile="%~dp0brock.jsa" -Xshare:auto -jar "%~dp0brock.jar" %*
+) ELSE (
+    java -jar "%~dp0brock.jar" %*
+)
@@ -1,5 +1,6 @@
 package commands;
 
+import exceptions.BrockException;
 import storage.task.TaskStorage;
 import storage.temp.TempStorage;
 import task.TaskList;
@@ -28,10 +29,12 @@ public class ByeCommand extends Command {
      *
      * <p>
      * Chatbot returns bye message and terminates.
+     * Waits for pending save file writes first, so that no task is lost on exit.
      * </p>
      */
     @Override
-    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) {
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
+        taskStorage.flush();
         return this.getResponse();
     }
 
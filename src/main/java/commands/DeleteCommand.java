@@ -1,5 +1,7 @@
 package commands;
 
+import java.util.ArrayList;
+
 import exceptions.BrockException;
 import storage.task.TaskStorage;
 import storage.temp.TempStorage;
@@ -24,17 +26,19 @@ public class DeleteCommand extends Command {
      * Checks if the delete command is valid.
      *
      * @param tasks List of current {@code Task} objects.
+     * @return Indices of the selected tasks.
      * @throws BrockException If command is missing a task number, has a wrong task number.
      *      Or, it is in the wrong format altogether.
      */
-    private void validateDelete(TaskList tasks) throws BrockException {
+    private int[] validateDelete(TaskList tasks) throws BrockException {
         String[] commandWords = this.processCommand();
         CommandUtility.validateLength(commandWords, "Delete ");
-        CommandUtility.validateTaskNumber(commandWords, tasks);
+        return CommandUtility.getTaskIndices(super.getCommand(), tasks);
     }
 
     /**
-     * Removes the deleted task from save file.
+     * Removes the deleted tasks from save file.
+     * Called once per command, regardless of the number of tasks deleted.
      *
      * @param taskStorage Instance that interfaces with save file.
      * @param tasks List of current {@code Task} objects.
@@ -42,20 +46,26 @@ public class DeleteCommand extends Command {
      */
     private void updateSaveFile(TaskStorage taskStorage, TaskList tasks) throws BrockException {
         String remainingTasks = tasks.listTasks();
-        taskStorage.writeToFile("", false);
-        taskStorage.writeToFile(remainingTasks, true);
+        // Single overwrite, so a crash never leaves the save file truncated
+        taskStorage.writeToFile(remainingTasks, false);
     }
 
     /**
      * Gets the chatbot response to delete command.
      *
      * @param tasks List of current {@code Task} objects.
-     * @param deletedTaskDetails Details of the deleted task.
+     * @param deletedTasks The deleted tasks.
      * @return Chatbot response.
      */
-    private String getResponse(TaskList tasks, String deletedTaskDetails) {
-        return "Noted. I've removed this task:\n"
-                + "  " + deletedTaskDetails + '\n'
+    private String getResponse(TaskList tasks, ArrayList<Task> deletedTasks) {
+        StringBuilder deletedDetails = new StringBuilder();
+        for (Task deletedTask : deletedTasks) {
+            deletedDetails.append("  ").append(tasks.getTaskDetails(deletedTask)).append('\n');
+        }
+        return (deletedTasks.size() == 1
+                ? "Noted. I've removed this task:\n"
+                : "Noted. I've removed these " + deletedTasks.size() + " tasks:\n")
+                + deletedDetails
                 + tasks.getTasksSummary()
                 + this.getQuirkyResponse();
     }
@@ -65,7 +75,7 @@ public class DeleteCommand extends Command {
      *
      * <p>
      * Chatbot checks if delete command is valid.
-     * If so, it deletes the corresponding task from {@code tasks}, updates the save file.
+     * If so, it deletes the selected tasks from {@code tasks} in a single pass, updates the save file once.
      * As well as return a response indicating successful deletion.
      * </p>
      *
@@ -73,17 +83,12 @@ public class DeleteCommand extends Command {
      */
     @Override
     public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
-        this.validateDelete(tasks);
-
-        String command = super.getCommand();
-        int taskIndex = CommandUtility.getTaskIndex(command);
-        Task deletedTask = tasks.getTask(taskIndex);
-        String deletedTaskDetails = tasks.getTaskDetails(taskIndex);
-        tasks.removeFromList(taskIndex);
+        int[] taskIndices = this.validateDelete(tasks);
+        ArrayList<Task> deletedTasks = tasks.removeFromList(taskIndices);
 
-        tempStorage.setLastDeletedTask(deletedTask);
+        tempStorage.setLastDeletedTasks(deletedTasks);
         this.updateSaveFile(taskStorage, tasks);
-        return this.getResponse(tasks, deletedTaskDetails);
+        return this.getResponse(tasks, deletedTasks);
     }
 
     /**
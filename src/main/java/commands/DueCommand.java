@@ -0,0 +1,79 @@
+package commands;
+
+import java.time.LocalDate;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import storage.temp.TempStorage;
+import task.TaskList;
+import utility.CommandUtility;
+
+/**
+ * Represents a due command entered by the user.
+ * (Eg: {@code due}, {@code due 30})
+ */
+public class DueCommand extends Command {
+    private static final int DEFAULT_DAYS = 7;
+    private static final int MAX_DAYS = 366;
+
+    /**
+     * Stores the command string associated with due command.
+     *
+     * @param command Command string.
+     */
+    public DueCommand(String command) {
+        super(command);
+    }
+
+    /**
+     * Gets the number of days to look ahead, including today.
+     *
+     * @return Number of days.
+     * @throws BrockException If the number of days is not valid.
+     */
+    private int getDays() throws BrockException {
+        String[] commandWords = this.processCommand();
+        if (commandWords.length == 1) {
+            return DEFAULT_DAYS;
+        }
+        if (commandWords.length > 2 || CommandUtility.isNotInteger(commandWords[1])
+                || Integer.parseInt(commandWords[1]) < 1 || Integer.parseInt(commandWords[1]) > MAX_DAYS) {
+            throw new BrockException("Due command is in the form due <?days>, with days between 1 and "
+                    + MAX_DAYS + "!");
+        }
+        return Integer.parseInt(commandWords[1]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Chatbot lists the uncompleted deadlines, events and occurrences of recurring tasks
+     * from today over the next few days, grouped by date.
+     * Recurring tasks are only expanded within those days.
+     * </p>
+     *
+     * @throws BrockException If due command is invalid.
+     */
+    @Override
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
+        int days = this.getDays();
+        LocalDate today = LocalDate.now();
+        StringBuilder response = ResponseBuilder.acquire()
+                .append(days == 1 ? "Here is what is due today:\n" : "Here is what is due in the next "
+                        + days + " days:\n");
+        int numDue = tasks.appendDueTasks(response, today, today.plusDays(days - 1));
+        if (numDue == 0) {
+            response.append("Nothing due!\n");
+        }
+        return response.append(this.getQuirkyResponse()).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommandType() {
+        return "due";
+    }
+}
@@ -0,0 +1,51 @@
+package commands;
+
+import java.nio.file.Path;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import storage.temp.TempStorage;
+import storage.transfer.TaskTransfer;
+import task.TaskList;
+import utility.CommandUtility;
+
+/**
+ * Represents an export command entered by the user.
+ * (Eg: {@code export tasks.csv}, {@code export tasks.jsonl})
+ */
+public class ExportCommand extends Command {
+    /**
+     * Stores the command string associated with export command.
+     *
+     * @param command Command string.
+     */
+    public ExportCommand(String command) {
+        super(command);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Chatbot streams every task to the file, as CSV or JSON Lines depending on its extension.
+     * Returns a response indicating how many tasks were exported.
+     * </p>
+     *
+     * @throws BrockException If export command is invalid, or writing fails.
+     */
+    @Override
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
+        Path file = CommandUtility.getFilePath(this.getCommand(), "Export ");
+        int numExported = new TaskTransfer(taskStorage).exportTasks(tasks, file);
+        return "Exported " + numExported + (numExported == 1 ? " task" : " tasks") + " to " + file + "!\n"
+                + this.getQuirkyResponse();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommandType() {
+        return "export";
+    }
+}
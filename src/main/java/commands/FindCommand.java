@@ -3,6 +3,8 @@ package commands;
 import exceptions.BrockException;
 import storage.task.TaskStorage;
 import storage.temp.TempStorage;
+import task.SearchMode;
+import task.SearchQuery;
 import task.TaskList;
 
 /**
@@ -20,8 +22,8 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Checks the find command for a keyword.
-     * @param commandWords Find command to be checked.
+     * Checks the find command for a single keyword, after a search mode flag.
+     * @param commandWords Find command to be checked, without its search mode flag.
      * @return Keyword, if any.
      * @throws BrockException If keyword not found, or multiple keywords found.
      */
@@ -31,42 +33,89 @@ public class FindCommand extends Command {
             throw new BrockException("Missing keyword!");
         }
         if (commandLength > 2) {
-            throw new BrockException("Please only specify a single keyword!");
+            throw new BrockException("Please only specify a single keyword with /i, /p or /f!");
         }
         return commandWords[1];
     }
 
     /**
-     * Checks if the find command is valid.
+     * Gets the search mode named by a flag.
      *
-     * @return Keyword if its valid.
-     * @throws BrockException If it is missing a keyword or has multiple keywords.
+     * @param flag Flag after the command word, if it starts with a slash.
+     * @return Search mode.
+     * @throws BrockException If the flag is not a supported search mode.
      */
-    private String validateFindCommand() throws BrockException {
+    private SearchMode getSearchMode(String flag) throws BrockException {
+        // CHECKSTYLE.OFF: Indentation
+        return switch (flag) {
+            case "/i" -> SearchMode.IGNORE_CASE;
+            case "/p" -> SearchMode.PREFIX;
+            case "/f" -> SearchMode.FUZZY;
+            default -> throw new BrockException("Unknown search mode! Use /i (ignore case), /p (prefix) "
+                    + "or /f (fuzzy), eg: find /p borr");
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Checks if a keyword is a plain word, rather than a boolean query (eg: a phrase in quotes).
+     *
+     * @param keyword Keyword to be checked.
+     * @return True if a plain word, false otherwise.
+     */
+    private boolean isPlainWord(String keyword) {
+        return keyword.chars().noneMatch(c -> c == '"' || c == '(' || c == ')');
+    }
+
+    /**
+     * Validates the find command, and appends the tasks it matches.
+     * A single keyword is matched exactly, or as set by a search mode flag,
+     * and several keywords are matched as a boolean query.
+     *
+     * @param response Builder to append to.
+     * @param tasks List of current {@code Task} objects.
+     * @return Number of matching tasks.
+     * @throws BrockException If it is missing a keyword, has an unknown search mode,
+     *      or has an invalid boolean query.
+     */
+    private int appendMatchingTasks(StringBuilder response, TaskList tasks) throws BrockException {
         String[] commandWords = this.processCommand();
-        return this.checkKeyword(commandWords);
+        if (commandWords.length == 1) {
+            throw new BrockException("Missing keyword!");
+        }
+        if (commandWords[1].startsWith("/")) {
+            SearchMode mode = this.getSearchMode(commandWords[1]);
+            // Drop the flag, so that the keyword is checked as without one
+            String[] wordsWithoutFlag = new String[commandWords.length - 1];
+            wordsWithoutFlag[0] = commandWords[0];
+            System.arraycopy(commandWords, 2, wordsWithoutFlag, 1, commandWords.length - 2);
+            return tasks.appendMatchingTasks(response, this.checkKeyword(wordsWithoutFlag), mode);
+        }
+        if (commandWords.length == 2 && this.isPlainWord(commandWords[1])) {
+            return tasks.appendMatchingTasks(response, commandWords[1]);
+        }
+        String expression = this.getCommand().substring(commandWords[0].length());
+        return tasks.appendMatchingTasks(response, SearchQuery.parse(expression));
     }
 
     /**
      * Gets the chatbot response to the find command.
      *
-     * @param findResult Result of the find command.
+     * @param response Builder holding the matching tasks.
+     * @param numMatching Number of matching tasks.
      * @return Chatbot response.
      */
-    private String getResponse(String[] findResult) {
-        String resultString = findResult[0];
-        int numMatching = Integer.parseInt(findResult[1]);
-
+    private String getResponse(StringBuilder response, int numMatching) {
+        // The header depends on the number of matches, so it is inserted in place once they are known
         String responseHeader = numMatching == 1
                 ? "Here is the matching task in your list:\n"
                 : "Here are the matching tasks in your list:\n";
-        String responseBody = numMatching == 0
-                ? "No matching tasks!\n"
-                : resultString;
+        response.insert(0, responseHeader);
+        if (numMatching == 0) {
+            response.append("No matching tasks!\n");
+        }
 
-        return responseHeader
-                + responseBody
-                + this.getQuirkyResponse();
+        return response.append(this.getQuirkyResponse()).toString();
     }
 
     /**
@@ -75,16 +124,19 @@ public class FindCommand extends Command {
      * <p>
      * Chatbot iterates through the list of tasks, finding matching tasks that contain the keyword.
      * It then returns these matching tasks, if any.
+     * With a search mode flag, the keyword may also match ignoring case, as a prefix, or with typos,
+     * and the best matches are returned first.
+     * Several keywords may be combined with AND, OR, NOT, quotes and brackets.
      * </p>
      *
      * @throws BrockException If the find command is invalid.
      */
     @Override
     public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
-        String keyword = this.validateFindCommand();
-        String[] findResult = tasks.findMatchingTasks(keyword);
-
-        return this.getResponse(findResult);
+        // Matching tasks are written straight into the response, which is copied out only once
+        StringBuilder response = ResponseBuilder.acquire();
+        int numMatching = this.appendMatchingTasks(response, tasks);
+        return this.getResponse(response, numMatching);
     }
 
     /**
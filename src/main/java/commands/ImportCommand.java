@@ -0,0 +1,53 @@
+package commands;
+
+import java.nio.file.Path;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import storage.temp.TempStorage;
+import storage.transfer.TaskTransfer;
+import task.TaskList;
+import utility.CommandUtility;
+
+/**
+ * Represents an import command entered by the user.
+ * (Eg: {@code import tasks.csv}, {@code import tasks.jsonl})
+ */
+public class ImportCommand extends Command {
+    /**
+     * Stores the command string associated with import command.
+     *
+     * @param command Command string.
+     */
+    public ImportCommand(String command) {
+        super(command);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Chatbot reads every task from the file, as CSV or JSON Lines depending on its extension.
+     * If all of them are valid, they are added to the end of {@code tasks} in one batch, and saved.
+     * Returns a response indicating how many tasks were imported.
+     * </p>
+     *
+     * @throws BrockException If import command is invalid, or any task in the file is invalid.
+     */
+    @Override
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
+        Path file = CommandUtility.getFilePath(this.getCommand(), "Import ");
+        int numImported = new TaskTransfer(taskStorage).importTasks(tasks, file);
+        return "Imported " + numImported + (numImported == 1 ? " task" : " tasks") + " from " + file + "!\n"
+                + tasks.getTasksSummary()
+                + this.getQuirkyResponse();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommandType() {
+        return "import";
+    }
+}
@@ -25,21 +25,22 @@ public class ListCommand extends Command {
      * @return Chatbot response.
      */
     private String getResponse(TaskList tasks) {
-        String tasksString = tasks.listTasks();
-        int totalTasks = tasks.numTasks();
+        // Read from a single snapshot, so that the count matches the listed tasks
+        TaskList snapshot = tasks.snapshot();
+        int totalTasks = snapshot.numTasks();
 
-        String responseBody;
+        // Tasks are written straight into the response, which is copied out only once
+        StringBuilder response = ResponseBuilder.acquire()
+                .append(totalTasks == 1
+                        ? "Here is the task in your list:\n"
+                        : "Here are the tasks in your list:\n");
         if (totalTasks == 0) {
-            responseBody = "No current tasks!\n";
+            response.append("No current tasks!\n");
         } else {
-            responseBody = tasksString;
+            snapshot.appendTasks(response);
         }
 
-        return (totalTasks == 1
-                ? "Here is the task in your list:\n"
-                : "Here are the tasks in your list:\n")
-                + responseBody
-                + this.getQuirkyResponse();
+        return response.append(this.getQuirkyResponse()).toString();
     }
 
     /**
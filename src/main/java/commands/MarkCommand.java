@@ -23,37 +23,44 @@ public class MarkCommand extends Command {
      * Checks if the mark command is valid.
      *
      * @param tasks List of current {@code Task} objects.
+     * @return Indices of the selected tasks.
      * @throws BrockException If mark command is invalid.
      */
-    private void validateMark(TaskList tasks) throws BrockException {
+    private int[] validateMark(TaskList tasks) throws BrockException {
         String[] commandWords = this.processCommand();
         CommandUtility.validateLength(commandWords, "Mark ");
-        CommandUtility.validateTaskNumber(commandWords, tasks);
+        return CommandUtility.getTaskIndices(super.getCommand(), tasks);
     }
 
     /**
-     * Updates the save file to reflect the marked task.
+     * Updates the save file to reflect the marked tasks.
+     * Only their status icons are written, unless the save file has to be rewritten.
      *
      * @param taskStorage Instance that interfaces with the save file.
      * @param tasks List of current {@code Task} objects.
+     * @param markedIndices Indices of the marked tasks.
      * @throws BrockException If writing to save file fails.
      */
-    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks) throws BrockException {
-        String tasksString = tasks.listTasks();
-        taskStorage.writeToFile("", false);
-        taskStorage.writeToFile(tasksString, true);
+    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks, int[] markedIndices) throws BrockException {
+        taskStorage.writeStatuses(tasks, markedIndices, true);
     }
 
     /**
      * Gets the chatbot response to the mark command.
      *
      * @param tasks List of current {@code Task} objects.
-     * @param taskIndex Index of the marked task.
+     * @param markedIndices Indices of the marked tasks.
      * @return Chatbot response.
      */
-    private String getResponse(TaskList tasks, int taskIndex) {
-        return "Nice! I've marked this task as done:\n"
-                + "  " + tasks.getTaskDetails(taskIndex) + '\n'
+    private String getResponse(TaskList tasks, int[] markedIndices) {
+        StringBuilder markedDetails = new StringBuilder();
+        for (int taskIndex : markedIndices) {
+            markedDetails.append("  ").append(tasks.getTaskDetails(taskIndex)).append('\n');
+        }
+        return (markedIndices.length == 1
+                ? "Nice! I've marked this task as done:\n"
+                : "Nice! I've marked these " + markedIndices.length + " tasks as done:\n")
+                + markedDetails
                 + this.getQuirkyResponse();
     }
 
@@ -62,27 +69,26 @@ public class MarkCommand extends Command {
      *
      * <p>
      * Chatbot checks if mark command is valid.
-     * If so, it marks the associated task in {@code tasks} and updates the save file.
-     * Returns a response indicating it has successfully marked the task.
+     * If so, it marks the selected tasks in {@code tasks} and updates the save file once.
+     * Returns a response indicating it has successfully marked the tasks.
      * </p>
      *
      * @throws BrockException If mark command is invalid.
      */
     @Override
     public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
-        this.validateMark(tasks);
-
-        String command = super.getCommand();
-        int taskIndex = CommandUtility.getTaskIndex(command);
+        int[] taskIndices = this.validateMark(tasks);
 
-        boolean isSuccessful = tasks.markTask(taskIndex);
-        if (!isSuccessful) {
-            throw new BrockException("Task has been marked already!");
+        int[] markedIndices = tasks.markTasks(taskIndices);
+        if (markedIndices.length == 0) {
+            throw new BrockException(taskIndices.length == 1
+                    ? "Task has been marked already!"
+                    : "Tasks have been marked already!");
         }
 
-        tempStorage.setLastToggledTaskNum(taskIndex + 1);
-        this.updateSaveFile(taskStorage, tasks);
-        return this.getResponse(tasks, taskIndex);
+        tempStorage.setLastToggledTaskNums(CommandUtility.toTaskNumbers(markedIndices));
+        this.updateSaveFile(taskStorage, tasks, markedIndices);
+        return this.getResponse(tasks, markedIndices);
     }
 
     /**
@@ -0,0 +1,211 @@
+package commands;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import storage.temp.TempStorage;
+import task.Recurrence;
+import task.RecurringTask;
+import task.Task;
+import task.TaskList;
+import utility.CommandUtility;
+
+/**
+ * Represents a recur command entered by the user.
+ * (Eg: {@code recur standup /every week /on mon,wed /from 2024-10-07 0930 /until 2024-12-31})
+ */
+public class RecurCommand extends Command {
+    private static final String[] OPTIONS = {"/every", "/on", "/from", "/until", "/times"};
+
+    /**
+     * Stores the command string associated with recur command.
+     *
+     * @param command Command string.
+     */
+    public RecurCommand(String command) {
+        super(command);
+    }
+
+    /**
+     * Checks if a command word is one of the options of the recur command.
+     *
+     * @param word Command word to be checked.
+     * @return Option in lowercase, or null if the word is not an option.
+     */
+    private String getOption(String word) {
+        for (String option : OPTIONS) {
+            if (word.equalsIgnoreCase(option)) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Splits the command into its description, and the values following each option.
+     *
+     * @param commandWords Command words to be split.
+     * @return Values by option, with the description under an empty key.
+     * @throws BrockException If the description is missing, or an option is given twice.
+     */
+    private Map<String, String> getValues(String[] commandWords) throws BrockException {
+        Map<String, String> values = new HashMap<>();
+        String currentOption = "";
+        StringBuilder value = new StringBuilder();
+        for (int i = 1; i <= commandWords.length; i++) {
+            String option = i == commandWords.length ? "" : this.getOption(commandWords[i]);
+            if (option == null) {
+                value.append(commandWords[i]).append(' ');
+                continue;
+            }
+            if (values.put(currentOption, value.toString()) != null) {
+                throw new BrockException("Please only specify " + currentOption + " once!");
+            }
+            currentOption = option;
+            value.setLength(0);
+        }
+
+        if (values.get("").isBlank()) {
+            throw new BrockException("Description is missing!");
+        }
+        return values;
+    }
+
+    /**
+     * Gets a date from a date and optional time string entered by the user.
+     *
+     * @param dateTime Date, optionally followed by a time.
+     * @param context Indicates if it is the start or the end of the repeat.
+     * @return Date and time values.
+     * @throws BrockException If the date or time is not valid.
+     */
+    private String[] getDateTimeValues(String dateTime, CommandUtility.Context context) throws BrockException {
+        String[] values = CommandUtility.validateDateTime(dateTime, context);
+        try {
+            LocalDate.parse(values[0]);
+        } catch (DateTimeParseException e) {
+            throw new BrockException("Values in date string are not valid!");
+        }
+        return values;
+    }
+
+    /**
+     * Gets the number of times the task repeats.
+     *
+     * @param times Number of times entered by the user, or null if none.
+     * @return Number of times, or 0 if there is no limit.
+     * @throws BrockException If the number of times is not valid.
+     */
+    private int getCount(String times) throws BrockException {
+        if (times == null) {
+            return 0;
+        }
+        if (CommandUtility.isNotInteger(times.trim()) || Integer.parseInt(times.trim()) < 1) {
+            throw new BrockException("Number of times must be between 1 and " + Recurrence.MAX_COUNT + "!");
+        }
+        return Integer.parseInt(times.trim());
+    }
+
+    /**
+     * Creates a {@code RecurringTask} object encapsulating details about the recurring task.
+     *
+     * @return {@code RecurringTask} object.
+     * @throws BrockException If the description or repeat is missing, or any part of the repeat is invalid.
+     */
+    private Task createRecurringTask() throws BrockException {
+        Map<String, String> values = this.getValues(this.processCommand());
+        String every = values.get("/every");
+        if (every == null || every.isBlank()) {
+            throw new BrockException("Missing repeat! Remember it is specified after /every (eg: /every week)!");
+        }
+
+        LocalDate startDate = LocalDate.now();
+        LocalTime time = null;
+        String from = values.get("/from");
+        if (from != null) {
+            String[] startValues = this.getDateTimeValues(from, CommandUtility.Context.START);
+            startDate = LocalDate.parse(startValues[0]);
+            time = startValues.length == 1
+                    ? null
+                    : LocalTime.parse(startValues[1], CommandUtility.TIME_FORMATTER);
+        }
+        LocalDate untilDate = null;
+        String until = values.get("/until");
+        if (until != null) {
+            String[] endValues = this.getDateTimeValues(until, CommandUtility.Context.END);
+            if (endValues.length > 1) {
+                throw new BrockException("End of repeat is a date only, without a time!");
+            }
+            untilDate = LocalDate.parse(endValues[0]);
+        }
+
+        String days = values.get("/on");
+        Recurrence recurrence = Recurrence.create(every, days == null || days.isBlank() ? null : days,
+                startDate, time, untilDate, this.getCount(values.get("/times")));
+        return new RecurringTask(values.get(""), recurrence);
+    }
+
+    /**
+     * Updates the save file with the recurring task.
+     *
+     * @param taskStorage Instance that interfaces with save file.
+     * @param tasks List of current {@code Task} objects.
+     * @param recurringTask Recurring task to be added to save file.
+     * @throws BrockException If writing to file fails.
+     */
+    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks, Task recurringTask)
+            throws BrockException {
+        taskStorage.writeToFile(tasks.numTasks() + ". "
+                        + tasks.getTaskDetails(recurringTask) + '\n',
+                true);
+    }
+
+    /**
+     * Gets the chatbot response to recur command.
+     *
+     * @param tasks List of current {@code Task} objects.
+     * @param recurringTask Recurring task created.
+     * @return Chatbot response.
+     */
+    private String getResponse(TaskList tasks, Task recurringTask) {
+        return "Got it. I've added this recurring task:\n"
+                + "  " + tasks.getTaskDetails(recurringTask) + '\n'
+                + tasks.getTasksSummary()
+                + this.getQuirkyResponse();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Chatbot checks if recur command is valid.
+     * If so, it creates a {@code RecurringTask} object, holding only the rule of when it repeats.
+     * Adds it to {@code tasks}, writes it to save file as a single entry.
+     * Returns a response indicating it has added the recurring task.
+     * </p>
+     *
+     * @throws BrockException If recur command is invalid.
+     */
+    @Override
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
+        Task recurringTask = this.createRecurringTask();
+        tasks.addToList(recurringTask);
+
+        tempStorage.setLastCreatedTaskNum(tasks.numTasks());
+        this.updateSaveFile(taskStorage, tasks, recurringTask);
+        return this.getResponse(tasks, recurringTask);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommandType() {
+        return "recur";
+    }
+}
@@ -0,0 +1,36 @@
+package commands;
+
+/**
+ * Class to hand out a reusable {@code StringBuilder} per thread, for commands with large responses.
+ *
+ * <p>
+ * Commands append their whole response (header, tasks and quirky response) into the builder,
+ * and copy it out only once, as the returned {@code String}.
+ * So a large response is no longer copied out of the task list, then again by each concatenation,
+ * and the builder does not regrow from scratch on every command.
+ * </p>
+ */
+final class ResponseBuilder {
+    private static final int INITIAL_CAPACITY = 256;
+    // Enough for a list of a few hundred thousand tasks. Larger builders are dropped,
+    // so that one huge response does not pin its memory for good
+    private static final int MAX_RETAINED_CAPACITY = 1 << 23;
+    private static final ThreadLocal<StringBuilder> BUILDERS =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    /**
+     * Gets the empty builder of the current thread.
+     * The builder is only valid until the next call on the same thread.
+     *
+     * @return Empty builder.
+     */
+    static StringBuilder acquire() {
+        StringBuilder builder = BUILDERS.get();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(INITIAL_CAPACITY);
+            BUILDERS.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+}
@@ -0,0 +1,53 @@
+package commands;
+
+import metrics.MetricsRegistry;
+import storage.task.TaskStorage;
+import storage.temp.TempStorage;
+import task.TaskList;
+
+/**
+ * Represents a stats command entered by the user.
+ */
+public class StatsCommand extends Command {
+    /**
+     * Stores the command string associated with stats command.
+     *
+     * @param command Command string.
+     */
+    public StatsCommand(String command) {
+        super(command);
+    }
+
+    /**
+     * Gets the chatbot response to stats command.
+     *
+     * @param report Report of the recorded metrics.
+     * @return Chatbot response.
+     */
+    private String getResponse(String report) {
+        return "Here is how I have been doing this session:\n"
+                + (report.isEmpty() ? "Nothing recorded yet!\n" : report)
+                + this.getQuirkyResponse();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Chatbot reports the latencies and counters recorded so far,
+     * such as the time taken by each command type and the amount written to the save file.
+     * </p>
+     */
+    @Override
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) {
+        return this.getResponse(MetricsRegistry.global().report());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommandType() {
+        return "stats";
+    }
+}
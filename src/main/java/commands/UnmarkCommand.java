@@ -23,37 +23,44 @@ public class UnmarkCommand extends Command {
      * Checks if the unmark command is valid.
      *
      * @param tasks List of current {@code Task} objects.
+     * @return Indices of the selected tasks.
      * @throws BrockException If the unmark command is invalid.
      */
-    private void validateUnmark(TaskList tasks) throws BrockException {
+    private int[] validateUnmark(TaskList tasks) throws BrockException {
         String[] commandWords = this.processCommand();
         CommandUtility.validateLength(commandWords, "Unmark ");
-        CommandUtility.validateTaskNumber(commandWords, tasks);
+        return CommandUtility.getTaskIndices(super.getCommand(), tasks);
     }
 
     /**
-     * Update the save file to reflect the unmarked task.
+     * Updates the save file to reflect the unmarked tasks.
+     * Only their status icons are written, unless the save file has to be rewritten.
      *
      * @param taskStorage Instance that interfaces with the save file.
      * @param tasks List of current {@code Task} objects.
+     * @param unmarkedIndices Indices of the unmarked tasks.
      * @throws BrockException If writing to save file fails.
      */
-    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks) throws BrockException {
-        String tasksString = tasks.listTasks();
-        taskStorage.writeToFile("", false);
-        taskStorage.writeToFile(tasksString, true);
+    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks, int[] unmarkedIndices) throws BrockException {
+        taskStorage.writeStatuses(tasks, unmarkedIndices, false);
     }
 
     /**
      * Gets the chatbot response to the unmark command.
      *
      * @param tasks List of current {@code Task} objects.
-     * @param taskIndex Index of the unmarked task.
+     * @param unmarkedIndices Indices of the unmarked tasks.
      * @return Chatbot response.
      */
-    private String getResponse(TaskList tasks, int taskIndex) {
-        return "OK, I've marked this task as not done yet:\n"
-                + "  " + tasks.getTaskDetails(taskIndex) + '\n'
+    private String getResponse(TaskList tasks, int[] unmarkedIndices) {
+        StringBuilder unmarkedDetails = new StringBuilder();
+        for (int taskIndex : unmarkedIndices) {
+            unmarkedDetails.append("  ").append(tasks.getTaskDetails(taskIndex)).append('\n');
+        }
+        return (unmarkedIndices.length == 1
+                ? "OK, I've marked this task as not done yet:\n"
+                : "OK, I've marked these " + unmarkedIndices.length + " tasks as not done yet:\n")
+                + unmarkedDetails
                 + this.getQuirkyResponse();
     }
 
@@ -62,27 +69,26 @@ public class UnmarkCommand extends Command {
      *
      * <p>
      * Chatbot checks if unmark command is valid.
-     * If so, it unmarks the associated task in {@code tasks} and updates the save file.
-     * Returns a response indicating it has successfully unmarked the task.
+     * If so, it unmarks the selected tasks in {@code tasks} and updates the save file once.
+     * Returns a response indicating it has successfully unmarked the tasks.
      * </p>
      *
      * @throws BrockException If unmark command is invalid.
      */
     @Override
     public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
-        this.validateUnmark(tasks);
-
-        String command = super.getCommand();
-        int taskIndex = CommandUtility.getTaskIndex(command);
+        int[] taskIndices = this.validateUnmark(tasks);
 
-        boolean isSuccessful = tasks.unmarkTask(taskIndex);
-        if (!isSuccessful) {
-            throw new BrockException("Task has not been marked yet!");
+        int[] unmarkedIndices = tasks.unmarkTasks(taskIndices);
+        if (unmarkedIndices.length == 0) {
+            throw new BrockException(taskIndices.length == 1
+                    ? "Task has not been marked yet!"
+                    : "Tasks have not been marked yet!");
         }
 
-        tempStorage.setLastToggledTaskNum(taskIndex + 1);
-        this.updateSaveFile(taskStorage, tasks);
-        return this.getResponse(tasks, taskIndex);
+        tempStorage.setLastToggledTaskNums(CommandUtility.toTaskNumbers(unmarkedIndices));
+        this.updateSaveFile(taskStorage, tasks, unmarkedIndices);
+        return this.getResponse(tasks, unmarkedIndices);
     }
 
     /**
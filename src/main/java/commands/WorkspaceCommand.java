@@ -0,0 +1,115 @@
+package commands;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import storage.temp.TempStorage;
+import storage.workspace.Workspace;
+import storage.workspace.WorkspaceManager;
+import task.TaskList;
+
+/**
+ * Represents a workspace command entered by the user.
+ * (Eg: {@code workspace}, {@code workspace list}, {@code workspace switch work})
+ */
+public class WorkspaceCommand extends Command {
+    private final WorkspaceManager workspaces;
+
+    /**
+     * Stores the command string associated with workspace command.
+     *
+     * @param command Command string.
+     * @param workspaces Workspaces of the chatbot, to be listed or switched between.
+     */
+    public WorkspaceCommand(String command, WorkspaceManager workspaces) {
+        super(command);
+        this.workspaces = workspaces;
+    }
+
+    /**
+     * Gets the chatbot response to switching workspaces.
+     *
+     * @param workspace Workspace switched to.
+     * @param isLoaded Indicator if the workspace was loaded before the switch.
+     * @param evictionError Error from dropping workspaces over the memory budget, or null if none.
+     * @return Chatbot response.
+     */
+    private String getSwitchResponse(Workspace workspace, boolean isLoaded, String evictionError) {
+        StringBuilder response = new StringBuilder("Switched to workspace ").append(workspace.getName())
+                .append("!\n");
+        String corruptionReport = workspace.getTaskStorage().getCorruptionReport();
+        if (!isLoaded && corruptionReport != null) {
+            response.append("[Corruption] \n").append(corruptionReport).append('\n');
+        }
+        if (evictionError != null) {
+            response.append("[Warning] \nUnable to unload other workspaces: ").append(evictionError).append('\n');
+        }
+        return response.append(workspace.getTasks().getTasksSummary())
+                .append(this.getQuirkyResponse())
+                .toString();
+    }
+
+    /**
+     * Gets the chatbot response to listing workspaces.
+     * The current workspace is starred, and loaded workspaces show their number of tasks.
+     *
+     * @return Chatbot response.
+     * @throws BrockException If the workspaces cannot be listed.
+     */
+    private String getListResponse() throws BrockException {
+        String currentName = this.workspaces.getCurrent().getName();
+        StringBuilder response = new StringBuilder("Here are your workspaces:\n");
+        for (String name : this.workspaces.listNames()) {
+            response.append(name.equals(currentName) ? "* " : "  ").append(name);
+            if (this.workspaces.isLoaded(name)) {
+                response.append(" (loaded)");
+            }
+            response.append('\n');
+        }
+        return response.append(this.getQuirkyResponse()).toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Without arguments, chatbot shows the current workspace.
+     * {@code list} shows every workspace, and {@code switch <name>} makes {@code <name>} the current workspace,
+     * creating it if it does not exist. Later commands act on the tasks of the current workspace.
+     * </p>
+     *
+     * @throws BrockException If workspace command is invalid, or the workspace cannot be loaded.
+     */
+    @Override
+    public String execute(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks) throws BrockException {
+        String[] commandWords = this.processCommand();
+        if (commandWords.length == 1) {
+            return "You are in workspace " + this.workspaces.getCurrent().getName() + "!\n"
+                    + tasks.getTasksSummary()
+                    + this.getQuirkyResponse();
+        }
+        if (commandWords.length == 2 && commandWords[1].equalsIgnoreCase("list")) {
+            return this.getListResponse();
+        }
+        if (commandWords.length == 3 && commandWords[1].equalsIgnoreCase("switch")) {
+            boolean isLoaded = this.workspaces.isLoaded(commandWords[2]);
+            Workspace workspace = this.workspaces.switchTo(commandWords[2]);
+            // The switch has happened, so a failure to drop other workspaces must not fail the command
+            String evictionError = null;
+            try {
+                this.workspaces.evictOverBudget();
+            } catch (BrockException e) {
+                evictionError = e.getMessage();
+            }
+            return this.getSwitchResponse(workspace, isLoaded, evictionError);
+        }
+        throw new BrockException("Workspace command is in the form workspace <?list | switch <name>>!");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getCommandType() {
+        return "workspace";
+    }
+}
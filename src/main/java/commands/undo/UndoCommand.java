@@ -17,7 +17,8 @@ import task.TaskList;
  * Represents an undo command entered by the user.
  */
 public class UndoCommand extends Command {
-    private static final Map<String, PrevCommandManager> PREV_CMD_MANAGERS = new HashMap<>();
+    private final Map<String, PrevCommandManager> prevCmdManagers = new HashMap<>();
+
     /**
      * Stores the command string associated with undo command.
      *
@@ -25,9 +26,9 @@ public class UndoCommand extends Command {
      */
     public UndoCommand(String command) {
         super(command);
-        PREV_CMD_MANAGERS.put("create", new PrevCreateManager());
-        PREV_CMD_MANAGERS.put("delete", new PrevDeleteManager());
-        PREV_CMD_MANAGERS.put("toggle", new PrevToggleManager());
+        this.prevCmdManagers.put("create", new PrevCreateManager());
+        this.prevCmdManagers.put("delete", new PrevDeleteManager());
+        this.prevCmdManagers.put("toggle", new PrevToggleManager());
     }
 
     /**
@@ -59,14 +60,14 @@ public class UndoCommand extends Command {
         // CHECKSTYLE.OFF: Indentation
         return switch (previousCommand) {
             case "mark" -> {
-                PREV_CMD_MANAGERS.get("toggle").setIsMark(true);
+                this.prevCmdManagers.get("toggle").setIsMark(true);
                 yield "toggle";
             }
             case "unmark" -> {
-                PREV_CMD_MANAGERS.get("toggle").setIsMark(false);
+                this.prevCmdManagers.get("toggle").setIsMark(false);
                 yield "toggle";
             }
-            case "todo", "deadline", "event" -> "create";
+            case "todo", "deadline", "event", "recur" -> "create";
             case "delete" -> "delete";
             default -> throw new BrockException("Previous valid command: " + previousCommand + " cannot be undone!");
         };
@@ -91,7 +92,7 @@ public class UndoCommand extends Command {
         String responseBody;
 
         String previousCommandCategory = this.getPrevCommandCategory(previousCommand);
-        PrevCommandManager prevCommandManager = PREV_CMD_MANAGERS.get(previousCommandCategory);
+        PrevCommandManager prevCommandManager = this.prevCmdManagers.get(previousCommandCategory);
         responseBody = prevCommandManager.undoPrevCommand(taskStorage, tempStorage, tasks);
 
         return responseHeader + responseBody;
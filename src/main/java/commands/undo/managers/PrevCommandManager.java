@@ -9,7 +9,7 @@ import task.TaskList;
  * Abstract base class to provide a template for a previous command manager.
  */
 public abstract class PrevCommandManager {
-    protected static boolean isMark = false;
+    protected boolean isMark = false;
 
     /**
      * Undo the previous command.
@@ -23,7 +23,12 @@ public abstract class PrevCommandManager {
     public abstract String undoPrevCommand(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks)
             throws BrockException;
 
+    /**
+     * Sets whether the previous command marked tasks, rather than unmarked them.
+     *
+     * @param isMark Indicator if the previous command was a mark command.
+     */
     public void setIsMark(boolean isMark) {
-        PrevCommandManager.isMark = isMark;
+        this.isMark = isMark;
     }
 }
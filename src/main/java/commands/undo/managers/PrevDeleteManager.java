@@ -1,5 +1,7 @@
 package commands.undo.managers;
 
+import java.util.ArrayList;
+
 import exceptions.BrockException;
 import storage.task.TaskStorage;
 import storage.temp.TempStorage;
@@ -14,40 +16,57 @@ public class PrevDeleteManager extends PrevCommandManager {
      * {@inheritDoc}
      *
      * Specifically, undoes the previous delete command.
+     * Restored tasks are appended to the end of the list.
      */
     @Override
     public String undoPrevCommand(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks)
             throws BrockException {
-        Task lastDeletedTask = tempStorage.getLastDeletedTask();
-        tasks.addToList(lastDeletedTask);
-        this.updateSaveFile(taskStorage, tasks, lastDeletedTask);
-        return this.getResponse(lastDeletedTask, tasks);
+        ArrayList<Task> lastDeletedTasks = tempStorage.getLastDeletedTasks();
+        int firstRestoredTaskNum = tasks.numTasks() + 1;
+        for (Task lastDeletedTask : lastDeletedTasks) {
+            tasks.addToList(lastDeletedTask);
+        }
+        this.updateSaveFile(taskStorage, tasks, lastDeletedTasks, firstRestoredTaskNum);
+        return this.getResponse(lastDeletedTasks, tasks);
     }
 
     /**
-     * Writes the restored task back into the save file.
+     * Writes the restored tasks back into the save file, in a single write.
      *
      * @param taskStorage Instance that interfaces with save file.
      * @param tasks List of current {@code Task} objects.
-     * @param restoredTask Restored task to write into the save file.
+     * @param restoredTasks Restored tasks to write into the save file.
+     * @param firstRestoredTaskNum Task number of the first restored task.
      * @throws BrockException If writing to file fails.
      */
-    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks, Task restoredTask) throws BrockException {
-        taskStorage.writeToFile(tasks.numTasks() + ". "
-                + tasks.getTaskDetails(restoredTask) + '\n',
-                true);
+    private void updateSaveFile(TaskStorage taskStorage, TaskList tasks, ArrayList<Task> restoredTasks,
+            int firstRestoredTaskNum) throws BrockException {
+        StringBuilder restoredLines = new StringBuilder();
+        int taskNumber = firstRestoredTaskNum;
+        for (Task restoredTask : restoredTasks) {
+            restoredLines.append(taskNumber++).append(". ")
+                    .append(tasks.getTaskDetails(restoredTask)).append('\n');
+        }
+        taskStorage.writeToFile(restoredLines.toString(), true);
     }
 
     /**
      * Gets the chatbot response to undoing previous delete command.
      *
-     * @param lastDeletedTask Restored task.
+     * @param lastDeletedTasks Restored tasks.
      * @param tasks List of current {@code Task} objects.
      * @return Chatbot response.
      */
-    private String getResponse(Task lastDeletedTask, TaskList tasks) {
-        return "Restoring deleted task...\n"
-                + "  " + tasks.getTaskDetails(lastDeletedTask).trim() + " restored!\n"
+    private String getResponse(ArrayList<Task> lastDeletedTasks, TaskList tasks) {
+        StringBuilder restoredDetails = new StringBuilder();
+        for (Task lastDeletedTask : lastDeletedTasks) {
+            restoredDetails.append("  ").append(tasks.getTaskDetails(lastDeletedTask).trim())
+                    .append(" restored!\n");
+        }
+        return (lastDeletedTasks.size() == 1
+                ? "Restoring deleted task...\n"
+                : "Restoring " + lastDeletedTasks.size() + " deleted tasks...\n")
+                + restoredDetails
                 + tasks.getTasksSummary()
                 + "\nLAO GAN MA!";
     }
@@ -7,6 +7,7 @@ import exceptions.BrockException;
 import storage.task.TaskStorage;
 import storage.temp.TempStorage;
 import task.TaskList;
+import utility.CommandUtility;
 
 /**
  * Class to undo previous command, if it is a mark/unmark command.
@@ -20,12 +21,12 @@ public class PrevToggleManager extends PrevCommandManager {
     @Override
     public String undoPrevCommand(TaskStorage taskStorage, TempStorage tempStorage, TaskList tasks)
             throws BrockException {
-        int lastToggledTaskNum = tempStorage.getLastToggledTaskNum();
+        String lastToggledTasks = CommandUtility.toTaskSelector(tempStorage.getLastToggledTaskNums());
         Command toggleCommand;
-        if (PrevCommandManager.isMark) {
-            toggleCommand = new UnmarkCommand("unmark " + lastToggledTaskNum);
+        if (this.isMark) {
+            toggleCommand = new UnmarkCommand("unmark " + lastToggledTasks);
         } else {
-            toggleCommand = new MarkCommand("mark " + lastToggledTaskNum);
+            toggleCommand = new MarkCommand("mark " + lastToggledTasks);
         }
         return toggleCommand.execute(taskStorage, tempStorage, tasks);
     }
@@ -1,6 +1,7 @@
 package controllers;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import core.Brock;
 import javafx.animation.PauseTransition;
@@ -8,6 +9,7 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
@@ -37,12 +39,24 @@ public class MainWindow extends AnchorPane {
 
     private TaskList tasks;
 
-    private final Image userImage =
-            new Image(Objects.requireNonNull(this.getClass()
-                    .getResourceAsStream("/images/DaUser.jpg")));
-    private final Image brockImage =
-            new Image(Objects.requireNonNull(this.getClass()
-                    .getResourceAsStream("/images/DaBrock.jpg")));
+    // Shown in the dialog container until the tasks are loaded
+    private ProgressIndicator loadingIndicator;
+
+    // Decoded in the background, as they are only needed once the first dialog is shown
+    private final CompletableFuture<Image> userImage = MainWindow.decodeImage("/images/DaUser.jpg");
+    private final CompletableFuture<Image> brockImage = MainWindow.decodeImage("/images/DaBrock.jpg");
+
+    /**
+     * Starts decoding an image on a background thread.
+     *
+     * @param path Path of the image resource.
+     * @return Decoded image, once ready.
+     */
+    private static CompletableFuture<Image> decodeImage(String path) {
+        return CompletableFuture.supplyAsync(() ->
+                new Image(Objects.requireNonNull(MainWindow.class.getResourceAsStream(path))));
+    }
+
     /**
      * Initializes the controller class.
      */
@@ -79,8 +93,9 @@ public class MainWindow extends AnchorPane {
     private void setupButtonIcon() {
         // Approach was adopted from https://edencoding.com/how-to-add-an-image-to-a-button/
         // To add an icon within the send button
-        ImageView imageView = new ImageView(Objects.requireNonNull(getClass()
-                .getResource("/images/SendIcon.jpg")).toExternalForm());
+        // Loaded in the background, and drawn once ready
+        ImageView imageView = new ImageView(new Image(Objects.requireNonNull(getClass()
+                .getResource("/images/SendIcon.jpg")).toExternalForm(), true));
         sendButton.setGraphic(imageView);
         sendButton.setContentDisplay(ContentDisplay.TOP);
         imageView.fitWidthProperty()
@@ -109,6 +124,36 @@ public class MainWindow extends AnchorPane {
         this.tasks = t;
     }
 
+    /**
+     * Gets the injected {@code TaskList} instance.
+     *
+     * @return Injected {@code TaskList} instance.
+     */
+    public TaskList getTasks() {
+        return this.tasks;
+    }
+
+    /**
+     * Disables user input and shows a progress indicator while the tasks are loading.
+     * Re-enables user input once loaded.
+     *
+     * @param isLoading Indicator if the tasks are still loading.
+     */
+    public void setIsLoading(boolean isLoading) {
+        this.userInput.setDisable(isLoading);
+        this.sendButton.setDisable(isLoading);
+        if (isLoading && this.loadingIndicator == null) {
+            this.userInput.setPromptText("Loading your tasks ...");
+            this.loadingIndicator = new ProgressIndicator();
+            this.dialogContainer.getChildren().add(this.loadingIndicator);
+        } else if (!isLoading && this.loadingIndicator != null) {
+            this.userInput.setPromptText("Enter your command here!");
+            this.dialogContainer.getChildren().remove(this.loadingIndicator);
+            this.loadingIndicator = null;
+            this.userInput.requestFocus();
+        }
+    }
+
     /**
      * Shows initial Brock response from set up procedure on the GUI.
      * Which entails creating save file, loading from save file and welcome message.
@@ -118,7 +163,7 @@ public class MainWindow extends AnchorPane {
     public void showInitialResponse(String response) {
         boolean isCorruption = response.startsWith("[Corruption]");
         dialogContainer.getChildren().addAll(
-                DialogBox.getBrockDialog(response, isCorruption, brockImage)
+                DialogBox.getBrockDialog(response, isCorruption, this.brockImage.join())
         );
     }
 
@@ -144,8 +189,8 @@ public class MainWindow extends AnchorPane {
      */
     private void showBothDialog(String rawCommand, boolean isException, String brockResponse) {
         dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(rawCommand, userImage),
-                DialogBox.getBrockDialog(brockResponse, isException, brockImage)
+                DialogBox.getUserDialog(rawCommand, this.userImage.join()),
+                DialogBox.getBrockDialog(brockResponse, isException, this.brockImage.join())
         );
         this.userInput.clear();
     }
@@ -164,8 +209,7 @@ public class MainWindow extends AnchorPane {
             return;
         }
         String processedCommand = this.processCommand(rawCommand);
-        Pair<Boolean, Pair<Boolean, String>> responseResult = this.brock
-                .respondToCommand(processedCommand, this.tasks);
+        Pair<Boolean, Pair<Boolean, String>> responseResult = this.brock.respondToCommand(processedCommand);
 
         boolean isExit = responseResult.getFirst();
         boolean isException = responseResult.getSecond().getFirst();
@@ -2,13 +2,18 @@ package core;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 
 import commands.Command;
 import exceptions.BrockException;
+import metrics.CommandEvent;
+import metrics.MetricsRegistry;
 import parser.Parser;
 import storage.task.TaskStorage;
 import storage.temp.TempStorage;
+import storage.workspace.Workspace;
+import storage.workspace.WorkspaceManager;
 import task.Task;
 import task.TaskList;
 import utility.Pair;
@@ -17,9 +22,52 @@ import utility.Pair;
  * Class that represents the chatbot.
  */
 public class Brock {
-    private static final TaskStorage TASK_STORAGE = new TaskStorage();
-    private static final TempStorage TEMP_STORAGE = new TempStorage();
-    private static final Parser PARSER = new Parser();
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    // Commands run one at a time, making whichever thread holds this lock the single writer of the tasks
+    private final Object commandLock = new Object();
+    private final TempStorage tempStorage = new TempStorage();
+    private final TaskStorage defaultStorage;
+    private final WorkspaceManager workspaces;
+    private final Parser parser;
+
+    /**
+     * Uses the default save file for the default workspace.
+     * Its tasks are loaded by {@code loadTasksFromFile()}.
+     *
+     * <p>
+     * Other workspaces are loaded on the first switch to them, and dropped from memory, least recently used first,
+     * once the loaded workspaces take an estimated {@code brock.workspaceMemoryBytes} bytes
+     * (a quarter of the maximum heap by default).
+     * </p>
+     */
+    public Brock() {
+        this(new TaskStorage());
+    }
+
+    /**
+     * Uses the given save file and tasks for the default workspace, which is then already loaded.
+     *
+     * @param taskStorage Instance that interfaces with the save file of the default workspace.
+     * @param tasks Tasks of the default workspace.
+     */
+    public Brock(TaskStorage taskStorage, TaskList tasks) {
+        this(taskStorage);
+        this.workspaces.open(new Workspace(WorkspaceManager.DEFAULT_NAME, taskStorage, tasks));
+    }
+
+    /**
+     * Uses the given save file for the default workspace, without loading it.
+     *
+     * @param taskStorage Instance that interfaces with the save file of the default workspace.
+     */
+    private Brock(TaskStorage taskStorage) {
+        this.defaultStorage = taskStorage;
+        this.workspaces = new WorkspaceManager(taskStorage.getSaveFilePath(),
+                Long.getLong("brock.workspaceMemoryBytes", Runtime.getRuntime().maxMemory() / 4),
+                this::loadWorkspace);
+        this.parser = new Parser(this.workspaces);
+    }
 
     /**
      * Creates the save file.
@@ -31,7 +79,7 @@ public class Brock {
         boolean isSuccessful;
         String overallResponse;
         try {
-            String[] responses = TASK_STORAGE.createFile();
+            String[] responses = this.defaultStorage.createFile();
             isSuccessful = true;
             overallResponse = responses[0] + " | " + responses[1];
 
@@ -46,7 +94,42 @@ public class Brock {
     }
 
     /**
-     * Loads tasks from the save file.
+     * Loads tasks from a save file.
+     *
+     * @param taskStorage Instance that interfaces with the save file.
+     * @return The {@code TaskList tasks} that represents the existing {@code Task} objects.
+     * @throws FileNotFoundException If unable to find save file.
+     */
+    private TaskList loadTasks(TaskStorage taskStorage) throws FileNotFoundException {
+        // Columnar lists read every task on load, so lazy loading would not help them
+        boolean isColumnar = Boolean.getBoolean("brock.columnarTasks");
+        // Lazy loading defers parsing each task until it is first used, for faster startup
+        ArrayList<Task> prevTasks = Boolean.getBoolean("brock.lazyLoad") && !isColumnar
+                ? taskStorage.loadTasksLazily()
+                : taskStorage.loadTasksFromFile();
+        return isColumnar ? TaskList.columnar(prevTasks) : new TaskList(prevTasks);
+    }
+
+    /**
+     * Creates the save file of a workspace if missing, then loads its tasks.
+     *
+     * @param name Name of the workspace.
+     * @param saveFilePath Path of its save file.
+     * @return Loaded workspace.
+     * @throws BrockException If the save file cannot be created or read.
+     */
+    private Workspace loadWorkspace(String name, Path saveFilePath) throws BrockException {
+        TaskStorage taskStorage = this.defaultStorage.withSaveFile(saveFilePath);
+        try {
+            taskStorage.createFile();
+            return new Workspace(name, taskStorage, this.loadTasks(taskStorage));
+        } catch (IOException e) {
+            throw new BrockException("Unable to load workspace " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads tasks of the default workspace from the save file, and makes it the current workspace.
      *
      * @return The {@code TaskList tasks} that represents the existing {@code Task} objects,
      *      as well as a string storing the response of this action.
@@ -55,9 +138,13 @@ public class Brock {
         TaskList tasks;
         String overallResponse;
         try {
-            ArrayList<Task> prevTasks = TASK_STORAGE.loadTasksFromFile();
-            tasks = new TaskList(prevTasks);
-            overallResponse = "Successfully read from save file!";
+            tasks = this.loadTasks(this.defaultStorage);
+            this.workspaces.open(new Workspace(WorkspaceManager.DEFAULT_NAME, this.defaultStorage, tasks));
+            String corruptionReport = this.defaultStorage.getCorruptionReport();
+            // Corrupted entries are set aside, and the valid tasks are kept
+            overallResponse = corruptionReport == null
+                    ? "Successfully read from save file!"
+                    : "[Corruption] \n" + corruptionReport;
 
         } catch (FileNotFoundException e) {
             tasks = null;
@@ -65,39 +152,100 @@ public class Brock {
                     Unable to find the save file!
                     Please re-run the program and try again.
                     Program will close now ...""";
-
-        } catch (BrockException e) {
-            // Save file was corrupted
-            // Reset to blank file and proceed
-            tasks = new TaskList(new ArrayList<>());
-            overallResponse = "[Corruption] \n" + e.getMessage();
         }
         return new Pair<>(tasks, overallResponse);
     }
 
+    /**
+     * Gets the tasks of the current workspace.
+     *
+     * @return The list of existing tasks, or null if they have not been loaded yet.
+     */
+    public TaskList getTasks() {
+        Workspace current = this.workspaces.getCurrent();
+        return current == null ? null : current.getTasks();
+    }
+
+    /**
+     * Writes pending changes to the save files of every loaded workspace, and stops their background writers.
+     * To be called when the program exits, however it exits.
+     *
+     * @return Error message if a save file could not be written, null otherwise.
+     */
+    public String closeSaveFile() {
+        synchronized (this.commandLock) {
+            try {
+                // Not among the workspaces if it failed to load, and closing it twice is harmless
+                this.defaultStorage.close();
+                this.workspaces.close();
+                return null;
+            } catch (BrockException e) {
+                return e.getMessage();
+            }
+        }
+    }
+
+    /**
+     * Executes a command, emitting a flight recorder event around it when recording.
+     *
+     * @param commandObj Command to be executed.
+     * @param workspace Workspace that the command acts on.
+     * @return Response string after executing the command.
+     * @throws BrockException If there are any issues with running the command.
+     */
+    private String execute(Command commandObj, Workspace workspace) throws BrockException {
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        String response = null;
+        TaskList tasks = workspace.getTasks();
+        try {
+            String result = commandObj.execute(workspace.getTaskStorage(), this.tempStorage, tasks);
+            workspace.getTaskStorage().endCommand();
+            response = result;
+            return response;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setCommandType(commandObj.getCommandType());
+                event.setTaskCount(tasks.numTasks());
+                event.setResponseSize(response == null ? 0 : response.length());
+                event.setIsException(response == null);
+                event.commit();
+            }
+        }
+    }
+
     /**
      * Responds to a particular user command.
+     * Commands are serialized, so this may be called from the GUI and the API server at the same time.
+     * They act on the tasks of the current workspace, which must have been loaded.
      *
      * @param processedCommand The processed user command to respond to.
-     * @param tasks The list of existing tasks.
      * @return First boolean indicating if the program should be terminated (only on bye command),
      *      second boolean indicating if there was an exception caught,
      *      as well as a string storing the response to the command.
      */
-    public Pair<Boolean, Pair<Boolean, String>> respondToCommand(String processedCommand, TaskList tasks) {
+    public Pair<Boolean, Pair<Boolean, String>> respondToCommand(String processedCommand) {
         boolean isExit;
         boolean isException;
         String overallResponse;
         isExit = processedCommand.equalsIgnoreCase("bye");
         isException = false;
+        long startNanos = System.nanoTime();
+        String metricName = "command.unrecognized";
         try {
-            Command commandObj = PARSER.handleCommand(processedCommand);
-            overallResponse = commandObj.execute(TASK_STORAGE, TEMP_STORAGE, tasks);
-            TEMP_STORAGE.setPreviousCommand(commandObj.getCommandType());
+            Command commandObj = this.parser.handleCommand(processedCommand);
+            metricName = "command." + commandObj.getCommandType();
+            synchronized (this.commandLock) {
+                overallResponse = this.execute(commandObj, this.workspaces.getCurrent());
+                this.tempStorage.setPreviousCommand(commandObj.getCommandType());
+            }
         } catch (BrockException e) {
             overallResponse = e.getMessage();
             isException = true;
+            METRICS.counter(metricName + ".errors").increment();
         }
+        METRICS.recordSince(metricName, startNanos);
 
         return new Pair<>(isExit, new Pair<>(isException, overallResponse));
     }
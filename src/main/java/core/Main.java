@@ -1,14 +1,22 @@
 package core;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
 import controllers.MainWindow;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
+import metrics.MetricsRegistry;
+import metrics.MetricsReporter;
+import server.ApiServer;
 import task.TaskList;
 import utility.Pair;
 
@@ -19,37 +27,66 @@ public class Main extends Application {
     private static final Brock BROCK = new Brock();
     private static final int MIN_HEIGHT = 555;
     private static final int MIN_WIDTH = 777;
+    private static final String API_PORT_PROPERTY = "brock.api.port";
+    private static final String METRICS_FILE_PROPERTY = "brock.metrics.file";
+    private static final String METRICS_INTERVAL_PROPERTY = "brock.metrics.interval";
+    private static final long DEFAULT_METRICS_INTERVAL_SECONDS = 60;
+    private static final String STARTUP_BENCHMARK_PROPERTY = "brock.startupBenchmark";
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private ApiServer apiServer;
+    private MetricsReporter metricsReporter;
+    private long startNanos;
+    private long firstPaintNanos;
+    // Results of creating the save file, and of loading the tasks from it
+    private CompletableFuture<Pair<Pair<Boolean, String>, Pair<TaskList, String>>> loading;
+
+    /**
+     * Gets the time this process started, on the same scale as {@link System#nanoTime()}.
+     * So that startup times include starting the JVM and JavaFX.
+     *
+     * @return Start time of the process, or the current time if unknown.
+     */
+    private static long getProcessStartNanos() {
+        long nowNanos = System.nanoTime();
+        return ProcessHandle.current().info().startInstant()
+                .map(startInstant -> nowNanos - Duration.between(startInstant, Instant.now()).toNanos())
+                .orElse(nowNanos);
+    }
 
     /**
      * Handles the creation of the save file.
      *
      * @param mainController Controller tied to the main GUI view.
+     * @param createResult Result of creating the save file.
+     * @return Indicator if creation was successful.
      */
-    private void handleCreateSaveFile(MainWindow mainController) {
-        // Creates the save file
-        Pair<Boolean, String> createResult = BROCK.createSaveFile();
+    private boolean handleCreateSaveFile(MainWindow mainController, Pair<Boolean, String> createResult) {
         Boolean isSuccessful = createResult.getFirst();
+        String createResponse = createResult.getSecond();
         if (!isSuccessful) {
+            mainController.showInitialResponse(createResponse);
             mainController.exitProgram();
+            return false;
         }
 
         // Show response to creating save file
-        String createResponse = createResult.getSecond();
         String[] responseParts = createResponse.split(" \\| ");
         String dirResponse = responseParts[0];
         String fileResponse = responseParts[1];
         mainController.showInitialResponse(dirResponse);
         mainController.showInitialResponse(fileResponse);
+        return true;
     }
 
     /**
      * Handles the loading of tasks from save file.
      *
      * @param mainController Controller tied to the main GUI view.
+     * @param loadResult Result of loading the tasks.
+     * @return Indicator if loading was successful.
      */
-    private void handleLoadFromSaveFile(MainWindow mainController) {
-        // Load the tasks from the save file
-        Pair<TaskList, String> loadResult = BROCK.loadTasksFromFile();
+    private boolean handleLoadFromSaveFile(MainWindow mainController, Pair<TaskList, String> loadResult) {
         TaskList tasks = loadResult.getFirst();
         if (tasks == null) {
             mainController.exitProgram();
@@ -59,6 +96,109 @@ public class Main extends Application {
         // Show response to loading tasks
         String loadResponse = loadResult.getSecond();
         mainController.showInitialResponse(loadResponse);
+        return tasks != null;
+    }
+
+    /**
+     * Handles the results of loading the tasks on the JavaFX thread, once they are ready.
+     *
+     * @param mainController Controller tied to the main GUI view.
+     */
+    private void handleTasksWhenLoaded(MainWindow mainController) {
+        this.loading.whenComplete((results, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                mainController.showInitialResponse("Unable to load tasks: " + error.getMessage());
+                mainController.exitProgram();
+                return;
+            }
+            this.handleTasksLoaded(mainController, results.getFirst(), results.getSecond());
+        }));
+    }
+
+    /**
+     * Shows the results of loading the tasks, then finishes setting up and enables user input.
+     *
+     * @param mainController Controller tied to the main GUI view.
+     * @param createResult Result of creating the save file.
+     * @param loadResult Result of loading the tasks, or null if the save file could not be created.
+     */
+    private void handleTasksLoaded(MainWindow mainController, Pair<Boolean, String> createResult,
+            Pair<TaskList, String> loadResult) {
+        if (!this.handleCreateSaveFile(mainController, createResult)
+                || !this.handleLoadFromSaveFile(mainController, loadResult)) {
+            return;
+        }
+        // Registered once, for the chatbot of the app only, as the registry is shared by the whole process
+        METRICS.gauge("tasks.count", () -> BROCK.getTasks().numTasks());
+        this.handleStartApiServer(mainController, mainController.getTasks());
+        this.handleWelcomeMessage(mainController);
+        mainController.setIsLoading(false);
+
+        long tasksLoadedNanos = System.nanoTime() - this.startNanos;
+        METRICS.histogram("startup.tasks_loaded").record(tasksLoadedNanos);
+        if (Boolean.getBoolean(STARTUP_BENCHMARK_PROPERTY)) {
+            System.out.printf("Time to first paint: %.0fms, to tasks loaded: %.0fms (%d tasks)%n",
+                    this.firstPaintNanos / 1e6, tasksLoadedNanos / 1e6, mainController.getTasks().numTasks());
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Records the time to first paint, when the first frame is laid out for rendering.
+     *
+     * @param scene Scene of the GUI.
+     */
+    private void handleFirstPaint(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            /**
+             * Records the time to first paint, only once.
+             */
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                Main.this.firstPaintNanos = System.nanoTime() - Main.this.startNanos;
+                METRICS.histogram("startup.first_paint").record(Main.this.firstPaintNanos);
+            }
+        });
+    }
+
+    /**
+     * Starts the local HTTP/JSON API server, if a port is given through the {@code brock.api.port} property.
+     * (Eg: {@code java -Dbrock.api.port=8080 -jar brock.jar})
+     *
+     * @param mainController Controller tied to the main GUI view.
+     * @param tasks Tasks of the default workspace, or null if they could not be loaded.
+     */
+    private void handleStartApiServer(MainWindow mainController, TaskList tasks) {
+        String port = System.getProperty(API_PORT_PROPERTY);
+        if (port == null || tasks == null) {
+            return;
+        }
+        try {
+            this.apiServer = new ApiServer(BROCK);
+            this.apiServer.start(Integer.parseInt(port));
+            mainController.showInitialResponse("API server listening on http://localhost:"
+                    + this.apiServer.getPort() + "/api\nSend this token in the " + ApiServer.TOKEN_HEADER
+                    + " header: " + this.apiServer.getToken());
+        } catch (IOException | NumberFormatException e) {
+            this.apiServer = null;
+            mainController.showInitialResponse("Unable to start API server on port "
+                    + port + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts dumping metrics to a file periodically, if a file is given through the {@code brock.metrics.file}
+     * property. The interval in seconds can be changed through the {@code brock.metrics.interval} property.
+     */
+    private void handleStartMetricsReporter() {
+        String reportFile = System.getProperty(METRICS_FILE_PROPERTY);
+        if (reportFile == null) {
+            return;
+        }
+        long intervalSeconds = Long.getLong(METRICS_INTERVAL_PROPERTY, DEFAULT_METRICS_INTERVAL_SECONDS);
+        this.metricsReporter = new MetricsReporter(MetricsRegistry.global(), Path.of(reportFile));
+        this.metricsReporter.start(Math.max(1, intervalSeconds));
     }
 
     /**
@@ -93,8 +233,23 @@ public class Main extends Application {
         stage.setMinWidth(MIN_WIDTH);
     }
 
+    /**
+     * Starts creating the save file and loading the tasks in the background,
+     * while the GUI is being set up.
+     */
+    @Override
+    public void init() {
+        this.startNanos = Main.getProcessStartNanos();
+        this.loading = CompletableFuture.supplyAsync(() -> {
+            Pair<Boolean, String> createResult = BROCK.createSaveFile();
+            Pair<TaskList, String> loadResult = createResult.getFirst() ? BROCK.loadTasksFromFile() : null;
+            return new Pair<>(createResult, loadResult);
+        });
+    }
+
     /**
      * Starts the GUI.
+     * The window is shown straight away, with user input disabled until the tasks are loaded.
      *
      * @param stage A platform of sorts, as the backbone for the GUI application.
      */
@@ -109,18 +264,41 @@ public class Main extends Application {
 
             // Crux of setup
             mainController.setBrock(BROCK);
-            this.handleCreateSaveFile(mainController);
-            this.handleLoadFromSaveFile(mainController);
-            this.handleWelcomeMessage(mainController);
+            mainController.setIsLoading(true);
+            this.handleStartMetricsReporter();
 
-            // Finish setup
+            // Show the window while the tasks are still loading
             Scene scene = new Scene(ap);
             this.setTitleAndIcon(stage);
             this.setMinDimensions(stage);
             stage.setScene(scene);
+            this.handleFirstPaint(scene);
             stage.show();
+            this.handleTasksWhenLoaded(mainController);
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Stops the API server and metrics reporter, if running, when the GUI exits.
+     * Then writes any pending changes to the save file, once the tasks have finished loading.
+     */
+    @Override
+    public void stop() {
+        if (this.loading != null) {
+            // Not to close the save file while it is still being loaded
+            this.loading.handle((results, error) -> results).join();
+        }
+        if (this.apiServer != null) {
+            this.apiServer.stop();
+        }
+        String saveFileError = BROCK.closeSaveFile();
+        if (saveFileError != null) {
+            System.err.println("Unable to write to save file: " + saveFileError);
+        }
+        if (this.metricsReporter != null) {
+            this.metricsReporter.stop();
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event, emitted around the execution of each user command.
+ */
+@Name("brock.Command")
+@Label("Command")
+@Category({"Brock", "Commands"})
+@Description("Execution of a user command")
+@StackTrace(false)
+public class CommandEvent extends Event {
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Task Count")
+    @Description("Number of tasks after the command")
+    private int taskCount;
+
+    @Label("Response Size")
+    @Description("Number of characters in the response")
+    private int responseSize;
+
+    @Label("Failed")
+    private boolean isException;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setResponseSize(int responseSize) {
+        this.responseSize = responseSize;
+    }
+
+    public void setIsException(boolean isException) {
+        this.isException = isException;
+    }
+}
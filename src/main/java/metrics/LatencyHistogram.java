@@ -0,0 +1,127 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies, in nanoseconds.
+ *
+ * <p>
+ * Buckets follow the HDR histogram layout: each power of two is split into {@code SUB_BUCKETS} linear buckets.
+ * So any recorded value is reported within 1/16 (6.25%) of its true value,
+ * while the whole {@code long} range fits in under a thousand buckets.
+ * </p>
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int NUM_BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Gets the bucket that a value falls into.
+     *
+     * @param value Non-negative value.
+     * @return Bucket index.
+     */
+    static int getBucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the smallest value that falls into a bucket.
+     *
+     * @param bucketIndex Bucket index.
+     * @return Lower bound of the bucket.
+     */
+    static long getBucketLowerBound(int bucketIndex) {
+        if (bucketIndex < 2 * SUB_BUCKETS) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKETS - 1;
+        long subBucket = bucketIndex % SUB_BUCKETS + SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        this.buckets.incrementAndGet(LatencyHistogram.getBucketIndex(value));
+        this.count.increment();
+        this.sum.add(value);
+        this.max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Gets the number of recorded latencies.
+     *
+     * @return Number of recorded latencies.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded latencies.
+     *
+     * @return Mean latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getMean() {
+        long total = this.count.sum();
+        return total == 0 ? 0 : this.sum.sum() / total;
+    }
+
+    /**
+     * Gets the largest recorded latency.
+     *
+     * @return Largest latency in nanoseconds.
+     */
+    public long getMax() {
+        return this.max.get();
+    }
+
+    /**
+     * Gets the latency at a percentile, within the precision of the buckets.
+     *
+     * @param percentile Percentile, between 0 and 100.
+     * @return Latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // Report the upper bound of the bucket, capped by the true maximum
+                long upperBound = i + 1 < NUM_BUCKETS
+                        ? LatencyHistogram.getBucketLowerBound(i + 1) - 1
+                        : Long.MAX_VALUE;
+                return Math.min(upperBound, this.getMax());
+            }
+        }
+        return this.getMax();
+    }
+}
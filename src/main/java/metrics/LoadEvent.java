@@ -0,0 +1,32 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event, emitted around the loading of tasks from the save file.
+ */
+@Name("brock.Load")
+@Label("Load Tasks")
+@Category({"Brock", "Storage"})
+@Description("Loading of tasks from the save file")
+@StackTrace(false)
+public class LoadEvent extends Event {
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Corrupted")
+    private boolean isCorrupted;
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setIsCorrupted(boolean isCorrupted) {
+        this.isCorrupted = isCorrupted;
+    }
+}
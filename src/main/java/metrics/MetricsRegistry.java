@@ -0,0 +1,124 @@
+package metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Process-wide registry of counters, latency histograms and gauges.
+ *
+ * <p>
+ * Metrics are created on first use and never removed, so hot paths only pay for a map lookup
+ * and an uncontended atomic update. The registry is thread-safe.
+ * </p>
+ */
+public class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the registry shared by the whole program.
+     *
+     * @return Shared registry.
+     */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Gets a counter, creating it if it does not exist yet.
+     *
+     * @param name Name of the counter.
+     * @return Counter.
+     */
+    public LongAdder counter(String name) {
+        return this.counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Gets a latency histogram, creating it if it does not exist yet.
+     *
+     * @param name Name of the histogram.
+     * @return Latency histogram.
+     */
+    public LatencyHistogram histogram(String name) {
+        return this.histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Registers a gauge, whose value is read whenever a report is made.
+     * Replaces any gauge previously registered under the same name.
+     *
+     * @param name Name of the gauge.
+     * @param supplier Supplies the current value.
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        this.gauges.put(name, supplier);
+    }
+
+    /**
+     * Records the time elapsed since a start time into a histogram.
+     *
+     * @param name Name of the histogram.
+     * @param startNanos Start time, from {@link System#nanoTime()}.
+     */
+    public void recordSince(String name, long startNanos) {
+        this.histogram(name).record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Formats a duration in nanoseconds with a readable unit.
+     *
+     * @param nanos Duration in nanoseconds.
+     * @return Formatted duration.
+     */
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + "ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1fus", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format("%.2fms", nanos / 1e6);
+        }
+        return String.format("%.2fs", nanos / 1e9);
+    }
+
+    /**
+     * Creates a report of every metric, sorted by name.
+     *
+     * @return Report as a single string.
+     */
+    public String report() {
+        StringBuilder result = new StringBuilder();
+
+        Map<String, LatencyHistogram> sortedHistograms = new TreeMap<>(this.histograms);
+        if (!sortedHistograms.isEmpty()) {
+            result.append("Latencies:\n");
+        }
+        sortedHistograms.forEach((name, histogram) -> result.append("  ").append(name)
+                .append(": count=").append(histogram.getCount())
+                .append(" mean=").append(MetricsRegistry.formatNanos(histogram.getMean()))
+                .append(" p50=").append(MetricsRegistry.formatNanos(histogram.getPercentile(50)))
+                .append(" p99=").append(MetricsRegistry.formatNanos(histogram.getPercentile(99)))
+                .append(" max=").append(MetricsRegistry.formatNanos(histogram.getMax()))
+                .append('\n'));
+
+        Map<String, Long> values = new TreeMap<>();
+        this.counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        this.gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        if (!values.isEmpty()) {
+            result.append("Counters:\n");
+        }
+        values.forEach((name, value) -> result.append("  ").append(name)
+                .append(": ").append(value).append('\n'));
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically dumps a metrics report to a local file.
+ * Each dump replaces the previous one, so the file always holds one complete report.
+ */
+public class MetricsReporter {
+    private final MetricsRegistry registry;
+    private final Path reportFile;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "brock-metrics-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Stores the registry to report on, and the file to report to.
+     *
+     * @param registry Registry to report on.
+     * @param reportFile File to write reports to.
+     */
+    public MetricsReporter(MetricsRegistry registry, Path reportFile) {
+        this.registry = registry;
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * Starts dumping reports at a fixed interval.
+     *
+     * @param intervalSeconds Seconds between reports.
+     */
+    public void start(long intervalSeconds) {
+        this.scheduler.scheduleAtFixedRate(this::dump, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic reports, after writing one final report.
+     */
+    public void stop() {
+        this.scheduler.shutdown();
+        this.dump();
+    }
+
+    /**
+     * Writes a report to a sibling temporary file, then moves it over the report file.
+     * Failures are ignored, as metrics must never interrupt the user.
+     */
+    private void dump() {
+        String report = "Brock metrics at " + LocalDateTime.now() + '\n' + this.registry.report();
+        try {
+            Path tempFile = this.reportFile.resolveSibling(this.reportFile.getFileName() + ".tmp");
+            Files.writeString(tempFile, report, StandardCharsets.UTF_8);
+            Files.move(tempFile, this.reportFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Unable to write metrics report: " + e.getMessage());
+        }
+    }
+}
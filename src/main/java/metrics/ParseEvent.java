@@ -0,0 +1,32 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event, emitted around the identification of each user command.
+ */
+@Name("brock.Parse")
+@Label("Parse Command")
+@Category({"Brock", "Commands"})
+@Description("Identification of a user command, and creation of its command object")
+@StackTrace(false)
+public class ParseEvent extends Event {
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Recognized")
+    private boolean isRecognized;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setIsRecognized(boolean isRecognized) {
+        this.isRecognized = isRecognized;
+    }
+}
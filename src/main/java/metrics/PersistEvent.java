@@ -0,0 +1,35 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event, emitted around each write to the save file.
+ */
+@Name("brock.Persist")
+@Label("Persist Tasks")
+@Category({"Brock", "Storage"})
+@Description("Write to the save file")
+@StackTrace(false)
+public class PersistEvent extends Event {
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("Append")
+    @Description("True if appended to the save file, false if the save file was overwritten")
+    private boolean isAppend;
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    public void setIsAppend(boolean isAppend) {
+        this.isAppend = isAppend;
+    }
+}
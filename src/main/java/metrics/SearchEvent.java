@@ -0,0 +1,34 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event, emitted around each search of the task list.
+ */
+@Name("brock.Search")
+@Label("Search Tasks")
+@Category({"Brock", "Tasks"})
+@Description("Search of the task list for matching tasks")
+@StackTrace(false)
+public class SearchEvent extends Event {
+    @Label("Task Count")
+    @Description("Number of tasks searched")
+    private int taskCount;
+
+    @Label("Result Size")
+    @Description("Number of matching tasks")
+    private int resultSize;
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setResultSize(int resultSize) {
+        this.resultSize = resultSize;
+    }
+}
@@ -8,35 +8,52 @@ import commands.ByeCommand;
 import commands.Command;
 import commands.DeadlineCommand;
 import commands.DeleteCommand;
+import commands.DueCommand;
 import commands.EventCommand;
+import commands.ExportCommand;
 import commands.FindCommand;
+import commands.ImportCommand;
 import commands.ListCommand;
 import commands.MarkCommand;
+import commands.RecurCommand;
+import commands.StatsCommand;
 import commands.TodoCommand;
 import commands.UnmarkCommand;
+import commands.WorkspaceCommand;
 import commands.undo.UndoCommand;
 import exceptions.BrockException;
+import metrics.ParseEvent;
+import storage.workspace.WorkspaceManager;
 
 /**
  * Class to identify user commands, and create associated {@code Command} objects.
  */
 public class Parser {
-    private static final Map<String, Function<String, Command>> COMMAND_OBJS = new HashMap<>();
+    // Per instance, as the workspace command is bound to the workspaces of one chatbot
+    private final Map<String, Function<String, Command>> commandObjs = new HashMap<>();
 
     /**
      * Initializes the various constructors for each command type.
+     *
+     * @param workspaces Workspaces of the chatbot, for the workspace command.
      */
-    public Parser() {
-        COMMAND_OBJS.put("bye", ByeCommand::new);
-        COMMAND_OBJS.put("list", ListCommand::new);
-        COMMAND_OBJS.put("mark", MarkCommand::new);
-        COMMAND_OBJS.put("unmark", UnmarkCommand::new);
-        COMMAND_OBJS.put("delete", DeleteCommand::new);
-        COMMAND_OBJS.put("todo", TodoCommand::new);
-        COMMAND_OBJS.put("deadline", DeadlineCommand::new);
-        COMMAND_OBJS.put("event", EventCommand::new);
-        COMMAND_OBJS.put("find", FindCommand::new);
-        COMMAND_OBJS.put("undo", UndoCommand::new);
+    public Parser(WorkspaceManager workspaces) {
+        this.commandObjs.put("bye", ByeCommand::new);
+        this.commandObjs.put("list", ListCommand::new);
+        this.commandObjs.put("mark", MarkCommand::new);
+        this.commandObjs.put("unmark", UnmarkCommand::new);
+        this.commandObjs.put("delete", DeleteCommand::new);
+        this.commandObjs.put("todo", TodoCommand::new);
+        this.commandObjs.put("deadline", DeadlineCommand::new);
+        this.commandObjs.put("event", EventCommand::new);
+        this.commandObjs.put("recur", RecurCommand::new);
+        this.commandObjs.put("due", DueCommand::new);
+        this.commandObjs.put("find", FindCommand::new);
+        this.commandObjs.put("undo", UndoCommand::new);
+        this.commandObjs.put("stats", StatsCommand::new);
+        this.commandObjs.put("export", ExportCommand::new);
+        this.commandObjs.put("import", ImportCommand::new);
+        this.commandObjs.put("workspace", command -> new WorkspaceCommand(command, workspaces));
     }
 
     /**
@@ -58,11 +75,23 @@ public class Parser {
      * @throws BrockException If user command is invalid.
      */
     public Command handleCommand(String command) throws BrockException {
+        ParseEvent event = new ParseEvent();
+        event.begin();
         String commandType = this.getCommandType(command);
-        Function<String, Command> commandConstructor = COMMAND_OBJS.get(commandType);
-        if (commandConstructor == null) {
+        Function<String, Command> commandConstructor = this.commandObjs.get(commandType);
+        Command commandObj = commandConstructor == null
+                ? null
+                : commandConstructor.apply(command);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setCommandType(commandType);
+            event.setIsRecognized(commandObj != null);
+            event.commit();
+        }
+
+        if (commandObj == null) {
             throw new BrockException("Unrecognized command!");
         }
-        return commandConstructor.apply(command);
+        return commandObj;
     }
 }
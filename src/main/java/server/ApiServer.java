@@ -0,0 +1,439 @@
+package server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import core.Brock;
+import task.Task;
+import task.TaskList;
+import utility.JsonUtility;
+import utility.Pair;
+
+/**
+ * Optional HTTP/JSON server, exposing Brock to local clients other than the GUI.
+ *
+ * <p>
+ * Only binds to the loopback address. Endpoints:
+ * <ul>
+ *     <li>{@code POST /api/commands}, body is a command (eg: {@code todo borrow book}).</li>
+ *     <li>{@code GET /api/tasks?offset=0&limit=50&keyword=book}, pages through the tasks.</li>
+ *     <li>{@code GET /api/export}, streams every task in save file format.</li>
+ * </ul>
+ * Commands are handed to a single writer thread, so they are applied one at a time.
+ * Queries and exports read a {@code TaskList} snapshot on the request thread, without waiting for the writer.
+ * </p>
+ *
+ * <p>
+ * Binding to loopback does not stop a web page in the user's browser from sending requests, so every request
+ * must carry the per-launch token in the {@code X-Brock-Token} header, and requests from another origin
+ * are rejected. The import and export commands, which read and write any path, are only available in the app.
+ * </p>
+ *
+ * <p>
+ * Commands run on the same chatbot session as the GUI, so they share its current workspace and undo history
+ * (eg: {@code undo} through the API may undo a command typed in the app).
+ * Commands that would end the session or change its workspace ({@code bye} and {@code workspace switch})
+ * are also only available in the app.
+ * </p>
+ */
+public class ApiServer {
+    public static final String TOKEN_HEADER = "X-Brock-Token";
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 1000;
+    private static final int MAX_COMMAND_BYTES = 64 * 1024;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final int TOKEN_BYTES = 32;
+    private static final Set<String> APP_ONLY_COMMANDS = Set.of("import", "export");
+
+    private final Brock brock;
+    private final String token;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "brock-api-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ExecutorService requestExecutor;
+    private HttpServer httpServer;
+
+    /**
+     * Stores the chatbot to be served.
+     * Queries and exports read the tasks of its current workspace.
+     *
+     * @param brock Chatbot that executes the commands, with its tasks loaded.
+     */
+    public ApiServer(Brock brock) {
+        this.brock = brock;
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+    }
+
+    /**
+     * Creates the executor for handling requests.
+     * Uses a virtual thread per request when the runtime supports it (Java 21+),
+     * and falls back to a cached pool of platform threads otherwise.
+     *
+     * @return Executor for handling requests.
+     */
+    private static ExecutorService createRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "brock-api-request");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Starts the server on the loopback address.
+     *
+     * @param port Port to listen on, or 0 to pick any free port.
+     * @throws IOException If the server cannot be bound to the port.
+     */
+    public void start(int port) throws IOException {
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.httpServer.createContext("/api/commands", this.handle("POST", this::handleCommand));
+        this.httpServer.createContext("/api/tasks", this.handle("GET", this::handleTasks));
+        this.httpServer.createContext("/api/export", this.handle("GET", this::handleExport));
+        this.requestExecutor = ApiServer.createRequestExecutor();
+        this.httpServer.setExecutor(this.requestExecutor);
+        this.httpServer.start();
+    }
+
+    /**
+     * Gets the port the server is listening on.
+     *
+     * @return Bound port.
+     */
+    public int getPort() {
+        return this.httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Gets the token that clients must send in the {@code X-Brock-Token} header.
+     * A new token is generated on every launch.
+     *
+     * @return Per-launch token.
+     */
+    public String getToken() {
+        return this.token;
+    }
+
+    /**
+     * Stops the server, waiting up to a second for in-flight requests.
+     */
+    public void stop() {
+        this.httpServer.stop(1);
+        this.requestExecutor.shutdown();
+        this.writer.shutdown();
+    }
+
+    /**
+     * Wraps a handler, rejecting other request methods, unauthorized requests and reporting unexpected errors.
+     *
+     * @param method Allowed request method.
+     * @param handler Handler for the endpoint.
+     * @return Wrapped handler.
+     */
+    private HttpHandler handle(String method, HttpHandler handler) {
+        return exchange -> {
+            try {
+                if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+                    exchange.getResponseHeaders().set("Allow", method);
+                    this.sendError(exchange, 405, "Method not allowed!");
+                    return;
+                }
+                if (!this.isOwnOrigin(exchange.getRequestHeaders().getFirst("Origin"))) {
+                    this.sendError(exchange, 403, "Requests from other origins are not allowed!");
+                    return;
+                }
+                if (!this.isValidToken(exchange.getRequestHeaders().getFirst(TOKEN_HEADER))) {
+                    this.sendError(exchange, 401, "Missing or invalid " + TOKEN_HEADER + " header!");
+                    return;
+                }
+                handler.handle(exchange);
+            } catch (IllegalArgumentException e) {
+                // Thrown while validating the request, before any response is sent
+                this.sendError(exchange, 400, e.getMessage());
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    /**
+     * Checks if a request comes from the server's own origin.
+     * Requests without an {@code Origin} header are not sent by a browser on behalf of a web page.
+     *
+     * @param origin Value of the {@code Origin} header, may be null.
+     * @return True if the request may be handled, false otherwise.
+     */
+    private boolean isOwnOrigin(String origin) {
+        if (origin == null) {
+            return true;
+        }
+        int port = this.getPort();
+        return origin.equals("http://localhost:" + port) || origin.equals("http://127.0.0.1:" + port);
+    }
+
+    /**
+     * Checks the token sent by the client, in constant time.
+     *
+     * @param clientToken Value of the {@code X-Brock-Token} header, may be null.
+     * @return True if it matches the per-launch token, false otherwise.
+     */
+    private boolean isValidToken(String clientToken) {
+        return clientToken != null && MessageDigest.isEqual(
+                clientToken.getBytes(StandardCharsets.UTF_8), this.token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks if a command would end the session shared with the GUI, or change its current workspace.
+     *
+     * @param command Command, with single spaces between words.
+     * @return True if the command is to be refused, false otherwise.
+     */
+    private boolean isSessionCommand(String command) {
+        String[] words = command.toLowerCase().split(" ", 3);
+        return words[0].equals("bye")
+                || (words[0].equals("workspace") && words.length > 1 && words[1].equals("switch"));
+    }
+
+    /**
+     * Executes a command on the writer thread.
+     *
+     * @param exchange Request and response.
+     * @throws IOException If reading the request or writing the response fails.
+     */
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        String command = this.readBody(exchange).trim()
+                .replaceAll(" +", " ");
+        if (command.isEmpty()) {
+            throw new IllegalArgumentException("Missing command!");
+        }
+        if (APP_ONLY_COMMANDS.contains(command.split(" ", 2)[0].toLowerCase())) {
+            this.sendError(exchange, 403, "Import and export are only available in the app!");
+            return;
+        }
+        if (this.isSessionCommand(command)) {
+            this.sendError(exchange, 403, "Commands that end the session or switch workspaces "
+                    + "are only available in the app!");
+            return;
+        }
+
+        Pair<Boolean, Pair<Boolean, String>> result;
+        try {
+            Future<Pair<Boolean, Pair<Boolean, String>>> pending = this.writer.submit(() ->
+                    this.brock.respondToCommand(command));
+            result = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.sendError(exchange, 503, "Server is shutting down!");
+            return;
+        } catch (ExecutionException e) {
+            this.sendError(exchange, 500, String.valueOf(e.getCause()));
+            return;
+        }
+
+        StringBuilder json = new StringBuilder("{\"isExit\":")
+                .append(result.getFirst())
+                .append(",\"isError\":")
+                .append(result.getSecond().getFirst())
+                .append(",\"response\":");
+        JsonUtility.appendString(json, result.getSecond().getSecond()).append('}');
+        this.sendJson(exchange, result.getSecond().getFirst() ? 422 : 200, json.toString());
+    }
+
+    /**
+     * Returns a page of tasks, optionally only those matching a keyword.
+     *
+     * @param exchange Request and response.
+     * @throws IOException If writing the response fails.
+     */
+    private void handleTasks(HttpExchange exchange) throws IOException {
+        Map<String, String> query = this.parseQuery(exchange.getRequestURI().getRawQuery());
+        int offset = this.parseInt(query, "offset", 0);
+        int limit = Math.min(this.parseInt(query, "limit", DEFAULT_LIMIT), MAX_LIMIT);
+        String keyword = query.get("keyword");
+
+        TaskList snapshot = this.brock.getTasks().snapshot();
+        // Matched the same way as the find command, so that both return the same tasks
+        int[] matchingIndices = keyword == null
+                ? IntStream.range(0, snapshot.numTasks()).toArray()
+                : snapshot.findMatchingIndices(keyword);
+        StringBuilder json = new StringBuilder("{\"tasks\":[");
+        int end = (int) Math.min((long) offset + limit, matchingIndices.length);
+        for (int i = offset; i < end; i++) {
+            if (i > offset) {
+                json.append(',');
+            }
+            int taskIndex = matchingIndices[i];
+            this.appendTask(json, taskIndex + 1, snapshot.getTask(taskIndex), snapshot);
+        }
+        json.append("],\"offset\":").append(offset)
+                .append(",\"limit\":").append(limit)
+                .append(",\"total\":").append(matchingIndices.length)
+                .append('}');
+        this.sendJson(exchange, 200, json.toString());
+    }
+
+    /**
+     * Streams every task in save file format, without building the whole export in memory.
+     *
+     * @param exchange Request and response.
+     * @throws IOException If writing the response fails.
+     */
+    private void handleExport(HttpExchange exchange) throws IOException {
+        TaskList snapshot = this.brock.getTasks().snapshot();
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        // Length of 0 means the response is sent in chunks
+        exchange.sendResponseHeaders(200, 0);
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(),
+                StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE)) {
+            for (int i = 0; i < snapshot.numTasks(); i++) {
+                out.write(Integer.toString(i + 1));
+                out.write(". ");
+                out.write(snapshot.getTaskDetails(i));
+                out.write('\n');
+            }
+        }
+    }
+
+    /**
+     * Appends a task as a JSON object.
+     *
+     * @param json Builder to append to.
+     * @param taskNumber Task number, as displayed to the user.
+     * @param task Task to be appended.
+     * @param snapshot Snapshot the task was read from.
+     */
+    private void appendTask(StringBuilder json, int taskNumber, Task task, TaskList snapshot) {
+        json.append("{\"number\":").append(taskNumber)
+                .append(",\"type\":");
+        JsonUtility.appendString(json, task.getTaskType())
+                .append(",\"isDone\":").append(task.getStatusIcon() == 'X')
+                .append(",\"description\":");
+        JsonUtility.appendString(json, task.getDescription())
+                .append(",\"details\":");
+        JsonUtility.appendString(json, snapshot.getTaskDetails(task))
+                .append('}');
+    }
+
+    /**
+     * Reads the request body as a UTF-8 string.
+     *
+     * @param exchange Request and response.
+     * @return Request body.
+     * @throws IOException If reading fails.
+     */
+    private String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_COMMAND_BYTES + 1);
+            if (body.length > MAX_COMMAND_BYTES) {
+                throw new IllegalArgumentException("Command is too long!");
+            }
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Parses a raw query string into its parameters.
+     *
+     * @param rawQuery Raw query string, may be null.
+     * @return Decoded parameters.
+     */
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            String[] parts = parameter.split("=", 2);
+            String value = parts.length == 2 ? parts[1] : "";
+            query.put(URLDecoder.decode(parts[0], StandardCharsets.UTF_8),
+                    URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    /**
+     * Gets a non-negative integer parameter.
+     *
+     * @param query Parsed parameters.
+     * @param name Name of the parameter.
+     * @param defaultValue Value if the parameter is absent.
+     * @return Parameter value.
+     */
+    private int parseInt(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < 0) {
+                throw new IllegalArgumentException(name + " cannot be negative!");
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number!");
+        }
+    }
+
+    /**
+     * Sends a JSON error response.
+     *
+     * @param exchange Request and response.
+     * @param status HTTP status code.
+     * @param message Error message.
+     * @throws IOException If writing the response fails.
+     */
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        this.sendJson(exchange, status, "{\"error\":" + JsonUtility.toJsonString(message) + "}");
+    }
+
+    /**
+     * Sends a JSON response.
+     *
+     * @param exchange Request and response.
+     * @param status HTTP status code.
+     * @param json JSON body.
+     * @throws IOException If writing the response fails.
+     */
+    private void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package storage.task;
+
+/**
+ * Enum used to represent when appended tasks are flushed from memory to the save file.
+ */
+public enum FlushPolicy {
+    /**
+     * Flush at the end of every command, so that a crashed program loses at most the command in progress.
+     */
+    PER_COMMAND,
+    /**
+     * Flush within the group commit window after the first unflushed append.
+     */
+    TIMED,
+    /**
+     * Flush only on exit, or when the buffer is full. Fastest, but a crash loses every unflushed task.
+     */
+    ON_EXIT;
+
+    /**
+     * Gets the flush policy named by a property value (eg: {@code per-command}, {@code timed}, {@code on-exit}).
+     *
+     * @param value Property value, may be null.
+     * @param defaultPolicy Policy if the value is missing or unrecognized.
+     * @return Named flush policy.
+     */
+    public static FlushPolicy fromProperty(String value, FlushPolicy defaultPolicy) {
+        if (value == null) {
+            return defaultPolicy;
+        }
+        try {
+            return FlushPolicy.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            return defaultPolicy;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package storage.task;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import exceptions.BrockException;
+import task.Task;
+
+/**
+ * Class representing a task that has not been parsed from the save file yet.
+ *
+ * <p>
+ * Holds only a copy of the bytes of its line, and its status, so that the rest of the save file is not kept.
+ * The actual {@code Task} is parsed on first access of its description or extra information,
+ * which happens when it is listed, searched, or mutated. The bytes are dropped once parsed.
+ * Only lines with a matching checksum are loaded lazily, so parsing is not expected to fail.
+ * </p>
+ */
+class LazyTask extends Task {
+    // Header and length of a byte array
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private final TaskStorage taskStorage;
+    // Null once parsed
+    private volatile byte[] taskStringBytes;
+    private volatile Task task;
+
+    /**
+     * Stores the line of the task in the save file.
+     *
+     * @param taskStorage Storage that parses the task string.
+     * @param taskStringBytes Task string, excluding its checksum, encoded as in the save file.
+     * @param isDone Status of the task, read from the task string.
+     */
+    LazyTask(TaskStorage taskStorage, byte[] taskStringBytes, boolean isDone) {
+        super(null, isDone);
+        this.taskStorage = taskStorage;
+        this.taskStringBytes = taskStringBytes;
+    }
+
+    /**
+     * Parses the task string, on first call only.
+     * Concurrent first calls may each parse it, which is harmless, as the results are equal.
+     *
+     * @return Parsed task.
+     */
+    private Task hydrate() {
+        Task hydrated = this.task;
+        if (hydrated == null) {
+            byte[] bytes = this.taskStringBytes;
+            if (bytes == null) {
+                // Parsed by a concurrent call, between the two reads
+                return this.task;
+            }
+            try {
+                hydrated = this.taskStorage.convertToTaskObject(new String(bytes, TaskStorage.SAVE_FILE_CHARSET));
+            } catch (BrockException e) {
+                throw new IllegalStateException("Unable to load task from save file: " + e.getMessage(), e);
+            }
+            this.task = hydrated;
+            this.taskStringBytes = null;
+        }
+        return hydrated;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDescription() {
+        return this.hydrate().getDescription();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Returns a parsed task, so the list no longer holds a lazy task in that slot.
+     * </p>
+     */
+    @Override
+    public Task withStatus(boolean isDone) {
+        return this.hydrate().withStatus(isDone);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTaskType() {
+        return this.hydrate().getTaskType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getExtraInfo() {
+        return this.hydrate().getExtraInfo();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        return this.hydrate().getOccurrences(from, to);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Counts the bytes of its line, until it is parsed.
+     * </p>
+     */
+    @Override
+    public long estimateExtraHeapBytes() {
+        byte[] bytes = this.taskStringBytes;
+        return bytes == null ? 0 : ARRAY_HEADER_BYTES + bytes.length;
+    }
+}
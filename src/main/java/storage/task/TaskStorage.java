@@ -1,51 +1,190 @@
 package storage.task;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
 
 import exceptions.BrockException;
+import metrics.LoadEvent;
+import metrics.MetricsRegistry;
 import storage.task.managers.DeadlineManager;
 import storage.task.managers.EventManager;
+import storage.task.managers.RecurringManager;
 import storage.task.managers.TaskManager;
 import storage.task.managers.TodoManager;
 import task.Task;
+import task.TaskList;
+import utility.StorageUtility;
 
 /**
  * Class to create, and interact with save file.
+ *
+ * <p>
+ * The save file is on disk, unless the storage was created by {@link #inMemory()}.
+ * In-memory save files hold the same content as on disk, including checksums,
+ * but are never written out. They suit tests and benchmarks that should not share, or wait on, a real file.
+ * </p>
  */
 public class TaskStorage {
     private static final String FILE_PATH = "./src/main/java/data/saveFile.txt";
-    private static final File SAVE_FILE = new File(FILE_PATH);
+    private static final long DEFAULT_GROUP_COMMIT_MILLIS = 50;
+    private static final int MAX_REPORTED_CORRUPTIONS = 10;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
 
-    private static final Map<Character, TaskManager> TASK_MANAGERS = new HashMap<>();
+    // Always UTF-8, so that checksums, which are computed over UTF-8 bytes, match what is on disk.
+    // Both the eager and the lazy load decode with it, so that they read the same tasks from any save file
+    static final Charset SAVE_FILE_CHARSET = StandardCharsets.UTF_8;
+
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private final File saveFile;
+    private final Path quarantineFile;
+    private final Path unreadableCopyFile;
+    private final Map<Character, TaskManager> taskManagers = new HashMap<>();
+    // Null if the save file is in memory
+    private final SaveFileWriter saveFileWriter;
+    // Contents of every in-memory file, by path, shared by the storages created from one another. Null if on disk
+    private final Map<Path, StringBuilder> memoryFiles;
+    private String corruptionReport;
 
     /**
      * Initializes the various task managers for each task type.
+     * Uses the save file at {@code brock.saveFile}, or the default save file if not set.
      */
     public TaskStorage() {
-        TASK_MANAGERS.put('T', new TodoManager());
-        TASK_MANAGERS.put('D', new DeadlineManager());
-        TASK_MANAGERS.put('E', new EventManager());
+        this(Path.of(System.getProperty("brock.saveFile", FILE_PATH)));
+    }
+
+    /**
+     * Initializes the various task managers for each task type.
+     *
+     * <p>
+     * Overwrites of the save file are group committed,
+     * waiting {@code brock.groupCommitMillis} milliseconds (default 50) for more overwrites before hitting the disk.
+     * Setting it to 0 commits each overwrite before returning.
+     * Appended tasks are flushed according to {@code brock.flushPolicy}
+     * ({@code per-command} by default, {@code timed} or {@code on-exit}).
+     * Overwrites of at least {@code brock.compressAboveBytes} bytes are compressed with gzip (never by default).
+     * </p>
+     *
+     * @param saveFilePath Path of the save file.
+     */
+    public TaskStorage(Path saveFilePath) {
+        this(saveFilePath, Long.getLong("brock.groupCommitMillis", DEFAULT_GROUP_COMMIT_MILLIS),
+                FlushPolicy.fromProperty(System.getProperty("brock.flushPolicy"), FlushPolicy.PER_COMMAND),
+                Long.getLong("brock.compressAboveBytes", -1));
+    }
+
+    /**
+     * Initializes the various task managers for each task type.
+     * The save file is never compressed.
+     *
+     * @param saveFilePath Path of the save file.
+     * @param groupCommitMillis Milliseconds to wait for more overwrites before committing, or 0 to not wait.
+     * @param flushPolicy When appended tasks are written to the save file.
+     */
+    TaskStorage(Path saveFilePath, long groupCommitMillis, FlushPolicy flushPolicy) {
+        this(saveFilePath, groupCommitMillis, flushPolicy, -1);
     }
 
     /**
-     * Resets the save file due to corrupted data.
+     * Initializes the various task managers for each task type.
      *
-     * @param description String describing the corruption.
-     * @throws BrockException Always throws this exception, containing message about the corruption.
-     *                        To be bubbled up to the core.Brock.run() in the main class.
+     * @param saveFilePath Path of the save file.
+     * @param groupCommitMillis Milliseconds to wait for more overwrites before committing, or 0 to not wait.
+     * @param flushPolicy When appended tasks are written to the save file.
+     * @param compressAboveBytes Overwrites of at least this many bytes are compressed, or -1 to never compress.
      */
-    protected void resetSaveFile(String description) throws BrockException {
-        this.writeToFile("", false);
-        throw new BrockException("While reading from save file: \n"
-                + description + '\n'
-                + "Save file is corrupted. File has been reset!");
+    TaskStorage(Path saveFilePath, long groupCommitMillis, FlushPolicy flushPolicy, long compressAboveBytes) {
+        this(saveFilePath, new SaveFileWriter(saveFilePath, SAVE_FILE_CHARSET,
+                Math.max(0, groupCommitMillis), flushPolicy, compressAboveBytes), null);
+    }
+
+    /**
+     * Initializes the various task managers for each task type.
+     *
+     * @param saveFilePath Path of the save file.
+     * @param saveFileWriter Writer of the save file on disk, or null if in memory.
+     * @param memoryFiles Contents of the in-memory files, or null if on disk.
+     */
+    private TaskStorage(Path saveFilePath, SaveFileWriter saveFileWriter, Map<Path, StringBuilder> memoryFiles) {
+        this.saveFile = saveFilePath.toFile();
+        this.quarantineFile = saveFilePath.resolveSibling(saveFilePath.getFileName() + ".quarantine");
+        this.unreadableCopyFile = saveFilePath.resolveSibling(saveFilePath.getFileName() + ".unreadable");
+        this.saveFileWriter = saveFileWriter;
+        this.memoryFiles = memoryFiles;
+        this.taskManagers.put('T', new TodoManager());
+        this.taskManagers.put('D', new DeadlineManager());
+        this.taskManagers.put('E', new EventManager());
+        this.taskManagers.put('R', new RecurringManager());
+    }
+
+    /**
+     * Creates a storage whose save file is kept in memory, at the default path.
+     * Its save file, and those of storages created from it by {@code withSaveFile(Path)}, never touch the disk.
+     *
+     * @return In-memory {@code TaskStorage}.
+     */
+    public static TaskStorage inMemory() {
+        return new TaskStorage(Path.of(FILE_PATH), null, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Creates a storage of the same kind for another save file.
+     * In-memory storages share their files, so a save file written by one can be loaded by another.
+     *
+     * @param saveFilePath Path of the other save file.
+     * @return {@code TaskStorage} for the other save file.
+     */
+    public TaskStorage withSaveFile(Path saveFilePath) {
+        return this.memoryFiles == null
+                ? new TaskStorage(saveFilePath)
+                : new TaskStorage(saveFilePath, null, this.memoryFiles);
+    }
+
+    /**
+     * Gets the in-memory save file.
+     *
+     * @return Contents of the save file, to be read and written while synchronized on it.
+     * @throws FileNotFoundException If the save file has not been created.
+     */
+    private StringBuilder getMemoryFile() throws FileNotFoundException {
+        StringBuilder content = this.memoryFiles.get(this.saveFile.toPath());
+        if (content == null) {
+            throw new FileNotFoundException(this.saveFile + " (in memory)");
+        }
+        return content;
+    }
+
+    /**
+     * Reads the whole in-memory save file.
+     *
+     * @return Contents of the save file, encoded as UTF-8.
+     * @throws FileNotFoundException If the save file has not been created.
+     */
+    private byte[] readMemoryFile() throws FileNotFoundException {
+        StringBuilder content = this.getMemoryFile();
+        synchronized (content) {
+            return content.toString().getBytes(SAVE_FILE_CHARSET);
+        }
     }
 
     /**
@@ -58,7 +197,7 @@ public class TaskStorage {
     public String[] processTaskString(String taskString) throws BrockException {
         String[] taskComponents = taskString.split("\\. ", 2);
         if (taskComponents.length < 2) {
-            this.resetSaveFile("Invalid task entry - missing task number!");
+            throw new BrockException("Invalid task entry - missing task number!");
         }
         return taskComponents;
     }
@@ -70,50 +209,426 @@ public class TaskStorage {
      * @return Corresponding {@code Task} object.
      * @throws BrockException If task string is invalid.
      */
-    private Task convertToTaskObject(String taskString) throws BrockException {
-        String[] taskComponents = this.processTaskString(taskString);
+    Task convertToTaskObject(String taskString) throws BrockException {
+        String[] taskComponents = this.processTaskString(StorageUtility.removeChecksum(taskString));
 
         String taskDetails = taskComponents[1];
+        if (taskDetails.length() < 7) {
+            throw new BrockException("Invalid task entry - missing task type or status!");
+        }
         char taskType = taskDetails.charAt(1);
         char taskStatus = taskDetails.charAt(4);
+        if (taskStatus != 'X' && taskStatus != ' ') {
+            throw new BrockException("Invalid task entry - unrecognized task status!");
+        }
         // Remove the [<type>][<status>]
         // As we only want the task body
         String taskBody = taskDetails.substring(7);
+        return this.convertToTaskObject(taskType, taskBody, taskStatus == 'X');
+    }
 
-        TaskManager taskManager = TASK_MANAGERS.get(taskType);
+    /**
+     * Converts the body of a task, as in the save file, into a corresponding {@code Task} object.
+     *
+     * @param taskType Character representing task type (eg: {@code D}).
+     * @param taskBody Task description, followed by any extra info (eg: {@code return book (by: Oct 10 2024)}).
+     * @param isDone Status of the task.
+     * @return Corresponding {@code Task} object.
+     * @throws BrockException If the task type or body is invalid.
+     */
+    public Task convertToTaskObject(char taskType, String taskBody, boolean isDone) throws BrockException {
+        TaskManager taskManager = this.taskManagers.get(taskType);
         if (taskManager == null) {
-            this.resetSaveFile("Invalid task entry - unrecognized task type!");
-            return null;
+            throw new BrockException("Invalid task entry - unrecognized task type!");
+        }
+        return taskManager.convertToTaskObject(taskBody, isDone ? 'X' : ' ');
+    }
+
+    /**
+     * Converts all tasks in save file into corresponding {@code Task} objects.
+     *
+     * <p>
+     * Corrupted lines do not stop the load. They are moved to a quarantine file next to the save file,
+     * and every valid task is kept. The save file is then rewritten without them.
+     * If the save file cannot be read to the end (eg: a damaged compressed save file),
+     * the tasks read so far are kept, but the save file is not rewritten, and a copy of it is kept as well.
+     * Use {@code getCorruptionReport()} to find out which lines were affected.
+     * </p>
+     *
+     * <p>
+     * A compressed save file is decompressed as it is read, without holding all of it in memory.
+     * </p>
+     *
+     * @return An {@code ArrayList<Task>} to store all objects.
+     * @throws FileNotFoundException If unable to find save file.
+     */
+    public ArrayList<Task> loadTasksFromFile() throws FileNotFoundException {
+        long startNanos = System.nanoTime();
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        ArrayList<Task> tasks = new ArrayList<>();
+        StringBuilder quarantinedLines = new StringBuilder();
+        ArrayList<String> corruptions = new ArrayList<>();
+        long[] statusPositions = new long[16];
+        long contentLength = 0;
+        boolean isCompressed = this.isSaveFileCompressed();
+        boolean isReadComplete = true;
+        // Malformed bytes are replaced, so they show up as checksum mismatches instead of failing the load
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                this.openSaveFile(isCompressed), SAVE_FILE_CHARSET), READ_BUFFER_SIZE)) {
+            String taskString;
+            int lineNumber = 0;
+            while ((taskString = reader.readLine()) != null) {
+                lineNumber++;
+                long lineStart = contentLength;
+                contentLength += StorageUtility.getUtf8Length(taskString, 0, taskString.length()) + 1;
+                if (taskString.isBlank()) {
+                    continue;
+                }
+                try {
+                    tasks.add(this.convertToTaskObject(taskString));
+                    statusPositions = this.addStatusPosition(statusPositions, tasks.size() - 1, lineStart
+                            + StorageUtility.getUtf8Length(taskString, 0, StorageUtility.findStatusIndex(taskString)));
+                } catch (BrockException e) {
+                    corruptions.add("Line " + lineNumber + ": " + e.getMessage());
+                    quarantinedLines.append(lineNumber).append('\t').append(taskString).append('\n');
+                }
+            }
+        } catch (FileNotFoundException e) {
+            throw e;
+        } catch (IOException e) {
+            isReadComplete = false;
+            corruptions.add("Unable to read the rest of the save file: " + e.getMessage());
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setTaskCount(tasks.size());
+                event.setIsCorrupted(!corruptions.isEmpty());
+                event.commit();
+            }
+        }
+
+        // Lines ending in \r\n, or replaced bytes, make the positions unreliable
+        if (this.saveFileWriter != null && corruptions.isEmpty() && !isCompressed
+                && contentLength == this.saveFile.length()) {
+            this.saveFileWriter.setStatusPositions(statusPositions, tasks.size(), contentLength);
+        }
+        this.corruptionReport = corruptions.isEmpty()
+                ? null
+                : this.recoverSaveFile(tasks, quarantinedLines.toString(), corruptions, isReadComplete);
+        METRICS.recordSince("storage.load", startNanos);
+        METRICS.counter("storage.load.tasks").add(tasks.size());
+        METRICS.counter("storage.load.corrupted").add(corruptions.size());
+        return tasks;
+    }
+
+    /**
+     * Checks if the save file is compressed, from its first bytes.
+     *
+     * @return True if compressed, false if not, or if it cannot be read.
+     */
+    private boolean isSaveFileCompressed() {
+        if (this.memoryFiles != null) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(this.saveFile)) {
+            byte[] magic = in.readNBytes(2);
+            return SaveFileWriter.isGzipMagic(magic, magic.length);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Opens the save file for reading, decompressing it as it is read if it is compressed.
+     *
+     * @param isCompressed Whether the save file is compressed.
+     * @return Stream of the save file contents.
+     * @throws IOException If unable to open the save file.
+     */
+    private InputStream openSaveFile(boolean isCompressed) throws IOException {
+        InputStream in = this.memoryFiles == null
+                ? new FileInputStream(this.saveFile)
+                : new ByteArrayInputStream(this.readMemoryFile());
+        if (!isCompressed) {
+            return in;
         }
-        // CHECKSTYLE.OFF: Indentation
         try {
-            return taskManager.convertToTaskObject(taskBody, taskStatus);
-        } catch (BrockException e) {
-            // Enter this block if there are any save file corruptions
-            // Get the description of save file corruption and pass into the reset function
-            this.resetSaveFile(e.getMessage());
-            return null;
+            return new GZIPInputStream(in, READ_BUFFER_SIZE);
+        } catch (IOException e) {
+            in.close();
+            throw e;
         }
-        // CHECKSTYLE.ON: Indentation
     }
 
     /**
-     * Converts all tasks in save file into corresponding {@code Task} objects.
+     * Adds the byte position of the status icon of a loaded task, growing the array if needed.
+     *
+     * @param statusPositions Positions of the status icons so far.
+     * @param taskIndex Index of the loaded task.
+     * @param statusPosition Position of the status icon of the loaded task.
+     * @return Array holding the positions, which may be a new one.
+     */
+    private long[] addStatusPosition(long[] statusPositions, int taskIndex, long statusPosition) {
+        long[] result = taskIndex == statusPositions.length
+                ? Arrays.copyOf(statusPositions, statusPositions.length * 2)
+                : statusPositions;
+        result[taskIndex] = statusPosition;
+        return result;
+    }
+
+    /**
+     * Loads all tasks in save file, deferring the parsing of each task until it is first used.
+     *
+     * <p>
+     * The save file is read in one go, and only scanned for line boundaries, statuses and checksums.
+     * Lines with a matching checksum become {@code LazyTask} objects, each holding a copy of its own line,
+     * so that the read bytes can be dropped once the load is done.
+     * Lines without a checksum, from older save files, are parsed right away, as they have not been verified.
+     * Corrupted lines are handled as in {@code loadTasksFromFile()}.
+     * A compressed save file is decompressed in one go.
+     * </p>
      *
      * @return An {@code ArrayList<Task>} to store all objects.
-     * @throws BrockException If unable to find save file.
+     * @throws FileNotFoundException If unable to find save file.
      */
-    public ArrayList<Task> loadTasksFromFile() throws BrockException, FileNotFoundException {
+    public ArrayList<Task> loadTasksLazily() throws FileNotFoundException {
+        long startNanos = System.nanoTime();
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        byte[] bytes;
+        boolean isCompressed;
+        try {
+            bytes = this.memoryFiles == null
+                    ? Files.readAllBytes(this.saveFile.toPath())
+                    : this.readMemoryFile();
+            isCompressed = SaveFileWriter.isGzipMagic(bytes, bytes.length);
+            if (isCompressed) {
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes), READ_BUFFER_SIZE)) {
+                    bytes = in.readAllBytes();
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException(e.getMessage());
+        } catch (IOException e) {
+            // Let the eager load report what it can read
+            return this.loadTasksFromFile();
+        }
+
         ArrayList<Task> tasks = new ArrayList<>();
-        Scanner s = new Scanner(SAVE_FILE);
-        while (s.hasNext()) {
-            String taskString = s.nextLine();
-            Task task = this.convertToTaskObject(taskString);
-            tasks.add(task);
+        StringBuilder quarantinedLines = new StringBuilder();
+        ArrayList<String> corruptions = new ArrayList<>();
+        long[] statusPositions = new long[16];
+        int lineNumber = 0;
+        int lineStart = 0;
+        while (lineStart < bytes.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < bytes.length && bytes[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            lineNumber++;
+            int contentEnd = lineEnd > lineStart && bytes[lineEnd - 1] == '\r' ? lineEnd - 1 : lineEnd;
+            if (contentEnd > lineStart) {
+                try {
+                    tasks.add(this.scanTaskLine(bytes, lineStart, contentEnd));
+                    statusPositions = this.addStatusPosition(statusPositions, tasks.size() - 1,
+                            this.findStatusIndex(bytes, lineStart, contentEnd));
+                } catch (BrockException e) {
+                    String taskString = new String(bytes, lineStart, contentEnd - lineStart, SAVE_FILE_CHARSET);
+                    corruptions.add("Line " + lineNumber + ": " + e.getMessage());
+                    quarantinedLines.append(lineNumber).append('\t').append(taskString).append('\n');
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setTaskCount(tasks.size());
+            event.setIsCorrupted(!corruptions.isEmpty());
+            event.commit();
+        }
+        // An unterminated last line would be joined with the next task appended
+        if (this.saveFileWriter != null && corruptions.isEmpty() && !isCompressed
+                && (bytes.length == 0 || bytes[bytes.length - 1] == '\n')) {
+            this.saveFileWriter.setStatusPositions(statusPositions, tasks.size(), bytes.length);
         }
+        this.corruptionReport = corruptions.isEmpty()
+                ? null
+                : this.recoverSaveFile(tasks, quarantinedLines.toString(), corruptions, true);
+        METRICS.recordSince("storage.load", startNanos);
+        METRICS.counter("storage.load.tasks").add(tasks.size());
+        METRICS.counter("storage.load.corrupted").add(corruptions.size());
         return tasks;
     }
 
+    /**
+     * Checks a line of the save file without parsing it, creating a {@code LazyTask} if its checksum matches.
+     *
+     * @param bytes Contents of the save file.
+     * @param lineStart Index of the first byte of the line.
+     * @param lineEnd Index after the last byte of the line, excluding the newline.
+     * @return Lazy task, or a parsed task if the line has no checksum.
+     * @throws BrockException If the line is invalid.
+     */
+    private Task scanTaskLine(byte[] bytes, int lineStart, int lineEnd) throws BrockException {
+        int checksumStart = lineEnd - StorageUtility.CHECKSUM_LENGTH;
+        if (checksumStart - 1 < lineStart || bytes[checksumStart - 1] != StorageUtility.CHECKSUM_SEPARATOR) {
+            // Written before checksums were introduced, or with a malformed checksum, which fails to parse
+            return this.convertToTaskObject(new String(bytes, lineStart, lineEnd - lineStart, SAVE_FILE_CHARSET));
+        }
+
+        int statusIndex = this.findStatusIndex(bytes, lineStart, checksumStart - 1);
+        if (statusIndex < 0 || statusIndex + 3 > checksumStart - 1) {
+            throw new BrockException("Invalid task entry - missing task type or status!");
+        }
+        if (StorageUtility.computeChecksum(bytes, lineStart, checksumStart - 1, statusIndex)
+                != this.parseChecksum(bytes, checksumStart)) {
+            throw new BrockException("Invalid task entry - checksum does not match!");
+        }
+
+        byte taskStatus = bytes[statusIndex];
+        if (taskStatus != 'X' && taskStatus != ' ') {
+            throw new BrockException("Invalid task entry - unrecognized task status!");
+        }
+        if (!this.taskManagers.containsKey((char) bytes[statusIndex - 3])) {
+            throw new BrockException("Invalid task entry - unrecognized task type!");
+        }
+        return new LazyTask(this, Arrays.copyOfRange(bytes, lineStart, checksumStart - 1), taskStatus == 'X');
+    }
+
+    /**
+     * Finds the index of the status icon in a line of the save file, without decoding it.
+     *
+     * @param bytes Contents of the save file.
+     * @param lineStart Index of the first byte of the line.
+     * @param lineEnd Index after the last byte of the line.
+     * @return Index of the status icon, or -1 if the line has no task number.
+     */
+    private int findStatusIndex(byte[] bytes, int lineStart, int lineEnd) {
+        for (int i = lineStart; i + 1 < lineEnd; i++) {
+            if (bytes[i] == '.' && bytes[i + 1] == ' ') {
+                return i + StorageUtility.STATUS_OFFSET;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Parses a checksum written as 8 hexadecimal digits.
+     *
+     * @param bytes Contents of the save file.
+     * @param checksumStart Index of the first digit.
+     * @return Checksum value.
+     * @throws BrockException If any digit is not hexadecimal.
+     */
+    private long parseChecksum(byte[] bytes, int checksumStart) throws BrockException {
+        long checksum = 0;
+        for (int i = checksumStart; i < checksumStart + StorageUtility.CHECKSUM_LENGTH; i++) {
+            int digit = Character.digit(bytes[i], 16);
+            if (digit < 0) {
+                throw new BrockException("Invalid task entry - checksum does not match!");
+            }
+            checksum = (checksum << 4) | digit;
+        }
+        return checksum;
+    }
+
+    /**
+     * Moves corrupted lines to the quarantine file, and rewrites the save file with only the valid tasks.
+     * If the corrupted lines cannot be kept, the save file is left as is, so that nothing is lost.
+     *
+     * <p>
+     * If the save file was not read to the end, the lines after the error are unknown,
+     * so the save file is copied as a whole instead, and is not rewritten.
+     * </p>
+     *
+     * @param tasks Valid tasks that were loaded.
+     * @param quarantinedLines Corrupted lines, each prefixed by its line number.
+     * @param corruptions Description of each corruption.
+     * @param isReadComplete Whether the save file was read to the end.
+     * @return Report of the corruptions, and how they were handled.
+     */
+    private String recoverSaveFile(ArrayList<Task> tasks, String quarantinedLines, ArrayList<String> corruptions,
+            boolean isReadComplete) {
+        StringBuilder report = new StringBuilder("While reading from save file: \n");
+        int numReported = Math.min(corruptions.size(), MAX_REPORTED_CORRUPTIONS);
+        for (int i = 0; i < numReported; i++) {
+            report.append(corruptions.get(i)).append('\n');
+        }
+        if (corruptions.size() > numReported) {
+            report.append("... and ").append(corruptions.size() - numReported).append(" more\n");
+        }
+
+        if (!isReadComplete) {
+            return report.append(this.copyUnreadableSaveFile()).append("Save file was not rewritten. Kept ")
+                    .append(tasks.size()).append(" tasks read before the error!")
+                    .toString();
+        }
+
+        try {
+            if (this.memoryFiles == null) {
+                Files.writeString(this.quarantineFile, quarantinedLines, SAVE_FILE_CHARSET,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } else {
+                StringBuilder quarantine = this.memoryFiles.computeIfAbsent(this.quarantineFile,
+                        path -> new StringBuilder());
+                synchronized (quarantine) {
+                    quarantine.append(quarantinedLines);
+                }
+            }
+            this.writeToFile(new TaskList(tasks).listTasks(), false);
+            this.flush();
+        } catch (IOException | BrockException e) {
+            return report.append("Unable to set the corrupted entries aside: ").append(e.getMessage())
+                    .append("\nSave file was left as is. Kept ").append(tasks.size()).append(" valid tasks!")
+                    .toString();
+        }
+        return report.append("Kept ").append(tasks.size()).append(" valid tasks. Corrupted entries were moved to ")
+                .append(this.quarantineFile.getFileName()).append('!')
+                .toString();
+    }
+
+    /**
+     * Copies the whole save file, as is, next to it.
+     * So that the tasks after a read error are not lost if the save file is later overwritten.
+     *
+     * @return Line of the report, on where the copy was kept, or why it could not be made.
+     */
+    private String copyUnreadableSaveFile() {
+        try {
+            if (this.memoryFiles == null) {
+                Files.copy(this.saveFile.toPath(), this.unreadableCopyFile, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                StringBuilder content = this.getMemoryFile();
+                synchronized (content) {
+                    this.memoryFiles.put(this.unreadableCopyFile, new StringBuilder(content));
+                }
+            }
+        } catch (IOException e) {
+            return "Unable to copy the save file: " + e.getMessage() + "\n";
+        }
+        return "A copy of the whole save file was kept in " + this.unreadableCopyFile.getFileName() + ". ";
+    }
+
+    /**
+     * Gets the path of the save file.
+     *
+     * @return Path of the save file.
+     */
+    public Path getSaveFilePath() {
+        return this.saveFile.toPath();
+    }
+
+    /**
+     * Gets the report of corrupted lines found by the last load.
+     *
+     * @return Corruption report, or null if the save file was not corrupted.
+     */
+    public String getCorruptionReport() {
+        return this.corruptionReport;
+    }
+
     /**
      * Handles the directory creation.
      *
@@ -123,8 +638,11 @@ public class TaskStorage {
         StringBuilder dirResult = new StringBuilder();
 
         String dirStatus;
-        boolean isDirectoryMissing = SAVE_FILE.getParentFile().mkdirs();
-        if (!isDirectoryMissing) {
+        boolean isDirectoryMissing = this.memoryFiles == null
+                && this.saveFile.getAbsoluteFile().getParentFile().mkdirs();
+        if (this.memoryFiles != null) {
+            dirStatus = "Save file is kept in memory, no directories needed!";
+        } else if (!isDirectoryMissing) {
             dirStatus = "Parent directories already exists!";
         } else {
             dirStatus = "Parent directories successfully created!";
@@ -145,7 +663,9 @@ public class TaskStorage {
         StringBuilder fileResult = new StringBuilder();
 
         String fileStatus;
-        boolean isFileMissing = SAVE_FILE.createNewFile();
+        boolean isFileMissing = this.memoryFiles == null
+                ? this.saveFile.createNewFile()
+                : this.memoryFiles.putIfAbsent(this.saveFile.toPath(), new StringBuilder()) == null;
         if (!isFileMissing) {
             fileStatus = "Save file already exists!";
         } else {
@@ -174,15 +694,122 @@ public class TaskStorage {
     /**
      * Writes to the save file, to update it when there are new tasks or deleted tasks.
      *
+     * <p>
+     * Overwrites are crash-safe, the save file is replaced atomically by a fully written copy.
+     * They are group committed, so they may reach the disk shortly after this returns.
+     * Appends are buffered, and written out according to the flush policy.
+     * Call {@code flush()} to wait for both.
+     * Every line is written with a checksum, so that corruption can be pinned down to a line on load.
+     * </p>
+     *
      * @param writeContent The task to be written.
      * @param isAppendMode Option to append to existing content, or overwrite existing content.
-     * @throws BrockException If there are issues with writing to the file.
+     * @throws BrockException If there are issues with writing to the file,
+     *      including an earlier overwrite that failed in the background.
      */
     public void writeToFile(String writeContent, boolean isAppendMode) throws BrockException {
         try {
-            FileWriter fw = new FileWriter(FILE_PATH, isAppendMode);
-            fw.write(writeContent);
-            fw.close();
+            String sealedContent = StorageUtility.addChecksums(writeContent);
+            if (this.memoryFiles != null) {
+                this.writeToMemoryFile(sealedContent, isAppendMode);
+            } else if (isAppendMode) {
+                this.saveFileWriter.append(sealedContent);
+            } else {
+                this.saveFileWriter.rewrite(sealedContent);
+            }
+        } catch (IOException e) {
+            throw new BrockException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes to the in-memory save file, creating it if missing.
+     *
+     * @param sealedContent Content to be written, with checksums.
+     * @param isAppendMode Option to append to existing content, or overwrite existing content.
+     */
+    private void writeToMemoryFile(String sealedContent, boolean isAppendMode) {
+        StringBuilder content = this.memoryFiles.computeIfAbsent(this.saveFile.toPath(), path -> new StringBuilder());
+        synchronized (content) {
+            if (!isAppendMode) {
+                content.setLength(0);
+            }
+            content.append(sealedContent);
+        }
+    }
+
+    /**
+     * Updates the status of some tasks in the save file.
+     *
+     * <p>
+     * Only the status icon of each task is written, in place, as its position in the save file is known
+     * from loading and writing the save file. The checksum of a line leaves out the status icon, so it still matches.
+     * If the positions are not known, such as while an overwrite is pending or when in memory,
+     * the whole list is written instead.
+     * </p>
+     *
+     * @param tasks List of current {@code Task} objects, with the new statuses.
+     * @param taskIndices Indices of the updated tasks.
+     * @param isDone New status of the tasks.
+     * @throws BrockException If there are issues with writing to the file.
+     */
+    public void writeStatuses(TaskList tasks, int[] taskIndices, boolean isDone) throws BrockException {
+        try {
+            if (this.saveFileWriter != null
+                    && this.saveFileWriter.writeStatuses(taskIndices, isDone ? (byte) 'X' : (byte) ' ')) {
+                return;
+            }
+        } catch (IOException e) {
+            throw new BrockException(e.getMessage());
+        }
+        // Single overwrite, so a crash never leaves the save file truncated
+        this.writeToFile(tasks.listTasks(), false);
+    }
+
+    /**
+     * Marks the end of a command, writing out its appended tasks if the flush policy is per command.
+     *
+     * @throws BrockException If there are issues with writing to the file.
+     */
+    public void endCommand() throws BrockException {
+        if (this.saveFileWriter == null) {
+            return;
+        }
+        try {
+            this.saveFileWriter.endCommand();
+        } catch (IOException e) {
+            throw new BrockException(e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for buffered appends and pending overwrites of the save file to be written.
+     *
+     * @throws BrockException If there are issues with writing to the file.
+     */
+    public void flush() throws BrockException {
+        if (this.saveFileWriter == null) {
+            return;
+        }
+        try {
+            this.saveFileWriter.flush();
+        } catch (IOException e) {
+            throw new BrockException(e.getMessage());
+        }
+    }
+
+    /**
+     * Flushes the save file, and stops its background writer.
+     * To be called when the chatbot exits.
+     *
+     * @throws BrockException If there are issues with writing to the file.
+     */
+    public void close() throws BrockException {
+        if (this.saveFileWriter == null) {
+            return;
+        }
+        try {
+            this.saveFileWriter.close();
         } catch (IOException e) {
             throw new BrockException(e.getMessage());
         }
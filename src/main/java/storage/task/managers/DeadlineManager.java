@@ -1,8 +1,12 @@
 package storage.task.managers;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 import exceptions.BrockException;
 import task.Deadline;
 import task.Task;
+import utility.Pair;
 import utility.StorageUtility;
 
 /**
@@ -18,35 +22,30 @@ public class DeadlineManager extends TaskManager {
     }
 
     /**
-     * Validates the due dateTime of the deadline string.
+     * Parses the due dateTime of the deadline string.
      *
-     * @param dateTime dateTime string to be verified.
-     * @return The due date and due time, separated out, if valid.
+     * @param dateTime dateTime string to be parsed.
+     * @return The due date, and the due time (null if there is none).
      * @throws BrockException If dateTime is invalid.
      */
-    private String[] processDueDateTime(String dateTime) throws BrockException {
-
+    private Pair<LocalDate, LocalTime> processDueDateTime(String dateTime) throws BrockException {
         String[] dateTimeParts = dateTime.split(", ");
-
-        String dueDateString = dateTimeParts.length == 1
-                ? StorageUtility.parseDate(StorageUtility.removeCloseBracket(dateTimeParts[0]))
-                : StorageUtility.parseDate(dateTimeParts[0]);
-        String dueTimeString = dateTimeParts.length == 1
-                ? ""
-                : StorageUtility.removeCloseBracket(dateTimeParts[1])
-                .replace(":", "");
-
-        return new String[]{dueDateString, dueTimeString};
+        if (dateTimeParts.length == 1) {
+            return new Pair<>(StorageUtility.parseDate(StorageUtility.removeCloseBracket(dateTimeParts[0])), null);
+        }
+        return new Pair<>(StorageUtility.parseDate(dateTimeParts[0]),
+                StorageUtility.parseTime(StorageUtility.removeCloseBracket(dateTimeParts[1])));
     }
 
     /**
      * Creates a {@code Deadline} object corresponding to a deadline string.
+     * The due dateTime is trusted, as it was validated when the deadline was added,
+     * so deadlines that have passed since are still loaded.
      *
      * @param deadlineBody   String storing deadline description and due datetime.
      * @param deadlineStatus Character representing deadline status.
      * @return {@code Deadline} object created.
-     * @throws BrockException If date and time are invalid when constructing object.
-     *                        (They should already be validated)
+     * @throws BrockException If the deadline string is malformed.
      */
     @Override
     public Task convertToTaskObject(String deadlineBody, char deadlineStatus) throws BrockException {
@@ -54,23 +53,9 @@ public class DeadlineManager extends TaskManager {
 
         String description = parts[0];
         String dateTime = parts[1];
-        String[] dueValues = this.processDueDateTime(dateTime);
-
-        Task deadlineTask;
-        if (dueValues[1].isEmpty()) {
-            // Due time is empty
-            // Create deadline with no time
-            deadlineTask = new Deadline(description, dueValues[0]);
-        } else {
-            // Due time is not empty
-            // Create deadline with time
-            deadlineTask = new Deadline(description, dueValues[0], dueValues[1]);
-        }
+        Pair<LocalDate, LocalTime> dueValues = this.processDueDateTime(dateTime);
 
         assert deadlineStatus == 'X' | deadlineStatus == ' ' : "Invalid deadline status extracted.";
-        if (deadlineStatus == 'X') {
-            deadlineTask.markAsDone();
-        }
-        return deadlineTask;
+        return Deadline.restore(description, dueValues.getFirst(), dueValues.getSecond(), deadlineStatus == 'X');
     }
 }
@@ -1,8 +1,12 @@
 package storage.task.managers;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+
 import exceptions.BrockException;
 import task.Event;
 import task.Task;
+import utility.Pair;
 import utility.StorageUtility;
 
 /**
@@ -25,51 +29,51 @@ public class EventManager extends TaskManager {
     }
 
     /**
-     * Checks the start dateTime of the event string.
+     * Parses the start dateTime of the event string.
      *
-     * @param startDateTime Start dateTime to be checked.
-     * @return The start date and start time, separated out, if valid.
+     * @param startDateTime Start dateTime to be parsed.
+     * @return The start date, and the start time (null if there is none).
      * @throws BrockException If start dateTime is invalid.
      */
-    private String[] processStartDateTime(String startDateTime) throws BrockException {
+    private Pair<LocalDate, LocalTime> processStartDateTime(String startDateTime) throws BrockException {
         String[] startDateTimeParts = startDateTime.split(", ");
-        String startDateString = StorageUtility.parseDate(startDateTimeParts[0]);
-        String startTimeString = startDateTimeParts.length == 1
-                ? ""
-                : startDateTimeParts[1].replace(":", "");
+        LocalDate startDate = StorageUtility.parseDate(startDateTimeParts[0]);
+        LocalTime startTime = startDateTimeParts.length == 1
+                ? null
+                : StorageUtility.parseTime(startDateTimeParts[1]);
 
-        return new String[]{startDateString, startTimeString};
+        return new Pair<>(startDate, startTime);
     }
 
     /**
-     * Checks the end dateTime of the event string.
+     * Parses the end dateTime of the event string.
      *
-     * @param endDateTime End dateTime to be checked.
-     * @return The end date and end time, separated out, if valid.
+     * @param endDateTime End dateTime to be parsed.
+     * @return The end date, and the end time (null if there is none).
      * @throws BrockException If end dateTime is invalid.
      */
-    private String[] processEndDateTime(String endDateTime) throws BrockException {
+    private Pair<LocalDate, LocalTime> processEndDateTime(String endDateTime) throws BrockException {
+        if (!endDateTime.startsWith("to: ")) {
+            throw new BrockException("Invalid event entry - missing end date!");
+        }
         String[] endDateTimeParts = endDateTime.substring(4)
                 .split(", ");
-        String endDateString = endDateTimeParts.length == 1
-                ? StorageUtility.parseDate(StorageUtility.removeCloseBracket(endDateTimeParts[0]))
-                : StorageUtility.parseDate(endDateTimeParts[0]);
-        String endTimeString = endDateTimeParts.length == 1
-                ? ""
-                : StorageUtility.removeCloseBracket(endDateTimeParts[1])
-                .replace(":", "");
-
-        return new String[]{endDateString, endTimeString};
+        if (endDateTimeParts.length == 1) {
+            return new Pair<>(StorageUtility.parseDate(StorageUtility.removeCloseBracket(endDateTimeParts[0])), null);
+        }
+        return new Pair<>(StorageUtility.parseDate(endDateTimeParts[0]),
+                StorageUtility.parseTime(StorageUtility.removeCloseBracket(endDateTimeParts[1])));
     }
 
     /**
      * Creates an {@code Event} object corresponding to an event string.
+     * The dateTimes are trusted, as they were validated when the event was added,
+     * so events that have passed since are still loaded.
      *
      * @param eventBody   String storing event description, as well as start and end datetime.
      * @param eventStatus Character representing event status.
      * @return {@code Event} object created.
-     * @throws BrockException If date and time are invalid when constructing object.
-     *                        (They should already be validated)
+     * @throws BrockException If the event string is malformed.
      */
     @Override
     public Task convertToTaskObject(String eventBody, char eventStatus) throws BrockException {
@@ -82,25 +86,11 @@ public class EventManager extends TaskManager {
             throw new BrockException("Invalid event entry - missing start end date separator!");
         }
 
-        String[] startValues = this.processStartDateTime(dateTimeParts[0]);
-        String[] endValues = this.processEndDateTime(dateTimeParts[1]);
-
-        Task eventTask;
-        if (startValues[1].isEmpty()) {
-            // Start time is empty
-            // Create event with no time
-            eventTask = new Event(description, startValues[0], endValues[0]);
-        } else {
-            // Start time is not empty
-            // Create event with time
-            eventTask = new Event(description, startValues[0], startValues[1],
-                    endValues[0], endValues[1]);
-        }
+        Pair<LocalDate, LocalTime> startValues = this.processStartDateTime(dateTimeParts[0]);
+        Pair<LocalDate, LocalTime> endValues = this.processEndDateTime(dateTimeParts[1]);
 
         assert eventStatus == 'X' | eventStatus == ' ' : "Invalid event status extracted.";
-        if (eventStatus == 'X') {
-            eventTask.markAsDone();
-        }
-        return eventTask;
+        return Event.restore(description, startValues.getFirst(), startValues.getSecond(),
+                endValues.getFirst(), endValues.getSecond(), eventStatus == 'X');
     }
 }
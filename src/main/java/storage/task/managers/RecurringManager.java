@@ -0,0 +1,87 @@
+package storage.task.managers;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import exceptions.BrockException;
+import task.Recurrence;
+import task.RecurringTask;
+import task.Task;
+import utility.StorageUtility;
+
+/**
+ * Class to manage recurring task strings in task storage.
+ * A recurring task is saved as a single line holding its rule, however many times it repeats.
+ */
+public class RecurringManager extends TaskManager {
+    /**
+     * Checks the body of the recurring task string.
+     *
+     * @param recurringBody Recurring task body to be checked.
+     * @return The body, split into description and rule.
+     * @throws BrockException If the body is invalid.
+     */
+    private String[] processRecurringBody(String recurringBody) throws BrockException {
+        String[] parts = recurringBody.split("\\(every: ", 2);
+        if (parts.length < 2) {
+            throw new BrockException("Invalid recurring entry - missing repeat!");
+        }
+        return parts;
+    }
+
+    /**
+     * Gets the value of a labelled part of the rule.
+     *
+     * @param part Part of the rule (eg: {@code until: Dec 31 2024}).
+     * @param label Label expected (eg: {@code until: }).
+     * @return Value of the part, or null if the part has a different label.
+     */
+    private String getValue(String part, String label) {
+        return part.startsWith(label) ? part.substring(label.length()) : null;
+    }
+
+    /**
+     * Creates a {@code RecurringTask} object corresponding to a recurring task string.
+     * The start date is trusted, as it was validated when the task was added.
+     *
+     * @param recurringBody String storing recurring task description and rule.
+     * @param recurringStatus Character representing recurring task status.
+     * @return {@code RecurringTask} object created.
+     * @throws BrockException If the recurring task string is malformed.
+     */
+    @Override
+    public Task convertToTaskObject(String recurringBody, char recurringStatus) throws BrockException {
+        String[] parts = this.processRecurringBody(recurringBody);
+        String description = parts[0];
+        // Eg: 2 weeks on: MON WED | from: Oct 07 2024, 09:00 | until: Dec 31 2024
+        String[] ruleParts = StorageUtility.removeCloseBracket(parts[1]).split(" \\| ");
+        if (ruleParts.length < 2 || this.getValue(ruleParts[1], "from: ") == null) {
+            throw new BrockException("Invalid recurring entry - missing start date!");
+        }
+
+        String[] everyParts = ruleParts[0].split(" on: ", 2);
+        String[] startParts = this.getValue(ruleParts[1], "from: ").split(", ");
+        LocalDate startDate = StorageUtility.parseDate(startParts[0]);
+        LocalTime time = startParts.length == 1 ? null : StorageUtility.parseTime(startParts[1]);
+        LocalDate untilDate = null;
+        int count = 0;
+        for (int i = 2; i < ruleParts.length; i++) {
+            String until = this.getValue(ruleParts[i], "until: ");
+            String times = this.getValue(ruleParts[i], "times: ");
+            if (until != null) {
+                untilDate = StorageUtility.parseDate(until);
+            } else if (times != null && !times.isEmpty() && times.chars().allMatch(Character::isDigit)
+                    && times.length() <= 4) {
+                count = Integer.parseInt(times);
+            } else {
+                throw new BrockException("Invalid recurring entry - unrecognized end of repeat!");
+            }
+        }
+
+
+        assert recurringStatus == 'X' | recurringStatus == ' ' : "Invalid recurring status extracted.";
+        return new RecurringTask(description, Recurrence.restore(everyParts[0],
+                everyParts.length == 1 ? null : everyParts[1], startDate, time, untilDate, count),
+                recurringStatus == 'X');
+    }
+}
@@ -16,11 +16,7 @@ public class TodoManager extends TaskManager {
      */
     @Override
     public Task convertToTaskObject(String todoBody, char todoStatus) {
-        Task todoTask = new ToDo(todoBody);
         assert todoStatus == 'X' | todoStatus == ' ' : "Invalid todo status extracted.";
-        if (todoStatus == 'X') {
-            todoTask.markAsDone();
-        }
-        return todoTask;
+        return new ToDo(todoBody, todoStatus == 'X');
     }
 }
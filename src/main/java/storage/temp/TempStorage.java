@@ -1,15 +1,18 @@
 package storage.temp;
 
+import java.util.ArrayList;
+
 import task.Task;
 
 /**
  * A class that stores information required to undo the last valid command.
+ * Each chatbot has its own, so that one chatbot never undoes the commands of another.
  */
 public class TempStorage {
-    private static String previousValidCommand;
-    private static int lastCreatedTaskNum;
-    private static int lastToggledTaskNum;
-    private static Task lastDeletedTask;
+    private String previousValidCommand;
+    private int lastCreatedTaskNum;
+    private int[] lastToggledTaskNums;
+    private ArrayList<Task> lastDeletedTasks;
 
     /**
      * Retrieves the previous valid command executed.
@@ -17,7 +20,7 @@ public class TempStorage {
      * @return the previous valid command as a String.
      */
     public String getPreviousCommand() {
-        return TempStorage.previousValidCommand;
+        return this.previousValidCommand;
     }
 
     /**
@@ -26,7 +29,7 @@ public class TempStorage {
      * @param previousCommand the valid command to be set as the previous valid command.
      */
     public void setPreviousCommand(String previousCommand) {
-        TempStorage.previousValidCommand = previousCommand;
+        this.previousValidCommand = previousCommand;
     }
 
     /**
@@ -35,7 +38,7 @@ public class TempStorage {
      * @return the task number of the last created task as an integer.
      */
     public int getLastCreatedTaskNum() {
-        return TempStorage.lastCreatedTaskNum;
+        return this.lastCreatedTaskNum;
     }
 
     /**
@@ -44,42 +47,42 @@ public class TempStorage {
      * @param lastCreatedTaskNum the task number of the last created task.
      */
     public void setLastCreatedTaskNum(int lastCreatedTaskNum) {
-        TempStorage.lastCreatedTaskNum = lastCreatedTaskNum;
+        this.lastCreatedTaskNum = lastCreatedTaskNum;
     }
 
     /**
-     * Retrieves the task number of the last toggled task.
+     * Retrieves the task numbers of the last toggled tasks.
      *
-     * @return the task number of the last toggled task as an integer.
+     * @return the task numbers of the last toggled tasks, sorted in ascending order.
      */
-    public int getLastToggledTaskNum() {
-        return TempStorage.lastToggledTaskNum;
+    public int[] getLastToggledTaskNums() {
+        return this.lastToggledTaskNums;
     }
 
     /**
-     * Sets the task number of the last toggled task.
+     * Sets the task numbers of the last toggled tasks.
      *
-     * @param lastToggledTaskNum the task number of the last toggled task.
+     * @param lastToggledTaskNums the task numbers of the last toggled tasks, sorted in ascending order.
      */
-    public void setLastToggledTaskNum(int lastToggledTaskNum) {
-        TempStorage.lastToggledTaskNum = lastToggledTaskNum;
+    public void setLastToggledTaskNums(int[] lastToggledTaskNums) {
+        this.lastToggledTaskNums = lastToggledTaskNums;
     }
 
     /**
-     * Retrieves the last deleted task.
+     * Retrieves the last deleted tasks.
      *
-     * @return the last deleted task as a {@link Task}.
+     * @return the last deleted tasks, in their original order.
      */
-    public Task getLastDeletedTask() {
-        return TempStorage.lastDeletedTask;
+    public ArrayList<Task> getLastDeletedTasks() {
+        return this.lastDeletedTasks;
     }
 
     /**
-     * Sets the last deleted task.
+     * Sets the last deleted tasks.
      *
-     * @param lastDeletedTask the task to be set as the last deleted task.
+     * @param lastDeletedTasks the tasks to be set as the last deleted tasks.
      */
-    public void setLastDeletedTask(Task lastDeletedTask) {
-        TempStorage.lastDeletedTask = lastDeletedTask;
+    public void setLastDeletedTasks(ArrayList<Task> lastDeletedTasks) {
+        this.lastDeletedTasks = lastDeletedTasks;
     }
 }
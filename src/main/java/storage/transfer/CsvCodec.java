@@ -0,0 +1,135 @@
+package storage.transfer;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.Writer;
+
+import exceptions.BrockException;
+
+/**
+ * Class to encode and decode tasks as CSV, with a header row.
+ * Fields holding commas, quotes or newlines are quoted, with quotes doubled.
+ */
+class CsvCodec extends TaskCodec {
+    private final StringBuilder field = new StringBuilder();
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void writeHeader(Writer out) throws IOException {
+        out.write(String.join(",", FIELD_NAMES));
+        out.write('\n');
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void appendRecord(StringBuilder record, String[] fields) {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            this.appendField(record, fields[i]);
+        }
+        record.append('\n');
+    }
+
+    /**
+     * Appends a field, quoting it only if needed.
+     *
+     * @param record Builder to append to.
+     * @param value Value of the field.
+     */
+    private void appendField(StringBuilder record, String value) {
+        boolean isQuoted = false;
+        for (int i = 0; i < value.length() && !isQuoted; i++) {
+            char c = value.charAt(i);
+            isQuoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!isQuoted) {
+            record.append(value);
+            return;
+        }
+        record.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                record.append('"');
+            }
+            record.append(c);
+        }
+        record.append('"');
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * A quoted field may continue over several lines, which are read as needed.
+     * </p>
+     */
+    @Override
+    boolean readRecord(LineNumberReader in, String[] fields) throws IOException, BrockException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                return false;
+            }
+        } while (line.isBlank() || (in.getLineNumber() == 1 && line.startsWith(FIELD_NAMES[0] + ",")));
+
+        int numFields = 0;
+        int i = 0;
+        while (true) {
+            this.field.setLength(0);
+            if (i < line.length() && line.charAt(i) == '"') {
+                i++;
+                while (true) {
+                    if (i == line.length()) {
+                        String nextLine = in.readLine();
+                        if (nextLine == null) {
+                            throw new BrockException("Quoted field is not closed!");
+                        }
+                        this.field.append('\n');
+                        line = nextLine;
+                        i = 0;
+                        continue;
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        this.field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        this.field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != ',') {
+                    throw new BrockException("Unexpected text after a quoted field!");
+                }
+            } else {
+                int fieldEnd = line.indexOf(',', i);
+                fieldEnd = fieldEnd < 0 ? line.length() : fieldEnd;
+                this.field.append(line, i, fieldEnd);
+                i = fieldEnd;
+            }
+
+            if (numFields == fields.length) {
+                throw new BrockException("Expected " + fields.length + " fields, found more!");
+            }
+            fields[numFields++] = this.field.toString();
+            if (i == line.length()) {
+                break;
+            }
+            // Skip the comma
+            i++;
+        }
+        if (numFields < fields.length) {
+            throw new BrockException("Expected " + fields.length + " fields, found " + numFields + "!");
+        }
+        return true;
+    }
+}
@@ -0,0 +1,240 @@
+package storage.transfer;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.Writer;
+
+import exceptions.BrockException;
+import utility.JsonUtility;
+
+/**
+ * Class to encode and decode tasks as JSON Lines, one object per line.
+ * (Eg: {@code {"type":"D","isDone":false,"description":"return book","extra":"(by: Oct 10 2024)"}})
+ *
+ * <p>
+ * Only flat objects are decoded. Keys other than the fields of a task are skipped,
+ * as long as their values are strings, numbers, booleans or null.
+ * </p>
+ */
+class JsonLinesCodec extends TaskCodec {
+    private final StringBuilder value = new StringBuilder();
+    private String line;
+    private int position;
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * JSON Lines files have no header.
+     * </p>
+     */
+    @Override
+    void writeHeader(Writer out) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void appendRecord(StringBuilder record, String[] fields) {
+        record.append('{');
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                record.append(',');
+            }
+            JsonUtility.appendString(record, FIELD_NAMES[i]).append(':');
+            if (i == IS_DONE) {
+                record.append(fields[i]);
+            } else {
+                JsonUtility.appendString(record, fields[i]);
+            }
+        }
+        record.append("}\n");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean readRecord(LineNumberReader in, String[] fields) throws IOException, BrockException {
+        do {
+            this.line = in.readLine();
+            if (this.line == null) {
+                return false;
+            }
+        } while (this.line.isBlank());
+
+        fields[TYPE] = null;
+        fields[IS_DONE] = "false";
+        fields[DESCRIPTION] = null;
+        fields[EXTRA] = "";
+        this.position = 0;
+        this.expect('{');
+        if (this.peek() == '}') {
+            this.position++;
+        } else {
+            do {
+                String key = this.readString();
+                this.expect(':');
+                int fieldIndex = this.getFieldIndex(key);
+                String fieldValue = this.readValue();
+                if (fieldIndex >= 0 && fieldValue != null) {
+                    fields[fieldIndex] = fieldValue;
+                }
+            } while (this.accept(','));
+            this.expect('}');
+        }
+        if (this.peek() != 0) {
+            throw new BrockException("Invalid JSON - unexpected text after the object!");
+        }
+        if (fields[TYPE] == null || fields[DESCRIPTION] == null) {
+            throw new BrockException("Invalid JSON - type and description are required!");
+        }
+        return true;
+    }
+
+    /**
+     * Gets the field a key holds.
+     *
+     * @param key Key in the object.
+     * @return Index of the field, or -1 if the key is not a field of a task.
+     */
+    private int getFieldIndex(String key) {
+        for (int i = 0; i < FIELD_NAMES.length; i++) {
+            if (FIELD_NAMES[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Skips whitespace, then looks at the next character without consuming it.
+     *
+     * @return Next character, or 0 at the end of the line.
+     */
+    private char peek() {
+        while (this.position < this.line.length() && Character.isWhitespace(this.line.charAt(this.position))) {
+            this.position++;
+        }
+        return this.position < this.line.length() ? this.line.charAt(this.position) : 0;
+    }
+
+    /**
+     * Consumes the next character if it is the one expected.
+     *
+     * @param expected Character expected.
+     * @return True if consumed, false otherwise.
+     */
+    private boolean accept(char expected) {
+        if (this.peek() != expected) {
+            return false;
+        }
+        this.position++;
+        return true;
+    }
+
+    /**
+     * Consumes the next character, which must be the one expected.
+     *
+     * @param expected Character expected.
+     * @throws BrockException If the next character is a different one.
+     */
+    private void expect(char expected) throws BrockException {
+        if (!this.accept(expected)) {
+            throw new BrockException("Invalid JSON - expected " + expected + " at column " + (this.position + 1)
+                    + "!");
+        }
+    }
+
+    /**
+     * Reads a value, as a string.
+     *
+     * @return Decoded string, {@code true} or {@code false} for booleans, the digits of a number,
+     *      or null for null.
+     * @throws BrockException If the value is not a string, number, boolean or null.
+     */
+    private String readValue() throws BrockException {
+        char next = this.peek();
+        if (next == '"') {
+            return this.readString();
+        }
+        int valueStart = this.position;
+        while (this.position < this.line.length() && ",} \t".indexOf(this.line.charAt(this.position)) < 0) {
+            this.position++;
+        }
+        String literal = this.line.substring(valueStart, this.position);
+        // CHECKSTYLE.OFF: Indentation
+        return switch (literal) {
+            case "true", "false" -> literal;
+            case "null" -> null;
+            default -> {
+                if (literal.isEmpty() || !literal.matches("-?[0-9][0-9.eE+-]*")) {
+                    throw new BrockException("Invalid JSON - unsupported value at column " + (valueStart + 1)
+                            + "!");
+                }
+                yield literal;
+            }
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Reads a quoted string, decoding its escapes.
+     *
+     * @return Decoded string.
+     * @throws BrockException If the string is not closed, or has an invalid escape.
+     */
+    private String readString() throws BrockException {
+        this.expect('"');
+        this.value.setLength(0);
+        while (this.position < this.line.length()) {
+            char c = this.line.charAt(this.position++);
+            if (c == '"') {
+                return this.value.toString();
+            }
+            if (c != '\\') {
+                this.value.append(c);
+                continue;
+            }
+            if (this.position == this.line.length()) {
+                break;
+            }
+            char escaped = this.line.charAt(this.position++);
+            // CHECKSTYLE.OFF: Indentation
+            switch (escaped) {
+                case '"', '\\', '/' -> this.value.append(escaped);
+                case 'b' -> this.value.append('\b');
+                case 'f' -> this.value.append('\f');
+                case 'n' -> this.value.append('\n');
+                case 'r' -> this.value.append('\r');
+                case 't' -> this.value.append('\t');
+                case 'u' -> this.value.append(this.readHexChar());
+                default -> throw new BrockException("Invalid JSON - unknown escape \\" + escaped + "!");
+            }
+            // CHECKSTYLE.ON: Indentation
+        }
+        throw new BrockException("Invalid JSON - string is not closed!");
+    }
+
+    /**
+     * Reads the 4 hexadecimal digits of a {@code \\u} escape.
+     *
+     * @return Character escaped.
+     * @throws BrockException If there are not 4 hexadecimal digits.
+     */
+    private char readHexChar() throws BrockException {
+        if (this.position + 4 > this.line.length()) {
+            throw new BrockException("Invalid JSON - incomplete \\u escape!");
+        }
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(this.line.charAt(this.position++), 16);
+            if (digit < 0) {
+                throw new BrockException("Invalid JSON - incomplete \\u escape!");
+            }
+            code = (code << 4) | digit;
+        }
+        return (char) code;
+    }
+}
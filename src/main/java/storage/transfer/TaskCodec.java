@@ -0,0 +1,66 @@
+package storage.transfer;
+
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import exceptions.BrockException;
+
+/**
+ * Class to encode tasks as records of an export file, and decode them back.
+ * Each record holds the task type, status, description and extra info, in that order.
+ */
+abstract class TaskCodec {
+    static final int TYPE = 0;
+    static final int IS_DONE = 1;
+    static final int DESCRIPTION = 2;
+    static final int EXTRA = 3;
+    static final String[] FIELD_NAMES = {"type", "isDone", "description", "extra"};
+
+    /**
+     * Gets the codec for a file, based on its extension.
+     *
+     * @param file Export file.
+     * @return Codec for CSV ({@code .csv}) or JSON Lines ({@code .jsonl}) files.
+     * @throws BrockException If the extension is neither.
+     */
+    static TaskCodec forFile(Path file) throws BrockException {
+        String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (fileName.endsWith(".csv")) {
+            return new CsvCodec();
+        }
+        if (fileName.endsWith(".jsonl")) {
+            return new JsonLinesCodec();
+        }
+        throw new BrockException("Only .csv and .jsonl files are supported!");
+    }
+
+    /**
+     * Writes whatever comes before the first record.
+     *
+     * @param out Export file.
+     * @throws IOException If writing fails.
+     */
+    abstract void writeHeader(Writer out) throws IOException;
+
+    /**
+     * Encodes a record, ending with a newline.
+     *
+     * @param record Builder to append to, reused across records.
+     * @param fields Fields of the task, with its status as {@code true} or {@code false}.
+     */
+    abstract void appendRecord(StringBuilder record, String[] fields);
+
+    /**
+     * Decodes the next record, skipping blank lines and headers.
+     *
+     * @param in Export file, counting the lines read so far.
+     * @param fields Array to decode the fields into, reused across records.
+     * @return True if a record was decoded, or false at the end of the file.
+     * @throws IOException If reading fails.
+     * @throws BrockException If the record is malformed.
+     */
+    abstract boolean readRecord(LineNumberReader in, String[] fields) throws IOException, BrockException;
+}
@@ -0,0 +1,182 @@
+package storage.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.LineNumberReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import exceptions.BrockException;
+import metrics.MetricsRegistry;
+import storage.task.TaskStorage;
+import task.Task;
+import task.TaskList;
+
+/**
+ * Class to export tasks to, and import tasks from, CSV and JSON Lines files.
+ *
+ * <p>
+ * Both directions stream the file through a buffer, one record at a time,
+ * reusing the same builder and field array for every record.
+ * The description is exported without its trailing space, and the extra info as shown in the task list
+ * (eg: {@code (by: Oct 10 2024, 18:00)}), so that imported tasks are parsed the same way as the save file.
+ * </p>
+ */
+public class TaskTransfer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SAVE_BATCH_SIZE = 4096;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+
+    private final TaskStorage taskStorage;
+
+    /**
+     * Stores the save file that imported tasks are added to.
+     *
+     * @param taskStorage Instance that interfaces with save file.
+     */
+    public TaskTransfer(TaskStorage taskStorage) {
+        this.taskStorage = taskStorage;
+    }
+
+    /**
+     * Writes every task to a file, replacing it if it exists.
+     *
+     * @param tasks List of current {@code Task} objects.
+     * @param file CSV or JSON Lines file, picked by its extension.
+     * @return Number of tasks exported.
+     * @throws BrockException If the file type is not supported, or writing fails.
+     */
+    public int exportTasks(TaskList tasks, Path file) throws BrockException {
+        long startNanos = System.nanoTime();
+        TaskCodec codec = TaskCodec.forFile(file);
+        // Read from a single snapshot, so that later commands do not change the export halfway
+        TaskList snapshot = tasks.snapshot();
+        StringBuilder record = new StringBuilder();
+        String[] fields = new String[TaskCodec.FIELD_NAMES.length];
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(file),
+                StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            codec.writeHeader(out);
+            for (int i = 0; i < snapshot.numTasks(); i++) {
+                Task task = snapshot.getTask(i);
+                fields[TaskCodec.TYPE] = task.getTaskType();
+                fields[TaskCodec.IS_DONE] = task.getStatusIcon() == 'X' ? "true" : "false";
+                fields[TaskCodec.DESCRIPTION] = task.getDescription().stripTrailing();
+                fields[TaskCodec.EXTRA] = task.getExtraInfo();
+                record.setLength(0);
+                codec.appendRecord(record, fields);
+                out.append(record);
+            }
+        } catch (IOException e) {
+            throw new BrockException("Unable to export tasks: " + e.getMessage());
+        }
+        METRICS.recordSince("transfer.export", startNanos);
+        return snapshot.numTasks();
+    }
+
+    /**
+     * Reads every task from a file, then adds them to the list and the save file in one batch.
+     * If any record is invalid, nothing is added.
+     *
+     * @param tasks List of current {@code Task} objects.
+     * @param file CSV or JSON Lines file, picked by its extension.
+     * @return Number of tasks imported.
+     * @throws BrockException If the file type is not supported, reading fails, or a record is invalid.
+     */
+    public int importTasks(TaskList tasks, Path file) throws BrockException {
+        long startNanos = System.nanoTime();
+        ArrayList<Task> importedTasks = this.readTasks(file);
+        int firstTaskNum = tasks.numTasks() + 1;
+        tasks.addAllToList(importedTasks);
+        this.appendToSaveFile(tasks, importedTasks, firstTaskNum);
+        METRICS.recordSince("transfer.import", startNanos);
+        return importedTasks.size();
+    }
+
+    /**
+     * Reads every task from a file, without adding them anywhere.
+     *
+     * @param file CSV or JSON Lines file, picked by its extension.
+     * @return Tasks read, in order.
+     * @throws BrockException If the file type is not supported, reading fails, or a record is invalid.
+     */
+    ArrayList<Task> readTasks(Path file) throws BrockException {
+        TaskCodec codec = TaskCodec.forFile(file);
+        ArrayList<Task> importedTasks = new ArrayList<>();
+        String[] fields = new String[TaskCodec.FIELD_NAMES.length];
+        try (LineNumberReader in = new LineNumberReader(new InputStreamReader(Files.newInputStream(file),
+                StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            while (true) {
+                try {
+                    if (!codec.readRecord(in, fields)) {
+                        break;
+                    }
+                    importedTasks.add(this.convertToTaskObject(fields));
+                } catch (BrockException e) {
+                    throw new BrockException("Line " + in.getLineNumber() + " of " + file.getFileName() + ": "
+                            + e.getMessage());
+                }
+            }
+        } catch (NoSuchFileException e) {
+            throw new BrockException("Unable to find " + file + "!");
+        } catch (IOException e) {
+            throw new BrockException("Unable to import tasks: " + e.getMessage());
+        }
+        return importedTasks;
+    }
+
+    /**
+     * Converts the fields of a record into a task, the same way as a line of the save file.
+     *
+     * @param fields Fields of the record.
+     * @return Corresponding {@code Task} object.
+     * @throws BrockException If any field is invalid.
+     */
+    private Task convertToTaskObject(String[] fields) throws BrockException {
+        String type = fields[TaskCodec.TYPE];
+        if (type.length() != 1) {
+            throw new BrockException("Invalid task entry - unrecognized task type!");
+        }
+        String isDone = fields[TaskCodec.IS_DONE];
+        if (!isDone.equalsIgnoreCase("true") && !isDone.equalsIgnoreCase("false")) {
+            throw new BrockException("Invalid task entry - status must be true or false!");
+        }
+        String description = fields[TaskCodec.DESCRIPTION];
+        if (description.isBlank()) {
+            throw new BrockException("Description is missing!");
+        }
+        String taskBody = description.strip() + ' ' + fields[TaskCodec.EXTRA];
+        // Each task takes up exactly one line of the save file
+        if (taskBody.indexOf('\n') >= 0 || taskBody.indexOf('\r') >= 0) {
+            throw new BrockException("Invalid task entry - tasks cannot span several lines!");
+        }
+        return this.taskStorage.convertToTaskObject(type.charAt(0), taskBody, isDone.equalsIgnoreCase("true"));
+    }
+
+    /**
+     * Appends the imported tasks to the save file, a batch of lines at a time.
+     * The lines are buffered, and written out when the command ends.
+     *
+     * @param tasks List of current {@code Task} objects.
+     * @param importedTasks Imported tasks, already added to the list.
+     * @param firstTaskNum Task number of the first imported task.
+     * @throws BrockException If writing to file fails.
+     */
+    private void appendToSaveFile(TaskList tasks, ArrayList<Task> importedTasks, int firstTaskNum)
+            throws BrockException {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < importedTasks.size(); i++) {
+            lines.append(firstTaskNum + i).append(". ").append(tasks.getTaskDetails(importedTasks.get(i)))
+                    .append('\n');
+            if ((i + 1) % SAVE_BATCH_SIZE == 0 || i == importedTasks.size() - 1) {
+                this.taskStorage.writeToFile(lines.toString(), true);
+                lines.setLength(0);
+            }
+        }
+    }
+}
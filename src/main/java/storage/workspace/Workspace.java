@@ -0,0 +1,53 @@
+package storage.workspace;
+
+import storage.task.TaskStorage;
+import task.TaskList;
+
+/**
+ * Class that represents a named task list, together with the save file it is kept in.
+ */
+public class Workspace {
+    private final String name;
+    private final TaskStorage taskStorage;
+    private final TaskList tasks;
+
+    /**
+     * Stores a loaded workspace.
+     *
+     * @param name Name of the workspace.
+     * @param taskStorage Instance that interfaces with the save file of the workspace.
+     * @param tasks Tasks loaded from the save file.
+     */
+    public Workspace(String name, TaskStorage taskStorage, TaskList tasks) {
+        this.name = name;
+        this.taskStorage = taskStorage;
+        this.tasks = tasks;
+    }
+
+    /**
+     * Gets the name of the workspace.
+     *
+     * @return Name of the workspace.
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the instance that interfaces with the save file of the workspace.
+     *
+     * @return {@code TaskStorage} of the workspace.
+     */
+    public TaskStorage getTaskStorage() {
+        return this.taskStorage;
+    }
+
+    /**
+     * Gets the tasks of the workspace.
+     *
+     * @return {@code TaskList} of the workspace.
+     */
+    public TaskList getTasks() {
+        return this.tasks;
+    }
+}
@@ -0,0 +1,230 @@
+package storage.workspace;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import exceptions.BrockException;
+
+/**
+ * Class to keep track of the named workspaces, and which of them is current.
+ *
+ * <p>
+ * Workspaces are loaded on the first switch to them, and stay loaded while they fit in a memory budget.
+ * Once the estimated heap of the loaded workspaces goes over the budget, {@link #evictOverBudget()} writes out
+ * and drops the least recently used ones (never the current one), to be loaded again on the next switch.
+ * The default workspace is kept in the default save file, and every other workspace in
+ * {@code workspaces/<name>.txt} next to it.
+ * </p>
+ *
+ * <p>
+ * To be used by a single writer at a time, except for {@link #getCurrent()}, which may be read from any thread.
+ * </p>
+ */
+public class WorkspaceManager {
+    public static final String DEFAULT_NAME = "default";
+    private static final String SAVE_FILE_EXTENSION = ".txt";
+    private static final int MAX_NAME_LENGTH = 32;
+
+    private final Path defaultSaveFilePath;
+    private final Path workspaceDirectory;
+    private final long memoryBudgetBytes;
+    private final Loader loader;
+    // In access order, so that the least recently used workspace comes first
+    private final LinkedHashMap<String, Workspace> loadedWorkspaces = new LinkedHashMap<>(16, 0.75f, true);
+    private volatile Workspace current;
+
+    /**
+     * Loads the tasks of a workspace from its save file.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Creates the save file if missing, then loads its tasks.
+         *
+         * @param name Name of the workspace.
+         * @param saveFilePath Path of its save file.
+         * @return Loaded workspace.
+         * @throws BrockException If the save file cannot be created or read.
+         */
+        Workspace load(String name, Path saveFilePath) throws BrockException;
+    }
+
+    /**
+     * Stores where the save files are kept, and how workspaces are loaded.
+     *
+     * @param defaultSaveFilePath Path of the save file of the default workspace.
+     * @param memoryBudgetBytes Estimated heap that loaded workspaces may take, before some are dropped.
+     * @param loader Loads workspaces that are not loaded yet.
+     */
+    public WorkspaceManager(Path defaultSaveFilePath, long memoryBudgetBytes, Loader loader) {
+        this.defaultSaveFilePath = defaultSaveFilePath;
+        this.workspaceDirectory = defaultSaveFilePath.resolveSibling("workspaces");
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.loader = loader;
+    }
+
+    /**
+     * Checks a workspace name, ignoring its case.
+     *
+     * @param name Name given by the user.
+     * @return Name in lower case.
+     * @throws BrockException If the name is empty, too long, or has characters other than letters,
+     *      digits, {@code -} and {@code _}.
+     */
+    private static String normalizeName(String name) throws BrockException {
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || !name.matches("[A-Za-z0-9_-]+")) {
+            throw new BrockException("Workspace name must be 1 to " + MAX_NAME_LENGTH
+                    + " letters, digits, - or _ (eg: work)!");
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the path of the save file of a workspace.
+     *
+     * @param name Name of the workspace, in lower case.
+     * @return Path of its save file.
+     */
+    private Path getSaveFilePath(String name) {
+        return name.equals(DEFAULT_NAME)
+                ? this.defaultSaveFilePath
+                : this.workspaceDirectory.resolve(name + SAVE_FILE_EXTENSION);
+    }
+
+    /**
+     * Adds a workspace that is already loaded, and makes it the current one.
+     *
+     * @param workspace Loaded workspace.
+     */
+    public void open(Workspace workspace) {
+        this.loadedWorkspaces.put(workspace.getName(), workspace);
+        this.current = workspace;
+    }
+
+    /**
+     * Gets the current workspace.
+     *
+     * @return Current workspace, or null if none has been loaded yet.
+     */
+    public Workspace getCurrent() {
+        return this.current;
+    }
+
+    /**
+     * Checks if a workspace is loaded.
+     *
+     * @param name Name of the workspace.
+     * @return True if loaded, false if it would be loaded on the next switch to it.
+     */
+    public boolean isLoaded(String name) {
+        return this.loadedWorkspaces.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Makes a workspace the current one, loading it first if needed.
+     * A workspace that does not exist yet is created, with no tasks.
+     * Workspaces over the budget are not dropped, so {@link #evictOverBudget()} is to be called after.
+     *
+     * @param name Name of the workspace.
+     * @return The workspace switched to.
+     * @throws BrockException If the name is invalid, or the workspace cannot be loaded,
+     *      in which case the current workspace is unchanged.
+     */
+    public Workspace switchTo(String name) throws BrockException {
+        String normalizedName = WorkspaceManager.normalizeName(name);
+        Workspace workspace = this.loadedWorkspaces.get(normalizedName);
+        if (workspace == null) {
+            workspace = this.loader.load(normalizedName, this.getSaveFilePath(normalizedName));
+            this.loadedWorkspaces.put(normalizedName, workspace);
+        }
+        this.current = workspace;
+        return workspace;
+    }
+
+    /**
+     * Estimates the heap taken by the tasks of every loaded workspace.
+     *
+     * @return Estimated size in bytes.
+     */
+    public long estimateHeapBytes() {
+        long totalBytes = 0;
+        for (Workspace workspace : this.loadedWorkspaces.values()) {
+            totalBytes += workspace.getTasks().estimateHeapBytes();
+        }
+        return totalBytes;
+    }
+
+    /**
+     * Drops the least recently used workspaces, other than the current one,
+     * until the loaded workspaces fit in the memory budget.
+     * Each one is written out before it is dropped.
+     *
+     * @throws BrockException If a workspace cannot be written out, in which case it stays loaded.
+     */
+    public void evictOverBudget() throws BrockException {
+        long totalBytes = this.estimateHeapBytes();
+        Iterator<Workspace> leastRecentlyUsed = this.loadedWorkspaces.values().iterator();
+        while (totalBytes > this.memoryBudgetBytes && leastRecentlyUsed.hasNext()) {
+            Workspace workspace = leastRecentlyUsed.next();
+            if (workspace == this.current) {
+                continue;
+            }
+            long workspaceBytes = workspace.getTasks().estimateHeapBytes();
+            workspace.getTaskStorage().close();
+            leastRecentlyUsed.remove();
+            totalBytes -= workspaceBytes;
+        }
+    }
+
+    /**
+     * Lists the names of every workspace, loaded or not.
+     *
+     * @return Names of the workspaces, with the default workspace first and the rest in alphabetical order.
+     * @throws BrockException If the workspace directory cannot be read.
+     */
+    public ArrayList<String> listNames() throws BrockException {
+        TreeSet<String> names = new TreeSet<>(this.loadedWorkspaces.keySet());
+        if (Files.isDirectory(this.workspaceDirectory)) {
+            try (Stream<Path> files = Files.list(this.workspaceDirectory)) {
+                files.map(file -> file.getFileName().toString())
+                        .filter(fileName -> fileName.endsWith(SAVE_FILE_EXTENSION))
+                        .forEach(fileName -> names.add(fileName.substring(0,
+                                fileName.length() - SAVE_FILE_EXTENSION.length())));
+            } catch (IOException e) {
+                throw new BrockException("Unable to list workspaces: " + e.getMessage());
+            }
+        }
+        names.remove(DEFAULT_NAME);
+        ArrayList<String> sortedNames = new ArrayList<>();
+        sortedNames.add(DEFAULT_NAME);
+        sortedNames.addAll(names);
+        return sortedNames;
+    }
+
+    /**
+     * Writes out every loaded workspace, and stops their background writers.
+     * To be called when the chatbot exits.
+     *
+     * @throws BrockException If any workspace cannot be written out. The others are still closed.
+     */
+    public void close() throws BrockException {
+        BrockException firstError = null;
+        for (Workspace workspace : this.loadedWorkspaces.values()) {
+            try {
+                workspace.getTaskStorage().close();
+            } catch (BrockException e) {
+                firstError = firstError == null ? e : firstError;
+            }
+        }
+        if (firstError != null) {
+            throw firstError;
+        }
+    }
+}
@@ -0,0 +1,662 @@
+package task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Class to store tasks as primitive columns, instead of one object graph per task.
+ *
+ * <p>
+ * Each task takes a type byte, a done bit, four ints for its dates and times, an int for the end of its
+ * description, and the description encoded as UTF-8 in a shared byte arena. That is roughly a third of the heap
+ * of a {@code Deadline} or {@code Event} object with its {@code String}, {@code LocalDate} and {@code LocalTime}.
+ * A recurring task keeps its start date, time and last occurrence in the date columns,
+ * and the rest of its rule packed into the last int.
+ * The last occurrence is kept so that it is not worked out again, by stepping through a counted rule, on every read.
+ * Tasks are read through flyweight views, created on demand.
+ * </p>
+ *
+ * <p>
+ * Follows the same sharing rules as the {@code TaskList} snapshots it backs. A store is never changed once
+ * published, except for slots at or beyond its size, which appends fill in place before publishing a new store
+ * over the same arrays. Every other write builds new arrays (or a new done {@code BitSet}).
+ * </p>
+ */
+final class ColumnarTaskStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_TIME = -1;
+    private static final int NO_DATE = Integer.MIN_VALUE;
+    private static final byte TODO = 0;
+    private static final byte DEADLINE = 1;
+    private static final byte EVENT = 2;
+    private static final byte RECURRING = 3;
+
+    private final byte[] types;
+    private final BitSet done;
+    private final int[] startDays;
+    private final int[] startSeconds;
+    private final int[] endDays;
+    private final int[] endSeconds;
+    // Description of task i spans from descriptionEnds[i - 1] (or 0) to descriptionEnds[i] in the arena
+    private final int[] descriptionEnds;
+    private final byte[] arena;
+    private final int size;
+
+    /**
+     * Stores the columns of the tasks.
+     */
+    private ColumnarTaskStore(byte[] types, BitSet done, int[] startDays, int[] startSeconds, int[] endDays,
+            int[] endSeconds, int[] descriptionEnds, byte[] arena, int size) {
+        this.types = types;
+        this.done = done;
+        this.startDays = startDays;
+        this.startSeconds = startSeconds;
+        this.endDays = endDays;
+        this.endSeconds = endSeconds;
+        this.descriptionEnds = descriptionEnds;
+        this.arena = arena;
+        this.size = size;
+    }
+
+    /**
+     * Gets an empty store.
+     *
+     * @return Empty store.
+     */
+    static ColumnarTaskStore empty() {
+        return ColumnarTaskStore.empty(INITIAL_CAPACITY, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an empty store with room for some tasks.
+     *
+     * @param capacity Number of tasks to make room for.
+     * @param arenaCapacity Number of description bytes to make room for.
+     * @return Empty store.
+     */
+    private static ColumnarTaskStore empty(int capacity, int arenaCapacity) {
+        return new ColumnarTaskStore(new byte[capacity], new BitSet(), new int[capacity], new int[capacity],
+                new int[capacity], new int[capacity], new int[capacity], new byte[arenaCapacity], 0);
+    }
+
+    /**
+     * Checks if a task can be stored in columns.
+     * Other subclasses of {@code Task} have fields the columns cannot hold.
+     *
+     * @param task Task to be stored.
+     * @return True if a {@code ToDo}, {@code Deadline}, {@code Event}, {@code RecurringTask},
+     *      or a view of a store.
+     */
+    static boolean supports(Task task) {
+        return task instanceof View || task instanceof ToDo || task instanceof Deadline || task instanceof Event
+                || task instanceof RecurringTask;
+    }
+
+    /**
+     * Creates a store holding the given tasks.
+     *
+     * @param tasks Tasks to be stored, each supported as checked by {@code supports(Task)}.
+     * @return Store holding the tasks.
+     */
+    static ColumnarTaskStore of(List<Task> tasks) {
+        ColumnarTaskStore store = ColumnarTaskStore.empty(Math.max(INITIAL_CAPACITY, tasks.size()),
+                INITIAL_CAPACITY);
+        // Not published yet, so the columns and done bits can be filled in place
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            byte[] description = ColumnarTaskStore.encode(task);
+            store = store.withRoomFor(i, ColumnarTaskStore.encodedLength(task, description));
+            store.writeTask(i, task, description);
+            store.done.set(i, task.getStatusIcon() == 'X');
+        }
+        // Drop the slack left by growing the arena, as bulk loads are not usually followed by many appends
+        byte[] arena = Arrays.copyOf(store.arena, store.descriptionStart(tasks.size()));
+        return new ColumnarTaskStore(store.types, store.done, store.startDays, store.startSeconds, store.endDays,
+                store.endSeconds, store.descriptionEnds, arena, tasks.size());
+    }
+
+    /**
+     * Counts the tasks in the store.
+     *
+     * @return Number of tasks.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Estimates the heap taken by the columns, including slots not yet filled.
+     *
+     * @return Estimated size in bytes.
+     */
+    long estimateHeapBytes() {
+        // A type byte and five int columns per slot
+        return (long) this.types.length * (1 + 5 * Integer.BYTES) + this.arena.length + this.done.size() / 8;
+    }
+
+    /**
+     * Checks if a task is completed.
+     *
+     * @param taskIndex Index of the task.
+     * @return True if completed, false otherwise.
+     */
+    boolean isDone(int taskIndex) {
+        return this.done.get(taskIndex);
+    }
+
+    /**
+     * Gets a view of a task.
+     * The view stays valid, and unchanged, after later writes to the list.
+     *
+     * @param taskIndex Index of the task.
+     * @return Flyweight view of the task.
+     */
+    Task get(int taskIndex) {
+        assert taskIndex < this.size : "Invalid task index supplied for task to be viewed.";
+        return new View(this, taskIndex);
+    }
+
+    /**
+     * Creates a store with a task appended, filling spare capacity in place when there is some.
+     * Must only be called on the latest store of a list.
+     *
+     * @param task Task to be appended, supported as checked by {@code supports(Task)}.
+     * @return New store.
+     */
+    ColumnarTaskStore withAppended(Task task) {
+        byte[] description = ColumnarTaskStore.encode(task);
+        ColumnarTaskStore target = this.withRoomFor(this.size, ColumnarTaskStore.encodedLength(task, description));
+        target.writeTask(this.size, task, description);
+        return target.published(task.getStatusIcon() == 'X');
+    }
+
+    /**
+     * Creates a store with several tasks appended, filling spare capacity in place when there is some.
+     * The done bits are copied once for the whole batch, instead of once per completed task.
+     * Must only be called on the latest store of a list.
+     *
+     * @param tasks Tasks to be appended, in order, each supported as checked by {@code supports(Task)}.
+     * @return New store.
+     */
+    ColumnarTaskStore withAppended(List<Task> tasks) {
+        ColumnarTaskStore target = this;
+        BitSet newDone = (BitSet) this.done.clone();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            byte[] description = ColumnarTaskStore.encode(task);
+            target = target.withRoomFor(this.size + i, ColumnarTaskStore.encodedLength(task, description));
+            target.writeTask(this.size + i, task, description);
+            newDone.set(this.size + i, task.getStatusIcon() == 'X');
+        }
+        return new ColumnarTaskStore(target.types, newDone, target.startDays, target.startSeconds, target.endDays,
+                target.endSeconds, target.descriptionEnds, target.arena, this.size + tasks.size());
+    }
+
+    /**
+     * Encodes the description of a task for the arena.
+     *
+     * @param task Task to be stored.
+     * @return Description as UTF-8, or null for a view, whose bytes are copied from its store instead.
+     */
+    private static byte[] encode(Task task) {
+        return task instanceof View ? null : task.getDescription().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of arena bytes a task needs.
+     *
+     * @param task Task to be stored.
+     * @param description Description of the task, as returned by {@code encode}.
+     * @return Length of the encoded description.
+     */
+    private static int encodedLength(Task task, byte[] description) {
+        if (task instanceof View view) {
+            return view.store.descriptionEnds[view.taskIndex] - view.store.descriptionStart(view.taskIndex);
+        }
+        return description.length;
+    }
+
+    /**
+     * Writes every column of a task but its done bit into a slot.
+     * The slot must not be visible to any published store, and every slot before it must be filled.
+     *
+     * @param index Slot to write to.
+     * @param task Task to be written, supported as checked by {@code supports(Task)}.
+     * @param description Description of the task, as returned by {@code encode}.
+     * @throws IllegalArgumentException If the task is not supported, which callers check beforehand.
+     */
+    private void writeTask(int index, Task task, byte[] description) {
+        if (task instanceof View view) {
+            // Copy the columns straight across, eg: when undoing a delete
+            this.copyTask(index, view.store, view.taskIndex);
+            return;
+        }
+
+        byte type;
+        LocalDate startDate = null;
+        LocalTime startTime = LocalTime.MAX;
+        LocalDate endDate = null;
+        LocalTime endTime = LocalTime.MAX;
+        int packedRule = 0;
+        if (task instanceof Deadline deadline) {
+            type = DEADLINE;
+            startDate = deadline.getDueDate();
+            startTime = deadline.getDueTime();
+        } else if (task instanceof Event event) {
+            type = EVENT;
+            startDate = event.getStartDate();
+            startTime = event.getStartTime();
+            endDate = event.getEndDate();
+            endTime = event.getEndTime();
+        } else if (task instanceof RecurringTask recurringTask) {
+            type = RECURRING;
+            Recurrence recurrence = recurringTask.getRecurrence();
+            startDate = recurrence.getStartDate();
+            startTime = recurrence.getTime();
+            endDate = recurrence.getLastDate();
+            packedRule = recurrence.pack();
+        } else if (task instanceof ToDo) {
+            type = TODO;
+        } else {
+            throw new IllegalArgumentException("Unsupported task for columnar storage: " + task.getClass());
+        }
+
+        this.types[index] = type;
+        this.startDays[index] = startDate == null ? 0 : (int) startDate.toEpochDay();
+        this.startSeconds[index] = ColumnarTaskStore.toSeconds(startTime);
+        this.endDays[index] = endDate == null ? NO_DATE : (int) endDate.toEpochDay();
+        this.endSeconds[index] = type == RECURRING ? packedRule : ColumnarTaskStore.toSeconds(endTime);
+        int descriptionStart = this.descriptionStart(index);
+        System.arraycopy(description, 0, this.arena, descriptionStart, description.length);
+        this.descriptionEnds[index] = descriptionStart + description.length;
+    }
+
+    /**
+     * Copies every column of a task but its done bit from another store into a slot.
+     *
+     * @param index Slot to write to.
+     * @param source Store holding the task.
+     * @param sourceIndex Index of the task in that store.
+     */
+    private void copyTask(int index, ColumnarTaskStore source, int sourceIndex) {
+        int sourceStart = source.descriptionStart(sourceIndex);
+        int length = source.descriptionEnds[sourceIndex] - sourceStart;
+        this.types[index] = source.types[sourceIndex];
+        this.startDays[index] = source.startDays[sourceIndex];
+        this.startSeconds[index] = source.startSeconds[sourceIndex];
+        this.endDays[index] = source.endDays[sourceIndex];
+        this.endSeconds[index] = source.endSeconds[sourceIndex];
+        int descriptionStart = this.descriptionStart(index);
+        System.arraycopy(source.arena, sourceStart, this.arena, descriptionStart, length);
+        this.descriptionEnds[index] = descriptionStart + length;
+    }
+
+    /**
+     * Gets a store over arrays with room for one more task, growing them if needed.
+     * The returned store has the same size, so its new slot is not visible yet.
+     *
+     * <p>
+     * The task columns and the arena are grown separately, each doubling, so that appends copy each byte
+     * a constant number of times on average. A long description only grows the arena.
+     * </p>
+     *
+     * @param count Number of slots filled so far.
+     * @param descriptionLength Length of the encoded description of the task to be added.
+     * @return This store, or one sharing the arrays that did not need to grow.
+     */
+    private ColumnarTaskStore withRoomFor(int count, int descriptionLength) {
+        int arenaSize = this.descriptionStart(count);
+        boolean hasRoom = count < this.types.length;
+        boolean hasArenaRoom = arenaSize + descriptionLength <= this.arena.length;
+        if (hasRoom && hasArenaRoom) {
+            return this;
+        }
+        byte[] newArena = hasArenaRoom
+                ? this.arena
+                : Arrays.copyOf(this.arena, Math.max(this.arena.length * 2, arenaSize + descriptionLength));
+        if (hasRoom) {
+            return new ColumnarTaskStore(this.types, this.done, this.startDays, this.startSeconds, this.endDays,
+                    this.endSeconds, this.descriptionEnds, newArena, this.size);
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, this.types.length * 2);
+        return new ColumnarTaskStore(Arrays.copyOf(this.types, capacity), this.done,
+                Arrays.copyOf(this.startDays, capacity), Arrays.copyOf(this.startSeconds, capacity),
+                Arrays.copyOf(this.endDays, capacity), Arrays.copyOf(this.endSeconds, capacity),
+                Arrays.copyOf(this.descriptionEnds, capacity), newArena, this.size);
+    }
+
+    /**
+     * Creates the store that makes the slot after the last task visible.
+     *
+     * @param isDone Status of the appended task.
+     * @return New store, one task larger.
+     */
+    private ColumnarTaskStore published(boolean isDone) {
+        BitSet newDone = this.done;
+        if (isDone) {
+            // Older stores may be read concurrently, so the done bits are never set in place
+            newDone = (BitSet) this.done.clone();
+            newDone.set(this.size);
+        }
+        return new ColumnarTaskStore(this.types, newDone, this.startDays, this.startSeconds, this.endDays,
+                this.endSeconds, this.descriptionEnds, this.arena, this.size + 1);
+    }
+
+    /**
+     * Creates a store with the status of some tasks set.
+     * Only the done bits are copied, every other column is shared.
+     *
+     * @param taskIndices Indices of the tasks to be set.
+     * @param isDone Status to be set.
+     * @return New store.
+     */
+    ColumnarTaskStore withStatus(int[] taskIndices, boolean isDone) {
+        BitSet newDone = (BitSet) this.done.clone();
+        for (int taskIndex : taskIndices) {
+            newDone.set(taskIndex, isDone);
+        }
+        return new ColumnarTaskStore(this.types, newDone, this.startDays, this.startSeconds, this.endDays,
+                this.endSeconds, this.descriptionEnds, this.arena, this.size);
+    }
+
+    /**
+     * Creates a store without some tasks, compacting every column in a single pass.
+     *
+     * @param taskIndices Indices of the tasks to be removed, sorted in ascending order.
+     * @return New store.
+     */
+    ColumnarTaskStore without(int[] taskIndices) {
+        int capacity = Math.max(INITIAL_CAPACITY, this.size - taskIndices.length);
+        ColumnarTaskStore target = ColumnarTaskStore.empty(capacity,
+                Math.max(INITIAL_CAPACITY, this.descriptionStart(this.size)));
+        int writeIndex = 0;
+        int nextRemoved = 0;
+        for (int readIndex = 0; readIndex < this.size; readIndex++) {
+            if (nextRemoved < taskIndices.length && taskIndices[nextRemoved] == readIndex) {
+                nextRemoved++;
+                continue;
+            }
+            // Not published yet, so the columns and done bits can be filled in place
+            target.copyTask(writeIndex, this, readIndex);
+            target.done.set(writeIndex, this.done.get(readIndex));
+            writeIndex++;
+        }
+        return new ColumnarTaskStore(target.types, target.done, target.startDays, target.startSeconds,
+                target.endDays, target.endSeconds, target.descriptionEnds, target.arena, writeIndex);
+    }
+
+    /**
+     * Gets the index in the arena where the description of a task starts.
+     *
+     * @param taskIndex Index of the task.
+     * @return Start of its description.
+     */
+    private int descriptionStart(int taskIndex) {
+        return taskIndex == 0 ? 0 : this.descriptionEnds[taskIndex - 1];
+    }
+
+    /**
+     * Decodes the description of a task.
+     *
+     * @param taskIndex Index of the task.
+     * @return Description of the task.
+     */
+    private String getDescription(int taskIndex) {
+        int start = this.descriptionStart(taskIndex);
+        return new String(this.arena, start, this.descriptionEnds[taskIndex] - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Appends the details of a task, in the same format as {@code TaskList.getTaskDetails},
+     * copying the description straight from the arena.
+     *
+     * @param result Builder to append to.
+     * @param taskIndex Index of the task.
+     * @return The same builder.
+     */
+    StringBuilder appendTaskDetails(StringBuilder result, int taskIndex) {
+        result.append('[').append(this.getTaskType(taskIndex)).append("][")
+                .append(this.isDone(taskIndex) ? 'X' : ' ').append("] ");
+        int end = this.descriptionEnds[taskIndex];
+        for (int i = this.descriptionStart(taskIndex); i < end; i++) {
+            if (this.arena[i] < 0) {
+                // Not ASCII, so decode the rest of the description in one go
+                result.append(new String(this.arena, i, end - i, StandardCharsets.UTF_8));
+                break;
+            }
+            result.append((char) this.arena[i]);
+        }
+        return result.append(this.getExtraInfo(taskIndex));
+    }
+
+    /**
+     * Checks if the description of a task contains a word, as split by spaces, without creating any strings.
+     * Compares encoded bytes, which match exactly when the decoded words do.
+     *
+     * @param taskIndex Index of the task.
+     * @param keyword Word to look for, encoded as UTF-8.
+     * @return True if found, false otherwise.
+     */
+    boolean containsWord(int taskIndex, byte[] keyword) {
+        int end = this.descriptionEnds[taskIndex];
+        int wordStart = this.descriptionStart(taskIndex);
+        while (wordStart <= end) {
+            int wordEnd = wordStart;
+            while (wordEnd < end && this.arena[wordEnd] != ' ') {
+                wordEnd++;
+            }
+            if (wordEnd - wordStart == keyword.length && this.regionMatches(wordStart, keyword)) {
+                return true;
+            }
+            wordStart = wordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the arena holds a keyword at a position.
+     *
+     * @param start Position in the arena.
+     * @param keyword Keyword to compare against.
+     * @return True if equal, false otherwise.
+     */
+    private boolean regionMatches(int start, byte[] keyword) {
+        for (int i = 0; i < keyword.length; i++) {
+            if (this.arena[start + i] != keyword[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the type of a task.
+     *
+     * @param taskIndex Index of the task.
+     * @return Task type.
+     */
+    private String getTaskType(int taskIndex) {
+        // CHECKSTYLE.OFF: Indentation
+        return switch (this.types[taskIndex]) {
+            case DEADLINE -> "D";
+            case EVENT -> "E";
+            case RECURRING -> "R";
+            default -> "T";
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Gets extra information about a task, formatted as its task class does.
+     *
+     * @param taskIndex Index of the task.
+     * @return Extra information about the task.
+     */
+    private String getExtraInfo(int taskIndex) {
+        // CHECKSTYLE.OFF: Indentation
+        return switch (this.types[taskIndex]) {
+            case DEADLINE -> Deadline.formatExtraInfo(LocalDate.ofEpochDay(this.startDays[taskIndex]),
+                    ColumnarTaskStore.toTime(this.startSeconds[taskIndex]));
+            case EVENT -> Event.formatExtraInfo(LocalDate.ofEpochDay(this.startDays[taskIndex]),
+                    ColumnarTaskStore.toTime(this.startSeconds[taskIndex]),
+                    LocalDate.ofEpochDay(this.endDays[taskIndex]),
+                    ColumnarTaskStore.toTime(this.endSeconds[taskIndex]));
+            case RECURRING -> this.getRecurrence(taskIndex).format();
+            default -> "";
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Gets the dates within a window that a task falls on, worked out as its task class does.
+     *
+     * @param taskIndex Index of the task.
+     * @param from First date of the window.
+     * @param to Last date of the window.
+     * @return Dates in ascending order, empty if none.
+     */
+    private List<LocalDate> getOccurrences(int taskIndex, LocalDate from, LocalDate to) {
+        // CHECKSTYLE.OFF: Indentation
+        return switch (this.types[taskIndex]) {
+            case DEADLINE -> Deadline.findOccurrences(LocalDate.ofEpochDay(this.startDays[taskIndex]), from, to);
+            case EVENT -> Event.findOccurrences(LocalDate.ofEpochDay(this.startDays[taskIndex]),
+                    LocalDate.ofEpochDay(this.endDays[taskIndex]), from, to);
+            case RECURRING -> this.getRecurrence(taskIndex).getOccurrences(from, to);
+            default -> List.of();
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Recreates the rule of a recurring task from its columns.
+     *
+     * @param taskIndex Index of the recurring task.
+     * @return Rule of the task.
+     */
+    private Recurrence getRecurrence(int taskIndex) {
+        int lastDay = this.endDays[taskIndex];
+        return Recurrence.unpack(LocalDate.ofEpochDay(this.startDays[taskIndex]),
+                ColumnarTaskStore.toTime(this.startSeconds[taskIndex]),
+                lastDay == NO_DATE ? null : LocalDate.ofEpochDay(lastDay), this.endSeconds[taskIndex]);
+    }
+
+    /**
+     * Converts a time to its second of day.
+     *
+     * @param time Time, or {@code LocalTime.MAX} if there is none.
+     * @return Second of day, or {@code NO_TIME}.
+     */
+    private static int toSeconds(LocalTime time) {
+        return time == LocalTime.MAX ? NO_TIME : time.toSecondOfDay();
+    }
+
+    /**
+     * Converts a second of day back to a time.
+     *
+     * @param seconds Second of day, or {@code NO_TIME}.
+     * @return Time, or {@code LocalTime.MAX} if there is none.
+     */
+    private static LocalTime toTime(int seconds) {
+        return seconds == NO_TIME ? LocalTime.MAX : LocalTime.ofSecondOfDay(seconds);
+    }
+
+    /**
+     * Creates a standalone task object, with the given status, from a task in the store.
+     *
+     * @param taskIndex Index of the task.
+     * @param isDone Status of the created task.
+     * @return Task object.
+     */
+    private Task materialize(int taskIndex, boolean isDone) {
+        String description = this.getDescription(taskIndex);
+        // CHECKSTYLE.OFF: Indentation
+        return switch (this.types[taskIndex]) {
+            case DEADLINE -> Deadline.restore(description, LocalDate.ofEpochDay(this.startDays[taskIndex]),
+                    ColumnarTaskStore.toTime(this.startSeconds[taskIndex]), isDone);
+            case EVENT -> Event.restore(description, LocalDate.ofEpochDay(this.startDays[taskIndex]),
+                    ColumnarTaskStore.toTime(this.startSeconds[taskIndex]),
+                    LocalDate.ofEpochDay(this.endDays[taskIndex]),
+                    ColumnarTaskStore.toTime(this.endSeconds[taskIndex]), isDone);
+            case RECURRING -> new RecurringTask(description, this.getRecurrence(taskIndex), isDone);
+            default -> new ToDo(description, isDone);
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Flyweight view of a task in a store.
+     * Holds only the store and the index, and reads every field from the columns.
+     */
+    private static final class View extends Task {
+        private final ColumnarTaskStore store;
+        private final int taskIndex;
+
+        /**
+         * Stores the location of the task.
+         *
+         * @param store Store holding the task.
+         * @param taskIndex Index of the task.
+         */
+        private View(ColumnarTaskStore store, int taskIndex) {
+            super(null);
+            this.store = store;
+            this.taskIndex = taskIndex;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getDescription() {
+            return this.store.getDescription(this.taskIndex);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public char getStatusIcon() {
+            return this.store.isDone(this.taskIndex) ? 'X' : ' ';
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Returns a standalone task, as views cannot be changed.
+         * </p>
+         */
+        @Override
+        public Task withStatus(boolean isDone) {
+            return this.store.materialize(this.taskIndex, isDone);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getTaskType() {
+            return this.store.getTaskType(this.taskIndex);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getExtraInfo() {
+            return this.store.getExtraInfo(this.taskIndex);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+            return this.store.getOccurrences(this.taskIndex, from, to);
+        }
+    }
+}
@@ -2,10 +2,11 @@ package task;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import exceptions.BrockException;
+import utility.StorageUtility;
 
 /**
  * Class representing a deadline task.
@@ -36,6 +37,34 @@ public class Deadline extends Task {
         }
     }
 
+    /**
+     * Sets the deadline task description, due date, due time and status, without validating them.
+     *
+     * @param description Task description.
+     * @param dueDate Due date.
+     * @param dueTime Due time, or {@code LocalTime.MAX} if there is none.
+     * @param isDone Status of the deadline task.
+     */
+    private Deadline(String description, LocalDate dueDate, LocalTime dueTime, boolean isDone) {
+        super(description, isDone);
+        this.dueDate = dueDate;
+        this.dueTime = dueTime;
+    }
+
+    /**
+     * Recreates a deadline task that was saved earlier, trusting its values.
+     * Skips the checks on user input, so deadlines that have passed since they were saved can still be loaded.
+     *
+     * @param description Task description.
+     * @param dueDate Due date.
+     * @param dueTime Due time, or null if there is none.
+     * @param isDone Status of the deadline task.
+     * @return Deadline task.
+     */
+    public static Deadline restore(String description, LocalDate dueDate, LocalTime dueTime, boolean isDone) {
+        return new Deadline(description, dueDate, dueTime == null ? LocalTime.MAX : dueTime, isDone);
+    }
+
     /**
      * Converts due time from {@code String} to {@code LocalTime}.
      *
@@ -78,18 +107,68 @@ public class Deadline extends Task {
         return "D";
     }
 
+    /**
+     * Gets the due date.
+     *
+     * @return Due date.
+     */
+    LocalDate getDueDate() {
+        return this.dueDate;
+    }
+
+    /**
+     * Gets the due time.
+     *
+     * @return Due time, or {@code LocalTime.MAX} if there is none.
+     */
+    LocalTime getDueTime() {
+        return this.dueTime;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String getExtraInfo() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
+        return Deadline.formatExtraInfo(this.dueDate, this.dueTime);
+    }
+
+    /**
+     * Formats the extra information of a deadline task.
+     * Shared with the columnar task store, which does not keep {@code Deadline} objects.
+     *
+     * @param dueDate Due date.
+     * @param dueTime Due time, or {@code LocalTime.MAX} if there is none.
+     * @return Extra information about the deadline.
+     */
+    static String formatExtraInfo(LocalDate dueDate, LocalTime dueTime) {
         String dueDateFormatted = dueDate
-                .format(formatter);
+                .format(StorageUtility.DATE_FORMATTER);
         return "(by: " + dueDateFormatted
                 + (dueTime == LocalTime.MAX
                 ? ""
                 : ", " + dueTime.toString())
                 + ")";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        return Deadline.findOccurrences(this.dueDate, from, to);
+    }
+
+    /**
+     * Gets the dates within a window that a deadline task falls on, which is only its due date.
+     * Shared with the columnar task store, which does not keep {@code Deadline} objects.
+     *
+     * @param dueDate Due date.
+     * @param from First date of the window.
+     * @param to Last date of the window.
+     * @return Due date if within the window, empty otherwise.
+     */
+    static List<LocalDate> findOccurrences(LocalDate dueDate, LocalDate from, LocalDate to) {
+        return dueDate.isBefore(from) || dueDate.isAfter(to) ? List.of() : List.of(dueDate);
+    }
 }
@@ -0,0 +1,40 @@
+package task;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Class to deduplicate task descriptions, so that recurring tasks (eg: "standup") share one {@code String}.
+ *
+ * <p>
+ * The pool is a fixed-size, direct-mapped cache: each description hashes to a single slot,
+ * and a different description hashing to the same slot replaces it.
+ * So its memory is bounded, and descriptions that are seen only once cost nothing beyond a slot,
+ * unlike a map with an entry per description. Descriptions that recur often are likely to still be in their slot.
+ * </p>
+ */
+final class DescriptionPool {
+    private static final int SLOTS = 1 << 12;
+    private static final AtomicReferenceArray<String> POOL = new AtomicReferenceArray<>(SLOTS);
+
+    /**
+     * Gets the pooled copy of a description, pooling the given one if there is none.
+     *
+     * @param description Description to be deduplicated, may be null.
+     * @return An equal description, shared with earlier tasks where possible.
+     */
+    static String intern(String description) {
+        if (description == null) {
+            return null;
+        }
+        int hash = description.hashCode();
+        // Spread the high bits, as descriptions often differ only near the end (eg: "week 1", "week 2")
+        int slot = (hash ^ (hash >>> 16)) & (SLOTS - 1);
+        String pooled = POOL.get(slot);
+        // No hit counter, as a shared counter would be contended by every task created
+        if (description.equals(pooled)) {
+            return pooled;
+        }
+        POOL.set(slot, description);
+        return description;
+    }
+}
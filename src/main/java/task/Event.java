@@ -2,10 +2,11 @@ package task;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 
 import exceptions.BrockException;
+import utility.StorageUtility;
 
 /**
  * Class representing an event task.
@@ -54,6 +55,43 @@ public class Event extends Task {
         }
     }
 
+    /**
+     * Sets the event task description, start and end date and time, and status, without validating them.
+     *
+     * @param description Task description.
+     * @param startDate Start date.
+     * @param startTime Start time, or {@code LocalTime.MAX} if there is none.
+     * @param endDate End date.
+     * @param endTime End time, or {@code LocalTime.MAX} if there is none.
+     * @param isDone Status of the event task.
+     */
+    private Event(String description, LocalDate startDate, LocalTime startTime, LocalDate endDate,
+            LocalTime endTime, boolean isDone) {
+        super(description, isDone);
+        this.startDate = startDate;
+        this.startTime = startTime;
+        this.endDate = endDate;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Recreates an event task that was saved earlier, trusting its values.
+     * Skips the checks on user input, so events that have passed since they were saved can still be loaded.
+     *
+     * @param description Task description.
+     * @param startDate Start date.
+     * @param startTime Start time, or null if there is none.
+     * @param endDate End date.
+     * @param endTime End time, or null if there is none.
+     * @param isDone Status of the event task.
+     * @return Event task.
+     */
+    public static Event restore(String description, LocalDate startDate, LocalTime startTime, LocalDate endDate,
+            LocalTime endTime, boolean isDone) {
+        return new Event(description, startDate, startTime == null ? LocalTime.MAX : startTime,
+                endDate, endTime == null ? LocalTime.MAX : endTime, isDone);
+    }
+
     /**
      * Converts start/end time from {@code String} to {@code LocalTime}.
      *
@@ -108,24 +146,99 @@ public class Event extends Task {
         return "E";
     }
 
+    /**
+     * Gets the start date.
+     *
+     * @return Start date.
+     */
+    LocalDate getStartDate() {
+        return this.startDate;
+    }
+
+    /**
+     * Gets the start time.
+     *
+     * @return Start time, or {@code LocalTime.MAX} if there is none.
+     */
+    LocalTime getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Gets the end date.
+     *
+     * @return End date.
+     */
+    LocalDate getEndDate() {
+        return this.endDate;
+    }
+
+    /**
+     * Gets the end time.
+     *
+     * @return End time, or {@code LocalTime.MAX} if there is none.
+     */
+    LocalTime getEndTime() {
+        return this.endTime;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String getExtraInfo() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
-        String startDateFormatted = this.startDate
-                .format(formatter);
-        String endDateFormatted = this.endDate
-                .format(formatter);
+        return Event.formatExtraInfo(this.startDate, this.startTime, this.endDate, this.endTime);
+    }
+
+    /**
+     * Formats the extra information of an event task.
+     * Shared with the columnar task store, which does not keep {@code Event} objects.
+     *
+     * @param startDate Start date.
+     * @param startTime Start time, or {@code LocalTime.MAX} if there is none.
+     * @param endDate End date.
+     * @param endTime End time, or {@code LocalTime.MAX} if there is none.
+     * @return Extra information about the event.
+     */
+    static String formatExtraInfo(LocalDate startDate, LocalTime startTime, LocalDate endDate, LocalTime endTime) {
+        String startDateFormatted = startDate
+                .format(StorageUtility.DATE_FORMATTER);
+        String endDateFormatted = endDate
+                .format(StorageUtility.DATE_FORMATTER);
         return "(from: " + startDateFormatted
-                + (this.startTime == LocalTime.MAX
+                + (startTime == LocalTime.MAX
                 ? " | "
-                : ", " + this.startTime.toString() + " | ")
+                : ", " + startTime.toString() + " | ")
                 + "to: " + endDateFormatted
-                + (this.endTime == LocalTime.MAX
+                + (endTime == LocalTime.MAX
                 ? ""
-                : ", " + this.endTime.toString())
+                : ", " + endTime.toString())
                 + ")";
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        return Event.findOccurrences(this.startDate, this.endDate, from, to);
+    }
+
+    /**
+     * Gets the dates within a window that an event task falls on.
+     * An event is shown once, on its start date, or on the first date of the window if it is already underway.
+     * Shared with the columnar task store, which does not keep {@code Event} objects.
+     *
+     * @param startDate Start date.
+     * @param endDate End date.
+     * @param from First date of the window.
+     * @param to Last date of the window.
+     * @return Date the event is shown on, or empty if it does not overlap the window.
+     */
+    static List<LocalDate> findOccurrences(LocalDate startDate, LocalDate endDate, LocalDate from, LocalDate to) {
+        if (endDate.isBefore(from) || startDate.isAfter(to)) {
+            return List.of();
+        }
+        return List.of(startDate.isBefore(from) ? from : startDate);
+    }
 }
@@ -0,0 +1,425 @@
+package task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import exceptions.BrockException;
+import utility.StorageUtility;
+
+/**
+ * Class to represent when a recurring task repeats, similar to an iCalendar RRULE.
+ * (Eg: every 2 weeks on Monday and Wednesday, from Oct 07 2024 until Dec 31 2024)
+ *
+ * <p>
+ * Only the rule is stored. Occurrences are worked out on demand, and only within the window asked for,
+ * so a rule costs the same however many times it repeats.
+ * A monthly rule falls on the day of month of its start date, skipping months without that day.
+ * </p>
+ */
+public final class Recurrence {
+    public static final int MAX_INTERVAL = 99;
+    public static final int MAX_COUNT = 9999;
+    private static final int DAYS_IN_WEEK = 7;
+    // Packed rules hold, from the lowest bit: the frequency, the interval, the days of week and the count
+    private static final int FREQUENCY_BITS = 2;
+    private static final int INTERVAL_BITS = 7;
+
+    private final Frequency frequency;
+    private final int interval;
+    // Bit i is set if the rule falls on DayOfWeek.of(i + 1), for weekly rules only
+    private final int daysOfWeek;
+    private final LocalDate startDate;
+    private final LocalTime time;
+    private final LocalDate untilDate;
+    private final int count;
+    // Last occurrence, after applying both the until date and the count, or null if the rule never ends
+    private final LocalDate lastDate;
+
+    /**
+     * Enum used to represent how often a rule repeats.
+     */
+    public enum Frequency {
+        DAILY("day"),
+        WEEKLY("week"),
+        MONTHLY("month");
+
+        private final String unit;
+
+        /**
+         * Stores the unit of time the frequency repeats over.
+         *
+         * @param unit Unit of time, as written by the user.
+         */
+        Frequency(String unit) {
+            this.unit = unit;
+        }
+    }
+
+    /**
+     * Stores the rule, and works out its last occurrence.
+     *
+     * @param frequency How often the rule repeats.
+     * @param interval Number of days, weeks or months between repeats.
+     * @param daysOfWeek Days a weekly rule falls on, as a bit set.
+     * @param startDate Date the rule starts from.
+     * @param time Time of each occurrence, or {@code LocalTime.MAX} if there is none.
+     * @param untilDate Date after which the rule ends, or null if there is none.
+     * @param count Number of occurrences after which the rule ends, or 0 if there is no limit.
+     */
+    private Recurrence(Frequency frequency, int interval, int daysOfWeek, LocalDate startDate, LocalTime time,
+            LocalDate untilDate, int count) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.daysOfWeek = daysOfWeek;
+        this.startDate = startDate;
+        this.time = time;
+        this.untilDate = untilDate;
+        this.count = count;
+        this.lastDate = this.findLastDate();
+    }
+
+    /**
+     * Stores the rule, with its last occurrence worked out earlier.
+     *
+     * @param frequency How often the rule repeats.
+     * @param interval Number of days, weeks or months between repeats.
+     * @param daysOfWeek Days a weekly rule falls on, as a bit set.
+     * @param startDate Date the rule starts from.
+     * @param time Time of each occurrence, or {@code LocalTime.MAX} if there is none.
+     * @param count Number of occurrences after which the rule ends, or 0 if there is no limit.
+     * @param lastDate Last occurrence, which is the until date if there is no count, or null if the rule never ends.
+     */
+    private Recurrence(Frequency frequency, int interval, int daysOfWeek, LocalDate startDate, LocalTime time,
+            int count, LocalDate lastDate) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.daysOfWeek = daysOfWeek;
+        this.startDate = startDate;
+        this.time = time;
+        // A rule has an until date or a count, never both
+        this.untilDate = count == 0 ? lastDate : null;
+        this.count = count;
+        this.lastDate = lastDate;
+    }
+
+    /**
+     * Creates a rule entered by the user.
+     *
+     * @param every How often the rule repeats (eg: {@code day}, {@code 2 weeks}, {@code month}).
+     * @param days Days a weekly rule falls on (eg: {@code mon,wed}), or null for the day of its start date.
+     * @param startDate Date the rule starts from.
+     * @param time Time of each occurrence, or null if there is none.
+     * @param untilDate Date after which the rule ends, or null if there is none.
+     * @param count Number of occurrences after which the rule ends, or 0 if there is no limit.
+     * @return Rule created.
+     * @throws BrockException If any part of the rule is invalid, or the start date is before today.
+     */
+    public static Recurrence create(String every, String days, LocalDate startDate, LocalTime time,
+            LocalDate untilDate, int count) throws BrockException {
+        if (startDate.isBefore(LocalDate.now())) {
+            throw new BrockException("Start date cannot be earlier than today!");
+        }
+        return Recurrence.restore(every, days, startDate, time, untilDate, count);
+    }
+
+    /**
+     * Recreates a rule that was saved earlier, allowing start dates that have passed since.
+     *
+     * @param every How often the rule repeats (eg: {@code day}, {@code 2 weeks}, {@code month}).
+     * @param days Days a weekly rule falls on (eg: {@code MON WED}), or null for the day of its start date.
+     * @param startDate Date the rule starts from.
+     * @param time Time of each occurrence, or null if there is none.
+     * @param untilDate Date after which the rule ends, or null if there is none.
+     * @param count Number of occurrences after which the rule ends, or 0 if there is no limit.
+     * @return Rule created.
+     * @throws BrockException If any part of the rule is invalid.
+     */
+    public static Recurrence restore(String every, String days, LocalDate startDate, LocalTime time,
+            LocalDate untilDate, int count) throws BrockException {
+        String[] everyParts = every.trim().toLowerCase(Locale.ROOT).split(" +");
+        int interval = 1;
+        if (everyParts.length == 2) {
+            try {
+                interval = Integer.parseInt(everyParts[0]);
+            } catch (NumberFormatException e) {
+                throw new BrockException("Repeat interval must be a number (eg: every 2 weeks)!");
+            }
+        } else if (everyParts.length != 1) {
+            throw new BrockException("Repeat must be a day, week or month (eg: every 2 weeks)!");
+        }
+        Frequency frequency = Recurrence.parseFrequency(everyParts[everyParts.length - 1]);
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new BrockException("Repeat interval must be between 1 and " + MAX_INTERVAL + "!");
+        }
+        if (days != null && frequency != Frequency.WEEKLY) {
+            throw new BrockException("Days can only be given for weekly tasks!");
+        }
+        if (untilDate != null && count != 0) {
+            throw new BrockException("Please only give either an end date or a number of times!");
+        }
+        if (untilDate != null && untilDate.isBefore(startDate)) {
+            throw new BrockException("End date cannot be earlier than start date!");
+        }
+        if (count < 0 || count > MAX_COUNT) {
+            throw new BrockException("Number of times must be between 1 and " + MAX_COUNT + "!");
+        }
+        int daysOfWeek = days == null
+                ? 1 << (startDate.getDayOfWeek().getValue() - 1)
+                : Recurrence.parseDaysOfWeek(days);
+        return new Recurrence(frequency, interval, frequency == Frequency.WEEKLY ? daysOfWeek : 0, startDate,
+                time == null ? LocalTime.MAX : time, untilDate, count);
+    }
+
+    /**
+     * Parses the unit a rule repeats over.
+     *
+     * @param unit Unit, either singular or plural (eg: {@code week}, {@code weeks}).
+     * @return Frequency of the rule.
+     * @throws BrockException If the unit is not a day, week or month.
+     */
+    private static Frequency parseFrequency(String unit) throws BrockException {
+        String singular = unit.endsWith("s") ? unit.substring(0, unit.length() - 1) : unit;
+        for (Frequency frequency : Frequency.values()) {
+            if (frequency.unit.equals(singular)) {
+                return frequency;
+            }
+        }
+        throw new BrockException("Repeat must be a day, week or month (eg: every 2 weeks)!");
+    }
+
+    /**
+     * Parses the days a weekly rule falls on.
+     *
+     * @param days Day names, or their first three letters, separated by commas or spaces (eg: {@code mon,wed}).
+     * @return Days, as a bit set.
+     * @throws BrockException If a day is not recognized, or there are none.
+     */
+    private static int parseDaysOfWeek(String days) throws BrockException {
+        int daysOfWeek = 0;
+        for (String day : days.trim().toUpperCase(Locale.ROOT).split("[, ]+")) {
+            int matched = 0;
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (day.length() >= 3 && dayOfWeek.name().startsWith(day)) {
+                    matched = 1 << (dayOfWeek.getValue() - 1);
+                }
+            }
+            if (matched == 0) {
+                throw new BrockException("Unrecognized day: " + day + "! Use eg: mon,wed");
+            }
+            daysOfWeek |= matched;
+        }
+        return daysOfWeek;
+    }
+
+    /**
+     * Packs the frequency, interval, days and count of the rule into an int.
+     * Used by the columnar task store, which keeps the dates in columns of their own.
+     *
+     * @return Packed rule.
+     */
+    int pack() {
+        return this.frequency.ordinal()
+                | this.interval << FREQUENCY_BITS
+                | this.daysOfWeek << (FREQUENCY_BITS + INTERVAL_BITS)
+                | this.count << (FREQUENCY_BITS + INTERVAL_BITS + DAYS_IN_WEEK);
+    }
+
+    /**
+     * Recreates a rule from its dates and packed values.
+     * The last occurrence is given, so that it is not worked out again by stepping through a counted rule.
+     *
+     * @param startDate Date the rule starts from.
+     * @param time Time of each occurrence, or {@code LocalTime.MAX} if there is none.
+     * @param lastDate Last occurrence, as returned by {@link #getLastDate()}.
+     * @param packed Packed values, as returned by {@link #pack()}.
+     * @return Rule.
+     */
+    static Recurrence unpack(LocalDate startDate, LocalTime time, LocalDate lastDate, int packed) {
+        int intervalMask = (1 << INTERVAL_BITS) - 1;
+        int daysMask = (1 << DAYS_IN_WEEK) - 1;
+        return new Recurrence(Frequency.values()[packed & ((1 << FREQUENCY_BITS) - 1)],
+                (packed >>> FREQUENCY_BITS) & intervalMask,
+                (packed >>> (FREQUENCY_BITS + INTERVAL_BITS)) & daysMask, startDate, time,
+                packed >>> (FREQUENCY_BITS + INTERVAL_BITS + DAYS_IN_WEEK), lastDate);
+    }
+
+    /**
+     * Gets the start date.
+     *
+     * @return Start date.
+     */
+    LocalDate getStartDate() {
+        return this.startDate;
+    }
+
+    /**
+     * Gets the time of each occurrence.
+     *
+     * @return Time, or {@code LocalTime.MAX} if there is none.
+     */
+    LocalTime getTime() {
+        return this.time;
+    }
+
+    /**
+     * Gets the last occurrence, after applying both the until date and the count.
+     *
+     * @return Last occurrence, or null if the rule never ends.
+     */
+    LocalDate getLastDate() {
+        return this.lastDate;
+    }
+
+    /**
+     * Works out the last occurrence, stepping through the occurrences if there is a count.
+     *
+     * @return Last occurrence, or null if the rule never ends.
+     */
+    private LocalDate findLastDate() {
+        if (this.count == 0) {
+            return this.untilDate;
+        }
+        LocalDate occurrence = this.nextUnbounded(this.startDate);
+        for (int i = 1; i < this.count; i++) {
+            occurrence = this.nextUnbounded(occurrence.plusDays(1));
+        }
+        return this.untilDate != null && this.untilDate.isBefore(occurrence) ? this.untilDate : occurrence;
+    }
+
+    /**
+     * Finds the first occurrence on or after a date.
+     *
+     * @param date Date to search from.
+     * @return First occurrence, or null if the rule has ended by then.
+     */
+    LocalDate nextOnOrAfter(LocalDate date) {
+        LocalDate from = date.isBefore(this.startDate) ? this.startDate : date;
+        if (this.lastDate != null && from.isAfter(this.lastDate)) {
+            return null;
+        }
+        LocalDate next = this.nextUnbounded(from);
+        return this.lastDate != null && next.isAfter(this.lastDate) ? null : next;
+    }
+
+    /**
+     * Finds the first occurrence on or after a date, ignoring when the rule ends.
+     * Jumps straight to the right period, instead of stepping through the earlier ones.
+     *
+     * @param from Date to search from, not before the start date.
+     * @return First occurrence.
+     */
+    private LocalDate nextUnbounded(LocalDate from) {
+        // CHECKSTYLE.OFF: Indentation
+        return switch (this.frequency) {
+            case DAILY -> {
+                long days = ChronoUnit.DAYS.between(this.startDate, from);
+                yield this.startDate.plusDays((days + this.interval - 1) / this.interval * this.interval);
+            }
+            case WEEKLY -> this.nextWeekly(from);
+            case MONTHLY -> this.nextMonthly(from);
+        };
+        // CHECKSTYLE.ON: Indentation
+    }
+
+    /**
+     * Finds the first occurrence of a weekly rule on or after a date.
+     *
+     * @param from Date to search from, not before the start date.
+     * @return First occurrence.
+     */
+    private LocalDate nextWeekly(LocalDate from) {
+        LocalDate firstMonday = this.startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long week = ChronoUnit.WEEKS.between(firstMonday, from);
+        int fromDay = from.getDayOfWeek().getValue() - 1;
+        if (week % this.interval != 0) {
+            week += this.interval - week % this.interval;
+            fromDay = 0;
+        }
+        int laterDays = this.daysOfWeek & (-1 << fromDay);
+        if (laterDays == 0) {
+            // None left this week, so take the first day of the next week the rule falls in
+            week += this.interval;
+            laterDays = this.daysOfWeek;
+        }
+        return firstMonday.plusWeeks(week).plusDays(Integer.numberOfTrailingZeros(laterDays));
+    }
+
+    /**
+     * Finds the first occurrence of a monthly rule on or after a date.
+     *
+     * @param from Date to search from, not before the start date.
+     * @return First occurrence.
+     */
+    private LocalDate nextMonthly(LocalDate from) {
+        YearMonth startMonth = YearMonth.from(this.startDate);
+        int dayOfMonth = this.startDate.getDayOfMonth();
+        long month = ChronoUnit.MONTHS.between(startMonth, YearMonth.from(from));
+        month += (this.interval - month % this.interval) % this.interval;
+        // Ends, as the month of the start date comes round again
+        while (true) {
+            YearMonth yearMonth = startMonth.plusMonths(month);
+            if (yearMonth.isValidDay(dayOfMonth) && !yearMonth.atDay(dayOfMonth).isBefore(from)) {
+                return yearMonth.atDay(dayOfMonth);
+            }
+            month += this.interval;
+        }
+    }
+
+    /**
+     * Gets the occurrences within a window, in order.
+     * Only the occurrences in the window are worked out.
+     *
+     * @param from First date of the window.
+     * @param to Last date of the window.
+     * @return Dates of the occurrences.
+     */
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        List<LocalDate> occurrences = new ArrayList<>();
+        LocalDate next = this.nextOnOrAfter(from);
+        while (next != null && !next.isAfter(to)) {
+            occurrences.add(next);
+            next = this.nextOnOrAfter(next.plusDays(1));
+        }
+        return occurrences;
+    }
+
+    /**
+     * Formats the rule, as shown to the user and written to the save file.
+     * (Eg: {@code (every: 2 weeks on: MON WED | from: Oct 07 2024, 09:00 | until: Dec 31 2024)})
+     *
+     * @return Formatted rule.
+     */
+    String format() {
+        StringBuilder result = new StringBuilder("(every: ");
+        if (this.interval > 1) {
+            result.append(this.interval).append(' ');
+        }
+        result.append(this.frequency.unit).append(this.interval > 1 ? "s" : "");
+        if (this.frequency == Frequency.WEEKLY) {
+            result.append(" on:");
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if ((this.daysOfWeek & (1 << (dayOfWeek.getValue() - 1))) != 0) {
+                    result.append(' ').append(dayOfWeek.name(), 0, 3);
+                }
+            }
+        }
+        result.append(" | from: ").append(this.startDate.format(StorageUtility.DATE_FORMATTER));
+        if (this.time != LocalTime.MAX) {
+            result.append(", ").append(this.time);
+        }
+        if (this.untilDate != null) {
+            result.append(" | until: ").append(this.untilDate.format(StorageUtility.DATE_FORMATTER));
+        }
+        if (this.count != 0) {
+            result.append(" | times: ").append(this.count);
+        }
+        return result.append(')').toString();
+    }
+}
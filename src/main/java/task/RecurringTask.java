@@ -0,0 +1,72 @@
+package task;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Class representing a task that repeats, such as a weekly meeting.
+ * Stored as a single task with its rule, however many times it repeats.
+ */
+public class RecurringTask extends Task {
+    private final Recurrence recurrence;
+
+    /**
+     * Stores the recurring task description and rule.
+     * Sets the recurring task status to be uncompleted.
+     *
+     * @param description Task description.
+     * @param recurrence When the task repeats.
+     */
+    public RecurringTask(String description, Recurrence recurrence) {
+        this(description, recurrence, false);
+    }
+
+    /**
+     * Stores the recurring task description, rule and status.
+     *
+     * @param description Task description.
+     * @param recurrence When the task repeats.
+     * @param isDone Status of the recurring task.
+     */
+    public RecurringTask(String description, Recurrence recurrence, boolean isDone) {
+        super(description, isDone);
+        this.recurrence = recurrence;
+    }
+
+    /**
+     * Gets the rule of when the task repeats.
+     *
+     * @return Rule of the task.
+     */
+    Recurrence getRecurrence() {
+        return this.recurrence;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getTaskType() {
+        return "R";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getExtraInfo() {
+        return this.recurrence.format();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Only the occurrences within the window are worked out.
+     * </p>
+     */
+    @Override
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        return this.recurrence.getOccurrences(from, to);
+    }
+}
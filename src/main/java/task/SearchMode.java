@@ -0,0 +1,23 @@
+package task;
+
+/**
+ * Enum used to represent how the keyword of a search is matched against the words of task descriptions.
+ */
+public enum SearchMode {
+    /**
+     * Match the exact word, case-sensitively. Scans every task, and lists matches in list order.
+     */
+    EXACT,
+    /**
+     * Match the exact word, ignoring case.
+     */
+    IGNORE_CASE,
+    /**
+     * Match words starting with the keyword, ignoring case. Shorter completions rank first.
+     */
+    PREFIX,
+    /**
+     * Match words within a small edit distance of the keyword, ignoring case. Closer words rank first.
+     */
+    FUZZY
+}
@@ -0,0 +1,599 @@
+package task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import exceptions.BrockException;
+
+/**
+ * Class to represent a boolean search over the words of task descriptions, ignoring case.
+ * (Eg: {@code book AND (pen OR "pencil case") NOT club})
+ *
+ * <p>
+ * Terms are words, or phrases in double quotes, combined with {@code AND}, {@code OR}, {@code NOT}
+ * and parentheses. {@code NOT} binds tightest, then {@code AND}, then {@code OR},
+ * and terms written next to each other are joined with {@code AND}.
+ * </p>
+ *
+ * <p>
+ * Queries are evaluated over the sorted task indices of each word, from the search index of a {@code TaskList}.
+ * Intersections start from the shortest list, and gallop through the longer ones,
+ * so their cost depends on the shortest list rather than on the number of tasks.
+ * Only a query that is entirely negated (eg: {@code NOT book}) has to go through every task.
+ * </p>
+ */
+public final class SearchQuery {
+    private final Node root;
+
+    /**
+     * Stores the parsed query.
+     *
+     * @param root Root of the query tree.
+     */
+    private SearchQuery(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Parses a boolean search expression.
+     *
+     * @param expression Expression to be parsed.
+     * @return Parsed query.
+     * @throws BrockException If the expression is empty, or has unbalanced parentheses or quotes,
+     *      or an operator without a term.
+     */
+    public static SearchQuery parse(String expression) throws BrockException {
+        QueryParser parser = new QueryParser(SearchQuery.tokenize(expression));
+        Node root = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new BrockException("Unexpected '" + parser.peek() + "' in search!");
+        }
+        return new SearchQuery(root);
+    }
+
+    /**
+     * Splits an expression into words, operators, parentheses and quoted phrases.
+     *
+     * @param expression Expression to be split.
+     * @return Tokens, with phrases kept in their quotes.
+     * @throws BrockException If a phrase is not closed, or is empty.
+     */
+    private static List<String> tokenize(String expression) throws BrockException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == ' ') {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '"') {
+                int end = expression.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new BrockException("Missing closing quote in search!");
+                }
+                if (expression.substring(i + 1, end).isBlank()) {
+                    throw new BrockException("Empty phrase in search!");
+                }
+                tokens.add(expression.substring(i, end + 1));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < expression.length() && " ()\"".indexOf(expression.charAt(end)) < 0) {
+                    end++;
+                }
+                tokens.add(expression.substring(i, end));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Finds the tasks matching the query.
+     *
+     * @param index Search index of the tasks.
+     * @param descriptions Gets the description of a task, to check phrases against.
+     * @return Sorted indices of the matching tasks.
+     */
+    int[] evaluate(TrigramIndex index, IntFunction<String> descriptions) {
+        return this.root.evaluate(index, descriptions);
+    }
+
+    /**
+     * Node of a query tree.
+     */
+    private interface Node {
+        /**
+         * Finds the tasks matching this node.
+         *
+         * @param index Search index of the tasks.
+         * @param descriptions Gets the description of a task.
+         * @return Sorted indices of the matching tasks.
+         */
+        int[] evaluate(TrigramIndex index, IntFunction<String> descriptions);
+
+        /**
+         * Keeps only the candidate tasks matching this node, as when intersecting it with earlier operands.
+         *
+         * @param candidates Sorted task indices.
+         * @param index Search index of the tasks.
+         * @param descriptions Gets the description of a task.
+         * @return Sorted indices of the candidates matching this node.
+         */
+        default int[] filter(int[] candidates, TrigramIndex index, IntFunction<String> descriptions) {
+            int[] matching = this.evaluate(index, descriptions);
+            return SearchQuery.intersect(candidates, matching, matching.length);
+        }
+
+        /**
+         * Estimates how many tasks this node matches, to order intersections cheaply.
+         *
+         * @param index Search index of the tasks.
+         * @return Upper bound on the number of matching tasks.
+         */
+        int estimateSize(TrigramIndex index);
+    }
+
+    /**
+     * Single word.
+     *
+     * @param word Word to match, ignoring case.
+     */
+    private record Term(String word) implements Node {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int[] evaluate(TrigramIndex index, IntFunction<String> descriptions) {
+            TrigramIndex.Postings postings = index.postings(this.word);
+            return Arrays.copyOf(postings.taskIndices(), postings.size());
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * Gallops through the task indices of the word in place, without copying a possibly long list.
+         * </p>
+         */
+        @Override
+        public int[] filter(int[] candidates, TrigramIndex index, IntFunction<String> descriptions) {
+            TrigramIndex.Postings postings = index.postings(this.word);
+            return SearchQuery.intersect(candidates, postings.taskIndices(), postings.size());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int estimateSize(TrigramIndex index) {
+            return index.postings(this.word).size();
+        }
+    }
+
+    /**
+     * Words that must appear next to each other, in order.
+     *
+     * @param words Lowercased words of the phrase.
+     */
+    private record Phrase(String[] words) implements Node {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int[] evaluate(TrigramIndex index, IntFunction<String> descriptions) {
+            TrigramIndex.Postings rarest = index.postings(this.words[0]);
+            for (String word : this.words) {
+                TrigramIndex.Postings postings = index.postings(word);
+                if (postings.size() < rarest.size()) {
+                    rarest = postings;
+                }
+            }
+            return this.filter(Arrays.copyOf(rarest.taskIndices(), rarest.size()), index, descriptions);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>
+         * The index has no word positions, so only the candidates with every word of the phrase
+         * are checked against their descriptions.
+         * </p>
+         */
+        @Override
+        public int[] filter(int[] candidates, TrigramIndex index, IntFunction<String> descriptions) {
+            for (int i = 0; i < this.words.length && candidates.length > 0; i++) {
+                TrigramIndex.Postings postings = index.postings(this.words[i]);
+                candidates = SearchQuery.intersect(candidates, postings.taskIndices(), postings.size());
+            }
+
+            int[] matching = new int[candidates.length];
+            int numMatching = 0;
+            for (int taskIndex : candidates) {
+                if (this.isInDescription(descriptions.apply(taskIndex))) {
+                    matching[numMatching++] = taskIndex;
+                }
+            }
+            return Arrays.copyOf(matching, numMatching);
+        }
+
+        /**
+         * Checks if a description has the words of the phrase next to each other.
+         *
+         * @param description Task description.
+         * @return True if found, false otherwise.
+         */
+        private boolean isInDescription(String description) {
+            String[] descriptionWords = Arrays.stream(description.toLowerCase(Locale.ROOT).split(" "))
+                    .filter(word -> !word.isEmpty())
+                    .toArray(String[]::new);
+            for (int start = 0; start + this.words.length <= descriptionWords.length; start++) {
+                int i = 0;
+                while (i < this.words.length && descriptionWords[start + i].equals(this.words[i])) {
+                    i++;
+                }
+                if (i == this.words.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int estimateSize(TrigramIndex index) {
+            int size = Integer.MAX_VALUE;
+            for (String word : this.words) {
+                size = Math.min(size, index.postings(word).size());
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Negation of a node. Matches every task the node does not.
+     *
+     * @param negated Node to be negated.
+     */
+    private record Not(Node negated) implements Node {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int[] evaluate(TrigramIndex index, IntFunction<String> descriptions) {
+            int[] excluded = this.negated.evaluate(index, descriptions);
+            int[] result = new int[index.size() - excluded.length];
+            int numResults = 0;
+            int nextExcluded = 0;
+            for (int taskIndex = 0; taskIndex < index.size(); taskIndex++) {
+                if (nextExcluded < excluded.length && excluded[nextExcluded] == taskIndex) {
+                    nextExcluded++;
+                } else {
+                    result[numResults++] = taskIndex;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int estimateSize(TrigramIndex index) {
+            return index.size();
+        }
+    }
+
+    /**
+     * Conjunction of nodes. Negated nodes are subtracted from the rest, instead of being expanded.
+     *
+     * @param operands Nodes that must all match.
+     */
+    private record And(List<Node> operands) implements Node {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int[] evaluate(TrigramIndex index, IntFunction<String> descriptions) {
+            List<Node> included = new ArrayList<>();
+            List<Node> excluded = new ArrayList<>();
+            for (Node operand : this.operands) {
+                if (operand instanceof Not not) {
+                    excluded.add(not.negated());
+                } else {
+                    included.add(operand);
+                }
+            }
+            if (included.isEmpty()) {
+                // Only negations, eg: NOT a AND NOT b, which is NOT (a OR b)
+                return new Not(new Or(excluded)).evaluate(index, descriptions);
+            }
+
+            // Smallest first, so that every later intersection is bounded by it
+            included.sort(Comparator.comparingInt(operand -> operand.estimateSize(index)));
+            int[] result = included.get(0).evaluate(index, descriptions);
+            for (int i = 1; i < included.size() && result.length > 0; i++) {
+                result = included.get(i).filter(result, index, descriptions);
+            }
+            for (int i = 0; i < excluded.size() && result.length > 0; i++) {
+                int[] other = excluded.get(i).evaluate(index, descriptions);
+                result = SearchQuery.subtract(result, other);
+            }
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int estimateSize(TrigramIndex index) {
+            int size = index.size();
+            for (Node operand : this.operands) {
+                if (!(operand instanceof Not)) {
+                    size = Math.min(size, operand.estimateSize(index));
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Disjunction of nodes.
+     *
+     * @param operands Nodes of which at least one must match.
+     */
+    private record Or(List<Node> operands) implements Node {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int[] evaluate(TrigramIndex index, IntFunction<String> descriptions) {
+            int[] result = new int[0];
+            for (Node operand : this.operands) {
+                result = SearchQuery.union(result, operand.evaluate(index, descriptions));
+            }
+            return result;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int estimateSize(TrigramIndex index) {
+            long size = 0;
+            for (Node operand : this.operands) {
+                size += operand.estimateSize(index);
+            }
+            return (int) Math.min(size, index.size());
+        }
+    }
+
+    /**
+     * Recursive descent parser over the tokens of an expression.
+     */
+    private static final class QueryParser {
+        private final List<String> tokens;
+        private int position;
+
+        /**
+         * Stores the tokens to be parsed.
+         *
+         * @param tokens Tokens of the expression.
+         */
+        private QueryParser(List<String> tokens) {
+            this.tokens = tokens;
+        }
+
+        /**
+         * Checks if there are tokens left.
+         *
+         * @return True if there are, false otherwise.
+         */
+        private boolean hasNext() {
+            return this.position < this.tokens.size();
+        }
+
+        /**
+         * Gets the next token, without consuming it.
+         *
+         * @return Next token, or null if there are none left.
+         */
+        private String peek() {
+            return this.hasNext() ? this.tokens.get(this.position) : null;
+        }
+
+        /**
+         * Parses terms joined by {@code OR}.
+         *
+         * @return Parsed node.
+         * @throws BrockException If a term is missing.
+         */
+        private Node parseOr() throws BrockException {
+            List<Node> operands = new ArrayList<>();
+            operands.add(this.parseAnd());
+            while ("OR".equals(this.peek())) {
+                this.position++;
+                operands.add(this.parseAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(operands);
+        }
+
+        /**
+         * Parses terms joined by {@code AND}, or written next to each other.
+         *
+         * @return Parsed node.
+         * @throws BrockException If a term is missing.
+         */
+        private Node parseAnd() throws BrockException {
+            List<Node> operands = new ArrayList<>();
+            operands.add(this.parseNot());
+            while (this.hasNext() && !"OR".equals(this.peek()) && !")".equals(this.peek())) {
+                if ("AND".equals(this.peek())) {
+                    this.position++;
+                }
+                operands.add(this.parseNot());
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(operands);
+        }
+
+        /**
+         * Parses a term, possibly negated.
+         *
+         * @return Parsed node.
+         * @throws BrockException If the term is missing.
+         */
+        private Node parseNot() throws BrockException {
+            if ("NOT".equals(this.peek())) {
+                this.position++;
+                return new Not(this.parseNot());
+            }
+            return this.parseTerm();
+        }
+
+        /**
+         * Parses a word, a phrase, or an expression in parentheses.
+         *
+         * @return Parsed node.
+         * @throws BrockException If the term is missing, or a parenthesis is not closed.
+         */
+        private Node parseTerm() throws BrockException {
+            String token = this.peek();
+            if (token == null || token.equals(")") || token.equals("AND") || token.equals("OR")) {
+                throw new BrockException(token == null
+                        ? "Missing keyword at the end of search!"
+                        : "Missing keyword before '" + token + "' in search!");
+            }
+            this.position++;
+            if (token.equals("(")) {
+                Node node = this.parseOr();
+                if (!")".equals(this.peek())) {
+                    throw new BrockException("Missing closing bracket in search!");
+                }
+                this.position++;
+                return node;
+            }
+            if (token.startsWith("\"")) {
+                String[] words = Arrays.stream(token.substring(1, token.length() - 1).split(" "))
+                        .filter(word -> !word.isEmpty())
+                        .map(word -> word.toLowerCase(Locale.ROOT))
+                        .toArray(String[]::new);
+                return words.length == 1 ? new Term(words[0]) : new Phrase(words);
+            }
+            return new Term(token.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Intersects a short sorted list with a possibly much longer one.
+     * Gallops through the longer list, so the cost grows with the shorter list,
+     * and only logarithmically with the longer one.
+     *
+     * @param shorter Sorted task indices.
+     * @param longer Sorted task indices.
+     * @param longerSize Number of task indices in {@code longer}.
+     * @return Sorted task indices in both.
+     */
+    private static int[] intersect(int[] shorter, int[] longer, int longerSize) {
+        int[] result = new int[Math.min(shorter.length, longerSize)];
+        int numResults = 0;
+        int position = 0;
+        for (int taskIndex : shorter) {
+            position = SearchQuery.gallop(longer, position, longerSize, taskIndex);
+            if (position == longerSize) {
+                break;
+            }
+            if (longer[position] == taskIndex) {
+                result[numResults++] = taskIndex;
+            }
+        }
+        return Arrays.copyOf(result, numResults);
+    }
+
+    /**
+     * Removes the task indices of one sorted list from another, galloping through the removed ones.
+     *
+     * @param from Sorted task indices.
+     * @param removed Sorted task indices to be removed.
+     * @return Sorted task indices in {@code from} but not in {@code removed}.
+     */
+    private static int[] subtract(int[] from, int[] removed) {
+        int[] result = new int[from.length];
+        int numResults = 0;
+        int position = 0;
+        for (int taskIndex : from) {
+            position = SearchQuery.gallop(removed, position, removed.length, taskIndex);
+            if (position == removed.length || removed[position] != taskIndex) {
+                result[numResults++] = taskIndex;
+            }
+        }
+        return Arrays.copyOf(result, numResults);
+    }
+
+    /**
+     * Merges two sorted lists, dropping duplicates.
+     *
+     * @param first Sorted task indices.
+     * @param second Sorted task indices.
+     * @return Sorted task indices in either.
+     */
+    private static int[] union(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        int numResults = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length || j < second.length) {
+            int next;
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                next = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                next = second[j++];
+            } else {
+                next = first[i++];
+                j++;
+            }
+            result[numResults++] = next;
+        }
+        return Arrays.copyOf(result, numResults);
+    }
+
+    /**
+     * Finds the first position at or after a start, holding a value at least the target.
+     * Steps forward in doubling strides, then binary searches the last stride.
+     *
+     * @param values Sorted values.
+     * @param start Position to start from.
+     * @param size Number of values.
+     * @param target Value to find.
+     * @return Position of the first value at least the target, or {@code size} if there is none.
+     */
+    private static int gallop(int[] values, int start, int size, int target) {
+        int low = start;
+        int stride = 1;
+        while (low + stride < size && values[low + stride] < target) {
+            low += stride;
+            stride *= 2;
+        }
+        if (low < size && values[low] >= target) {
+            return low;
+        }
+        int high = Math.min(low + stride, size);
+        // Binary search in (low, high], where values[low] < target
+        while (low + 1 < high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] < target) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return high;
+    }
+}
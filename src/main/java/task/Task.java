@@ -1,44 +1,63 @@
 package task;
 
+import java.time.LocalDate;
+import java.util.List;
+
 /**
  * Abstract base class to provide a template for a task object.
+ * Once a task is added to a {@code TaskList}, it is treated as immutable.
+ * Status changes are made on copies, via {@link #withStatus(boolean)}.
  */
-public abstract class Task {
+public abstract class Task implements Cloneable {
     private final String description;
     private boolean isDone;
 
     /**
-     * Stores the task description.
+     * Stores the task description, shared with earlier tasks with the same description where possible.
      * Sets the task status to be uncompleted
      *
      * @param description Description of the task.
      */
     protected Task(String description) {
-        this.description = description;
-        this.isDone = false;
+        this(description, false);
     }
 
     /**
-     * Gets the task description.
+     * Stores the task description, shared with earlier tasks with the same description where possible.
+     * Sets the task status, for subclasses that know it when they are created.
      *
-     * @return Description of the task.
+     * @param description Description of the task.
+     * @param isDone Status of the task.
      */
-    public String getDescription() {
-        return this.description;
+    protected Task(String description, boolean isDone) {
+        this.description = DescriptionPool.intern(description);
+        this.isDone = isDone;
     }
 
     /**
-     * Sets the task status to be completed
+     * Gets the task description.
+     *
+     * @return Description of the task.
      */
-    public void markAsDone() {
-        this.isDone = true;
+    public String getDescription() {
+        return this.description;
     }
 
     /**
-     * Sets the task status to be uncompleted
+     * Creates a copy of this task with the given status, leaving this task untouched.
+     * The copy is shallow, as all other fields of a task are immutable.
+     *
+     * @param isDone Status of the copy.
+     * @return Copy of this task.
      */
-    public void markAsUndone() {
-        this.isDone = false;
+    public Task withStatus(boolean isDone) {
+        try {
+            Task copy = (Task) super.clone();
+            copy.isDone = isDone;
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError("Task is cloneable", e);
+        }
     }
 
     /**
@@ -64,4 +83,25 @@ public abstract class Task {
      * @return Extra information about the task.
      */
     public abstract String getExtraInfo();
+
+    /**
+     * Gets the dates within a window that this task falls on, to show what is due.
+     * Tasks without dates fall on none.
+     *
+     * @param from First date of the window.
+     * @param to Last date of the window.
+     * @return Dates in ascending order, empty if none.
+     */
+    public List<LocalDate> getOccurrences(LocalDate from, LocalDate to) {
+        return List.of();
+    }
+
+    /**
+     * Estimates the heap held by the task on top of a parsed task of its size, such as unparsed bytes.
+     *
+     * @return Estimated size in bytes, 0 for parsed tasks.
+     */
+    public long estimateExtraHeapBytes() {
+        return 0;
+    }
 }
@@ -1,20 +1,201 @@
 package task;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import metrics.MetricsRegistry;
+import metrics.SearchEvent;
 
 /**
  * Class to store {@code Task} objects.
+ *
+ * <p>
+ * Follows a single-writer / many-reader model.
+ * The tasks are held in an immutable {@code Snapshot}, which is swapped atomically on every write.
+ * Readers never lock, and always see a consistent list, even while a command mutates the tasks.
+ * Writes are serialized, but commands that read before they write (eg: mark) are expected to run
+ * on a single writer thread, so that the indices they validated are still the ones they mutate.
+ * </p>
+ *
+ * <p>
+ * A list can be backed by {@code Task} objects, or by a {@code ColumnarTaskStore} (see {@link #columnar(List)}),
+ * which keeps tasks as primitive columns for a much smaller heap with very large lists.
+ * </p>
  */
 public class TaskList {
-    private final ArrayList<Task> tasks;
+    private static final MetricsRegistry METRICS = MetricsRegistry.global();
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_RANKED_RESULTS = 100;
+    private static final int ESTIMATED_BYTES_PER_TASK = 128;
+    // Builds of the search index outside the write lock, before it is built under the lock instead
+    private static final int MAX_INDEX_BUILD_ATTEMPTS = 3;
+    private static final DateTimeFormatter DUE_DATE_FORMATTER = DateTimeFormatter.ofPattern("EEE MMM dd yyyy");
+
+    private final Object writeLock = new Object();
+    private final boolean isReadOnly;
+    private volatile Snapshot snapshot;
+    // Guarded by writeLock. Built by the first search that needs it, then kept in step with every write
+    private TrigramIndex searchIndex;
+
+    /**
+     * An immutable view of the tasks at a point in time.
+     *
+     * <p>
+     * Slots at or beyond {@code size} are never read through this snapshot.
+     * So appends may fill them in place and publish a new snapshot sharing the same array,
+     * as long as every other write copies the array first.
+     * </p>
+     *
+     * @param tasks Backing array of tasks, null if backed by columns.
+     * @param size Number of tasks visible in this snapshot.
+     * @param columns Backing columns of tasks, null if backed by an array.
+     */
+    private record Snapshot(Task[] tasks, int size, ColumnarTaskStore columns) {
+        /**
+         * Gets a task.
+         *
+         * @param taskIndex Index of the task.
+         * @return The task, or a view of it if backed by columns.
+         */
+        Task get(int taskIndex) {
+            return this.columns == null ? this.tasks[taskIndex] : this.columns.get(taskIndex);
+        }
+    }
 
     /**
      * Stores the list of tasks.
      * @param tasks {@code ArrayList} of tasks to be stored.
      */
     public TaskList(ArrayList<Task> tasks) {
-        this.tasks = tasks;
+        Task[] initialTasks = tasks.toArray(new Task[Math.max(INITIAL_CAPACITY, tasks.size())]);
+        this.snapshot = new Snapshot(initialTasks, tasks.size(), null);
+        this.isReadOnly = false;
+    }
+
+    /**
+     * Stores the list of tasks as primitive columns.
+     *
+     * @param columns Columns of tasks to be stored.
+     */
+    private TaskList(ColumnarTaskStore columns) {
+        this.snapshot = new Snapshot(null, columns.size(), columns);
+        this.isReadOnly = false;
+    }
+
+    /**
+     * Creates a list backed by primitive columns instead of {@code Task} objects.
+     * Tasks read from it are flyweight views, created on each read.
+     *
+     * <p>
+     * Only {@code ToDo}, {@code Deadline}, {@code Event} and {@code RecurringTask} fit in columns.
+     * If any task is of another type, the list is backed by {@code Task} objects instead,
+     * as it is if such a task is added later.
+     * </p>
+     *
+     * @param tasks Tasks to be stored.
+     * @return Columnar {@code TaskList}, or one backed by {@code Task} objects.
+     */
+    public static TaskList columnar(List<Task> tasks) {
+        for (Task task : tasks) {
+            if (!ColumnarTaskStore.supports(task)) {
+                return new TaskList(new ArrayList<>(tasks));
+            }
+        }
+        return new TaskList(ColumnarTaskStore.of(tasks));
+    }
+
+    /**
+     * Creates a read-only task list, over an existing snapshot.
+     *
+     * @param snapshot Snapshot to be viewed.
+     */
+    private TaskList(Snapshot snapshot) {
+        this.snapshot = snapshot;
+        this.isReadOnly = true;
+    }
+
+    /**
+     * Gets a read-only view of the current tasks, which is unaffected by later writes.
+     * To be used by readers that need more than one consistent read (eg: list, find).
+     *
+     * @return Read-only {@code TaskList}.
+     */
+    public TaskList snapshot() {
+        return this.isReadOnly ? this : new TaskList(this.snapshot);
+    }
+
+    /**
+     * Gets the current tasks as an unmodifiable list, without copying them.
+     *
+     * @return Unmodifiable list of the current tasks.
+     */
+    public List<Task> asList() {
+        Snapshot current = this.snapshot;
+        if (current.columns() != null) {
+            return new AbstractList<>() {
+                @Override
+                public Task get(int index) {
+                    Objects.checkIndex(index, current.size());
+                    return current.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return current.size();
+                }
+            };
+        }
+        return Collections.unmodifiableList(Arrays.asList(current.tasks()).subList(0, current.size()));
+    }
+
+    /**
+     * Publishes a new snapshot, making it visible to all readers.
+     *
+     * @param tasks Backing array of tasks.
+     * @param size Number of tasks visible in the new snapshot.
+     */
+    private void publish(Task[] tasks, int size) {
+        assert !this.isReadOnly : "Cannot write to a read-only task list.";
+        assert Thread.holdsLock(this.writeLock) : "Snapshots must be published while holding the write lock.";
+        this.snapshot = new Snapshot(tasks, size, null);
+    }
+
+    /**
+     * Publishes a new snapshot backed by columns, making it visible to all readers.
+     *
+     * @param columns Backing columns of tasks.
+     */
+    private void publish(ColumnarTaskStore columns) {
+        assert !this.isReadOnly : "Cannot write to a read-only task list.";
+        assert Thread.holdsLock(this.writeLock) : "Snapshots must be published while holding the write lock.";
+        this.snapshot = new Snapshot(null, columns.size(), columns);
+    }
+
+    /**
+     * Applies a write that adds or removes tasks to the search index, if it has been built.
+     * To be called while holding the write lock, right after publishing.
+     *
+     * @param update Change to the index matching the write.
+     */
+    private void updateSearchIndex(Consumer<TrigramIndex> update) {
+        assert Thread.holdsLock(this.writeLock) : "The search index must be updated while holding the write lock.";
+        if (this.searchIndex == null) {
+            return;
+        }
+        update.accept(this.searchIndex);
+        if (this.searchIndex.isStale()) {
+            // Dropped instead of compacted, so the next search rebuilds it without the dead words
+            this.searchIndex = null;
+        }
     }
 
     /**
@@ -23,15 +204,29 @@ public class TaskList {
      * @return the current number of tasks.
      */
     public int numTasks() {
-        int count = 0;
-        for (Task task : this.tasks) {
-            if (task != null) {
-                count += 1;
-            } else {
-                break;
-            }
+        return this.snapshot.size();
+    }
+
+    /**
+     * Estimates the heap taken by the current tasks, not counting the search index.
+     * Columns are measured, while {@code Task} objects are assumed to take {@value #ESTIMATED_BYTES_PER_TASK}
+     * bytes each, about what a deadline with a short description takes, plus what they hold on top of that
+     * (eg: the line of a task not parsed yet).
+     *
+     * @return Estimated size in bytes.
+     */
+    public long estimateHeapBytes() {
+        Snapshot current = this.snapshot;
+        if (current.columns() != null) {
+            return current.columns().estimateHeapBytes();
+        }
+        // References take 4 bytes each on heaps under 32 GB
+        long totalBytes = (long) current.tasks().length * Integer.BYTES
+                + (long) current.size() * ESTIMATED_BYTES_PER_TASK;
+        for (int i = 0; i < current.size(); i++) {
+            totalBytes += current.tasks()[i].estimateExtraHeapBytes();
         }
-        return count;
+        return totalBytes;
     }
 
     /**
@@ -42,15 +237,7 @@ public class TaskList {
      */
     public boolean markTask(int taskIndex) {
         assert taskIndex < numTasks() : "Invalid task index supplied for task to be marked.";
-        Task task = this.tasks.get(taskIndex);
-        boolean isSuccessful;
-        if (task.getStatusIcon() == 'X') {
-            isSuccessful = false; // Has been marked already
-        } else {
-            task.markAsDone();
-            isSuccessful = true;
-        }
-        return isSuccessful;
+        return this.markTasks(new int[]{taskIndex}).length == 1;
     }
 
     /**
@@ -61,24 +248,167 @@ public class TaskList {
      */
     public boolean unmarkTask(int taskIndex) {
         assert taskIndex < numTasks() : "Invalid task index supplied for task to be unmarked.";
-        Task task = this.tasks.get(taskIndex);
-        boolean isSuccessful;
-        if (task.getStatusIcon() == ' ') {
-            isSuccessful = false; // Has not been marked yet
-        } else {
-            task.markAsUndone();
-            isSuccessful = true;
+        return this.unmarkTasks(new int[]{taskIndex}).length == 1;
+    }
+
+    /**
+     * Marks the selected tasks in the list, in a single pass.
+     *
+     * @param taskIndices Indices of the tasks to be marked, sorted in ascending order.
+     * @return Indices of the tasks that were marked, skipping those that have been marked already.
+     */
+    public int[] markTasks(int[] taskIndices) {
+        return this.toggleTasks(taskIndices, true);
+    }
+
+    /**
+     * Unmarks the selected tasks in the list, in a single pass.
+     *
+     * @param taskIndices Indices of the tasks to be unmarked, sorted in ascending order.
+     * @return Indices of the tasks that were unmarked, skipping those that have not been marked yet.
+     */
+    public int[] unmarkTasks(int[] taskIndices) {
+        return this.toggleTasks(taskIndices, false);
+    }
+
+    /**
+     * Sets the status of the selected tasks, publishing a single new snapshot.
+     * Toggled tasks are replaced by copies, so that tasks in older snapshots are never mutated.
+     *
+     * @param taskIndices Indices of the tasks to be toggled, sorted in ascending order.
+     * @param isDone Status to be set.
+     * @return Indices of the tasks whose status changed.
+     */
+    private int[] toggleTasks(int[] taskIndices, boolean isDone) {
+        char targetIcon = isDone ? 'X' : ' ';
+        synchronized (this.writeLock) {
+            Snapshot current = this.snapshot;
+            if (current.columns() != null) {
+                return this.toggleColumns(current.columns(), taskIndices, isDone);
+            }
+            Task[] newTasks = null;
+            int[] toggledIndices = new int[taskIndices.length];
+            int count = 0;
+            for (int taskIndex : taskIndices) {
+                Task task = current.tasks()[taskIndex];
+                if (task.getStatusIcon() == targetIcon) {
+                    continue; // Has been toggled already
+                }
+                if (newTasks == null) {
+                    newTasks = Arrays.copyOf(current.tasks(), current.tasks().length);
+                }
+                newTasks[taskIndex] = task.withStatus(isDone);
+                toggledIndices[count++] = taskIndex;
+            }
+            if (newTasks != null) {
+                this.publish(newTasks, current.size());
+            }
+            return Arrays.copyOf(toggledIndices, count);
+        }
+    }
+
+    /**
+     * Sets the status of the selected tasks in a list backed by columns.
+     * Only the done bits are copied, every other column is shared with the current snapshot.
+     *
+     * @param columns Current columns.
+     * @param taskIndices Indices of the tasks to be toggled, sorted in ascending order.
+     * @param isDone Status to be set.
+     * @return Indices of the tasks whose status changed.
+     */
+    private int[] toggleColumns(ColumnarTaskStore columns, int[] taskIndices, boolean isDone) {
+        int[] toggledIndices = new int[taskIndices.length];
+        int count = 0;
+        for (int taskIndex : taskIndices) {
+            if (columns.isDone(taskIndex) != isDone) {
+                toggledIndices[count++] = taskIndex;
+            }
+        }
+        toggledIndices = Arrays.copyOf(toggledIndices, count);
+        if (count > 0) {
+            this.publish(columns.withStatus(toggledIndices, isDone));
         }
-        return isSuccessful;
+        return toggledIndices;
+    }
+
+    /**
+     * Copies the tasks of a columnar snapshot into an array, to back the list by {@code Task} objects from then on.
+     * The views stay valid, as the store they read from is never changed.
+     *
+     * @param current Snapshot backed by columns.
+     * @param capacity Minimum length of the array.
+     * @return Snapshot backed by the array, with the same tasks.
+     */
+    private Snapshot toRows(Snapshot current, int capacity) {
+        Task[] tasks = new Task[Math.max(INITIAL_CAPACITY, Math.max(capacity, current.size()))];
+        for (int i = 0; i < current.size(); i++) {
+            tasks[i] = current.get(i);
+        }
+        return new Snapshot(tasks, current.size(), null);
     }
 
     /**
      * Adds a new task into the list.
+     * A columnar list is backed by {@code Task} objects from then on, if the task does not fit in columns.
      *
      * @param task New task to be added.
      */
     public void addToList(Task task) {
-        this.tasks.add(task);
+        synchronized (this.writeLock) {
+            Snapshot current = this.snapshot;
+            if (current.columns() != null && !ColumnarTaskStore.supports(task)) {
+                current = this.toRows(current, current.size() * 2);
+            }
+            if (current.columns() != null) {
+                this.publish(current.columns().withAppended(task));
+                this.updateSearchIndex(index -> index.add(task.getDescription()));
+                return;
+            }
+            Task[] tasks = current.tasks();
+            int size = current.size();
+            if (size == tasks.length) {
+                tasks = Arrays.copyOf(tasks, Math.max(INITIAL_CAPACITY, size * 2));
+            }
+            // Slot is beyond the size of every published snapshot sharing this array
+            tasks[size] = task;
+            this.publish(tasks, size + 1);
+            this.updateSearchIndex(index -> index.add(task.getDescription()));
+        }
+    }
+
+    /**
+     * Adds several new tasks into the list, publishing them together.
+     * The backing array is grown at most once, instead of once per doubling.
+     * A columnar list is backed by {@code Task} objects from then on, if any task does not fit in columns.
+     *
+     * @param newTasks New tasks to be added, in order.
+     */
+    public void addAllToList(List<Task> newTasks) {
+        synchronized (this.writeLock) {
+            Snapshot current = this.snapshot;
+            if (current.columns() != null && !newTasks.stream().allMatch(ColumnarTaskStore::supports)) {
+                current = this.toRows(current, current.size() + newTasks.size());
+            }
+            if (current.columns() != null) {
+                this.publish(current.columns().withAppended(newTasks));
+            } else {
+                Task[] tasks = current.tasks();
+                int size = current.size();
+                if (size + newTasks.size() > tasks.length) {
+                    tasks = Arrays.copyOf(tasks, Math.max(INITIAL_CAPACITY, size + newTasks.size()));
+                }
+                // Slots are beyond the size of every published snapshot sharing this array
+                for (int i = 0; i < newTasks.size(); i++) {
+                    tasks[size + i] = newTasks.get(i);
+                }
+                this.publish(tasks, size + newTasks.size());
+            }
+            this.updateSearchIndex(index -> {
+                for (Task task : newTasks) {
+                    index.add(task.getDescription());
+                }
+            });
+        }
     }
 
     /**
@@ -88,7 +418,47 @@ public class TaskList {
      */
     public void removeFromList(int taskIndex) {
         assert taskIndex < numTasks() : "Invalid task index supplied for task to be removed.";
-        this.tasks.remove(taskIndex);
+        this.removeFromList(new int[]{taskIndex});
+    }
+
+    /**
+     * Removes the selected tasks from the list, in a single pass.
+     * Remaining tasks are compacted into a new array, instead of shifting the list once per removed task.
+     *
+     * @param taskIndices Indices of the tasks to be removed, sorted in ascending order.
+     * @return The removed tasks, in their original order.
+     */
+    public ArrayList<Task> removeFromList(int[] taskIndices) {
+        assert taskIndices.length > 0 : "No task indices supplied for tasks to be removed.";
+        synchronized (this.writeLock) {
+            Snapshot current = this.snapshot;
+            int totalTasks = current.size();
+            ArrayList<Task> removedTasks = new ArrayList<>(taskIndices.length);
+            if (current.columns() != null) {
+                for (int taskIndex : taskIndices) {
+                    // Views of the current snapshot, which stay valid once it is replaced
+                    removedTasks.add(current.get(taskIndex));
+                }
+                this.publish(current.columns().without(taskIndices));
+                this.updateSearchIndex(index -> index.remove(taskIndices));
+                return removedTasks;
+            }
+            Task[] newTasks = new Task[Math.max(INITIAL_CAPACITY, totalTasks - taskIndices.length)];
+            int writeIndex = 0;
+            int nextRemoved = 0;
+            for (int readIndex = 0; readIndex < totalTasks; readIndex++) {
+                Task task = current.tasks()[readIndex];
+                if (nextRemoved < taskIndices.length && taskIndices[nextRemoved] == readIndex) {
+                    removedTasks.add(task);
+                    nextRemoved++;
+                } else {
+                    newTasks[writeIndex++] = task;
+                }
+            }
+            this.publish(newTasks, writeIndex);
+            this.updateSearchIndex(index -> index.remove(taskIndices));
+            return removedTasks;
+        }
     }
 
     /**
@@ -98,8 +468,9 @@ public class TaskList {
      * @return The retrieved task.
      */
     public Task getTask(int taskIndex) {
-        assert taskIndex < numTasks() : "Invalid task index supplied for task to be fetched.";
-        return this.tasks.get(taskIndex);
+        Snapshot current = this.snapshot;
+        assert taskIndex < current.size() : "Invalid task index supplied for task to be fetched.";
+        return current.get(taskIndex);
     }
 
     /**
@@ -149,14 +520,43 @@ public class TaskList {
      */
     public String listTasks() {
         StringBuilder result = new StringBuilder();
-        int taskNumber = 1;
-        for (Task task : this.tasks) {
-            result.append(taskNumber).append(". ")
-                    .append(this.getTaskDetails(task)).append('\n');
-            taskNumber++;
+        this.appendTasks(result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the current tasks present, in the same format as {@link #listTasks()},
+     * without building an intermediate string.
+     *
+     * @param result Builder to append to.
+     * @return Number of tasks appended.
+     */
+    public int appendTasks(StringBuilder result) {
+        Snapshot current = this.snapshot;
+        for (int i = 0; i < current.size(); i++) {
+            result.append(i + 1).append(". ");
+            this.appendTaskDetails(result, current, i).append('\n');
         }
+        return current.size();
+    }
 
-        return result.toString();
+    /**
+     * Appends the details of a task, reading straight from the columns if the snapshot is backed by them.
+     *
+     * @param result Builder to append to.
+     * @param current Snapshot holding the task.
+     * @param taskIndex Index of the task.
+     * @return The same builder.
+     */
+    private StringBuilder appendTaskDetails(StringBuilder result, Snapshot current, int taskIndex) {
+        if (current.columns() != null) {
+            return current.columns().appendTaskDetails(result, taskIndex);
+        }
+        Task task = current.tasks()[taskIndex];
+        return result.append('[').append(task.getTaskType()).append("][")
+                .append(task.getStatusIcon()).append("] ")
+                .append(task.getDescription())
+                .append(task.getExtraInfo());
     }
 
     /**
@@ -172,6 +572,37 @@ public class TaskList {
                 .anyMatch(word -> word.equals(keyword));
     }
 
+    /**
+     * Checks if a task contains the keyword as a whole word, reading straight from the columns if the snapshot
+     * is backed by them.
+     *
+     * @param current Snapshot holding the task.
+     * @param taskIndex Index of the task.
+     * @param keyword Keyword.
+     * @param encodedKeyword Keyword encoded in UTF-8, as the columns hold descriptions.
+     * @return True if matches, false otherwise.
+     */
+    private boolean isTaskMatching(Snapshot current, int taskIndex, String keyword, byte[] encodedKeyword) {
+        return current.columns() != null
+                ? current.columns().containsWord(taskIndex, encodedKeyword)
+                : this.isDescriptionMatching(current.tasks()[taskIndex].getDescription(), keyword);
+    }
+
+    /**
+     * Finds the tasks matching a keyword, the same way {@link #appendMatchingTasks(StringBuilder, String)} does.
+     * Like it, does not lock.
+     *
+     * @param keyword Tasks must match this keyword.
+     * @return Indices of the matching tasks, in ascending order.
+     */
+    public int[] findMatchingIndices(String keyword) {
+        Snapshot current = this.snapshot;
+        byte[] encodedKeyword = keyword.getBytes(StandardCharsets.UTF_8);
+        return IntStream.range(0, current.size())
+                .filter(i -> this.isTaskMatching(current, i, keyword, encodedKeyword))
+                .toArray();
+    }
+
     /**
      * Searches the task list for matching tasks.
      *
@@ -182,27 +613,235 @@ public class TaskList {
      */
     public String[] findMatchingTasks(String keyword) {
         StringBuilder result = new StringBuilder();
+        int numMatching = this.appendMatchingTasks(result, keyword);
+        return new String[]{result.toString(), Integer.toString(numMatching)};
+    }
+
+    /**
+     * Appends the tasks matching a keyword, in the same format as {@link #findMatchingTasks(String)},
+     * without building an intermediate string.
+     *
+     * @param result Builder to append to.
+     * @param keyword Tasks must match this keyword.
+     * @return Number of matching tasks.
+     */
+    public int appendMatchingTasks(StringBuilder result, String keyword) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        Snapshot current = this.snapshot;
         int taskNumber = 1;
+        byte[] encodedKeyword = keyword.getBytes(StandardCharsets.UTF_8);
 
-        for (Task task : this.tasks) {
-            String description = task.getDescription();
-            if (this.isDescriptionMatching(description, keyword)) {
-                String taskDetails = this.getTaskDetails(task);
-                result.append(taskNumber).append(". ")
-                        .append(taskDetails).append('\n');
+        for (int i = 0; i < current.size(); i++) {
+            if (this.isTaskMatching(current, i, keyword, encodedKeyword)) {
+                result.append(taskNumber).append(". ");
+                this.appendTaskDetails(result, current, i).append('\n');
                 taskNumber++;
             }
         }
 
+        event.end();
+        if (event.shouldCommit()) {
+            event.setTaskCount(current.size());
+            event.setResultSize(taskNumber - 1);
+            event.commit();
+        }
+
         // After the iteration, if task number is for example 5
         // Then, there are actually only 4 matching tasks
-        return new String[]{result.toString(), Integer.toString(taskNumber - 1)};
+        return taskNumber - 1;
+    }
+
+    /**
+     * Appends the tasks matching a keyword in the given mode, best matches first.
+     * Modes other than {@code EXACT} use a trigram index, built on first use and then kept up to date.
+     * Querying it briefly holds the write lock, unlike the lock-free exact search.
+     * Prefix and fuzzy searches list at most {@code MAX_RANKED_RESULTS} tasks, with a note of how many matched.
+     *
+     * @param result Builder to append to.
+     * @param keyword Tasks must match this keyword.
+     * @param mode How to match the keyword.
+     * @return Number of matching tasks, including those not listed.
+     */
+    public int appendMatchingTasks(StringBuilder result, String keyword, SearchMode mode) {
+        if (mode == SearchMode.EXACT) {
+            return this.appendMatchingTasks(result, keyword);
+        }
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        Snapshot current;
+        TrigramIndex.Matches matches;
+        this.prepareSearchIndex();
+        synchronized (this.writeLock) {
+            // Read under the lock, so that it matches the task indices in the index
+            current = this.snapshot;
+            if (this.searchIndex == null) {
+                this.searchIndex = TaskList.buildSearchIndex(current);
+            }
+            matches = this.searchIndex.search(keyword,
+                    mode, mode == SearchMode.IGNORE_CASE ? Integer.MAX_VALUE : MAX_RANKED_RESULTS);
+        }
+
+        int[] taskIndices = matches.taskIndices();
+        for (int i = 0; i < taskIndices.length; i++) {
+            result.append(i + 1).append(". ");
+            this.appendTaskDetails(result, current, taskIndices[i]).append('\n');
+        }
+        if (matches.total() > taskIndices.length) {
+            result.append("(Showing the best ").append(taskIndices.length)
+                    .append(" of ").append(matches.total()).append(" matches)\n");
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setTaskCount(current.size());
+            event.setResultSize(matches.total());
+            event.commit();
+        }
+        return matches.total();
+    }
+
+    /**
+     * Appends the tasks matching a boolean query, in list order.
+     *
+     * @param result Builder to append to.
+     * @param query Query to match, ignoring case.
+     * @return Number of matching tasks.
+     */
+    public int appendMatchingTasks(StringBuilder result, SearchQuery query) {
+        SearchEvent event = new SearchEvent();
+        event.begin();
+        Snapshot current;
+        int[] taskIndices;
+        this.prepareSearchIndex();
+        synchronized (this.writeLock) {
+            // Read under the lock, so that it matches the task indices in the index
+            current = this.snapshot;
+            if (this.searchIndex == null) {
+                this.searchIndex = TaskList.buildSearchIndex(current);
+            }
+            taskIndices = query.evaluate(this.searchIndex, taskIndex -> current.get(taskIndex).getDescription());
+        }
+
+        for (int i = 0; i < taskIndices.length; i++) {
+            result.append(i + 1).append(". ");
+            this.appendTaskDetails(result, current, taskIndices[i]).append('\n');
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.setTaskCount(current.size());
+            event.setResultSize(taskIndices.length);
+            event.commit();
+        }
+        return taskIndices.length;
+    }
+
+    /**
+     * Appends the uncompleted tasks falling within a window, grouped by date in ascending order.
+     * Recurring tasks appear once for every occurrence in the window.
+     * (Eg: {@code Mon Oct 07 2024:\n  3. [R][ ] standup (every: ...)\n})
+     *
+     * @param result Builder to append to.
+     * @param from First date of the window.
+     * @param to Last date of the window.
+     * @return Number of occurrences appended.
+     */
+    public int appendDueTasks(StringBuilder result, LocalDate from, LocalDate to) {
+        Snapshot current = this.snapshot;
+        long[] occurrences = new long[INITIAL_CAPACITY];
+        int numOccurrences = 0;
+        for (int i = 0; i < current.size(); i++) {
+            Task task = current.get(i);
+            if (task.getStatusIcon() == 'X') {
+                continue;
+            }
+            for (LocalDate date : task.getOccurrences(from, to)) {
+                if (numOccurrences == occurrences.length) {
+                    occurrences = Arrays.copyOf(occurrences, numOccurrences * 2);
+                }
+                // Days into the window in the high bits, so that sorting orders by date, then by task number
+                occurrences[numOccurrences++] = (date.toEpochDay() - from.toEpochDay()) << 32 | i;
+            }
+        }
+        Arrays.sort(occurrences, 0, numOccurrences);
+
+        long previousDay = -1;
+        for (int i = 0; i < numOccurrences; i++) {
+            long day = occurrences[i] >>> 32;
+            int taskIndex = (int) occurrences[i];
+            if (day != previousDay) {
+                result.append(from.plusDays(day).format(DUE_DATE_FORMATTER)).append(":\n");
+                previousDay = day;
+            }
+            result.append("  ").append(taskIndex + 1).append(". ");
+            this.appendTaskDetails(result, current, taskIndex).append('\n');
+        }
+        return numOccurrences;
+    }
+
+    /**
+     * Builds the search index over a snapshot, and records its size.
+     * The gauges hold the size of the last index built, not the index, so that it can still be dropped.
+     *
+     * @param current Snapshot to be indexed.
+     * @return Search index, in step with the snapshot.
+     */
+    private static TrigramIndex buildSearchIndex(Snapshot current) {
+        TrigramIndex index = new TrigramIndex();
+        for (int i = 0; i < current.size(); i++) {
+            index.add(current.get(i).getDescription());
+        }
+        long vocabularySize = index.vocabularySize();
+        long postingsSize = index.postingsSize();
+        METRICS.gauge("search.index.words", () -> vocabularySize);
+        METRICS.gauge("search.index.postings", () -> postingsSize);
+        return index;
+    }
+
+    /**
+     * Builds the search index if there is none, without holding the write lock.
+     *
+     * <p>
+     * Building reads every description, which parses every lazily loaded task, so writes are not blocked meanwhile.
+     * The index is built from a snapshot, and installed only if no write was published since.
+     * Otherwise it is discarded, and built again from a newer snapshot, a few times at most.
+     * Readers racing to build it may each do so, but only the first to finish installs it.
+     * </p>
+     */
+    private void prepareSearchIndex() {
+        for (int attempt = 0; attempt < MAX_INDEX_BUILD_ATTEMPTS; attempt++) {
+            Snapshot current;
+            synchronized (this.writeLock) {
+                if (this.searchIndex != null) {
+                    return;
+                }
+                current = this.snapshot;
+            }
+            TrigramIndex index = TaskList.buildSearchIndex(current);
+            synchronized (this.writeLock) {
+                if (this.searchIndex == null && this.snapshot == current) {
+                    // Every write publishes a new snapshot, so the index misses none
+                    this.searchIndex = index;
+                }
+                if (this.searchIndex != null) {
+                    return;
+                }
+            }
+        }
     }
 
     /**
      * Clears all tasks in the task list.
      */
     public void clear() {
-        this.tasks.clear();
+        synchronized (this.writeLock) {
+            if (this.snapshot.columns() != null) {
+                this.publish(ColumnarTaskStore.empty());
+            } else {
+                this.publish(new Task[INITIAL_CAPACITY], 0);
+            }
+            this.searchIndex = null;
+        }
     }
 }
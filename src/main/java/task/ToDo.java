@@ -14,6 +14,16 @@ public class ToDo extends Task {
         super(description);
     }
 
+    /**
+     * Stores the todo task description and status.
+     *
+     * @param description Todo task description.
+     * @param isDone Status of the todo task.
+     */
+    public ToDo(String description, boolean isDone) {
+        super(description, isDone);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,486 @@
+package task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+
+/**
+ * Class to index the words of task descriptions, for case-insensitive, prefix and fuzzy search.
+ *
+ * <p>
+ * Each distinct lowercased word keeps the sorted indices of the tasks containing it,
+ * and is listed under each of its trigrams (with a boundary char before and after the word).
+ * A search first collects candidate words through their shared trigrams, then verifies at most
+ * {@code MAX_CANDIDATES} of them exactly, so the work per query is bounded, and does not grow with the tasks.
+ * In exchange, fuzzy search may miss the poorest matches: words sharing no trigram at all with the keyword
+ * (two edits spread across a word of five or six chars), or sharing few when the keyword is made of very
+ * common trigrams.
+ * </p>
+ *
+ * <p>
+ * The index is kept in step with its task list on every add and remove.
+ * It is not thread-safe, so once installed, {@code TaskList} only uses it while holding its write lock.
+ * Before that, it is built by a single thread, from a snapshot of the list.
+ * </p>
+ */
+final class TrigramIndex {
+    // Candidates sharing the most trigrams with the keyword are verified first
+    private static final int MAX_CANDIDATES = 20_000;
+    // Word ids read in full from the trigram lists of one query, before the lists are only binary searched
+    private static final int MAX_SCANNED_ENTRIES = 200_000;
+    private static final char BOUNDARY = '\0';
+    // Words without tasks are kept until they are this many, and at least half the vocabulary
+    private static final int MIN_DEAD_WORDS_TO_REBUILD = 1024;
+
+    private final HashMap<String, Word> words = new HashMap<>();
+    private final ArrayList<Word> wordsById = new ArrayList<>();
+    private final HashMap<Long, IntList> trigrams = new HashMap<>();
+    private int size;
+    private int deadWords;
+    // Scratch space for counting shared trigrams per word, reused across searches
+    private int[] trigramCounts = new int[0];
+
+    /**
+     * Matching tasks of a search, best first.
+     *
+     * @param taskIndices Indices of the best matching tasks, up to the requested number.
+     * @param total Number of matching tasks, including those not returned.
+     */
+    record Matches(int[] taskIndices, int total) {
+    }
+
+    /**
+     * Sorted task indices of a word, over the live array of the index to avoid copying long lists.
+     * Only valid until the next write to the index.
+     *
+     * @param taskIndices Array holding the task indices.
+     * @param size Number of task indices in the array.
+     */
+    record Postings(int[] taskIndices, int size) {
+    }
+
+    /**
+     * Word of a description, with the tasks containing it.
+     */
+    private static final class Word {
+        private final String text;
+        private final int id;
+        private final IntList taskIndices = new IntList();
+
+        /**
+         * Stores the word.
+         *
+         * @param text Lowercased word.
+         * @param id Index of the word in {@code wordsById}.
+         */
+        private Word(String text, int id) {
+            this.text = text;
+            this.id = id;
+        }
+    }
+
+    /**
+     * Growable list of ints, to avoid boxing every task index and word id.
+     */
+    private static final class IntList {
+        private int[] values = new int[2];
+        private int size;
+
+        /**
+         * Appends a value.
+         *
+         * @param value Value to be appended.
+         */
+        private void add(int value) {
+            if (this.size == this.values.length) {
+                this.values = Arrays.copyOf(this.values, this.size * 2);
+            }
+            this.values[this.size++] = value;
+        }
+
+        /**
+         * Gets the last value.
+         *
+         * @return Last value, or -1 if empty.
+         */
+        private int last() {
+            return this.size == 0 ? -1 : this.values[this.size - 1];
+        }
+    }
+
+    /**
+     * Appends a task to the index, after every task already indexed.
+     *
+     * @param description Description of the task.
+     */
+    void add(String description) {
+        int taskIndex = this.size++;
+        for (String text : description.toLowerCase(Locale.ROOT).split(" ")) {
+            if (text.isEmpty()) {
+                continue;
+            }
+            Word word = this.words.get(text);
+            boolean isNew = word == null;
+            if (isNew) {
+                word = new Word(text, this.wordsById.size());
+                this.words.put(text, word);
+                this.wordsById.add(word);
+                for (long trigram : TrigramIndex.trigramsOf(text, true)) {
+                    this.trigrams.computeIfAbsent(trigram, key -> new IntList()).add(word.id);
+                }
+            }
+            if (word.taskIndices.last() == taskIndex) {
+                // Repeated word in the same description
+                continue;
+            }
+            if (!isNew && word.taskIndices.size == 0) {
+                // Word of a removed task, back in use
+                this.deadWords--;
+            }
+            word.taskIndices.add(taskIndex);
+        }
+    }
+
+    /**
+     * Removes tasks from the index, shifting the indices of the tasks after them, in a single pass per word.
+     *
+     * @param taskIndices Indices of the tasks to be removed, sorted in ascending order.
+     */
+    void remove(int[] taskIndices) {
+        for (Word word : this.wordsById) {
+            IntList list = word.taskIndices;
+            if (list.size == 0) {
+                continue;
+            }
+            int writeIndex = 0;
+            int removedBefore = 0;
+            for (int readIndex = 0; readIndex < list.size; readIndex++) {
+                int taskIndex = list.values[readIndex];
+                while (removedBefore < taskIndices.length && taskIndices[removedBefore] < taskIndex) {
+                    removedBefore++;
+                }
+                if (removedBefore < taskIndices.length && taskIndices[removedBefore] == taskIndex) {
+                    continue;
+                }
+                list.values[writeIndex++] = taskIndex - removedBefore;
+            }
+            list.size = writeIndex;
+            if (writeIndex == 0) {
+                this.deadWords++;
+            }
+        }
+        this.size -= taskIndices.length;
+    }
+
+    /**
+     * Checks if enough words no longer belong to any task that the index should be rebuilt.
+     *
+     * @return True if it should be rebuilt, false otherwise.
+     */
+    boolean isStale() {
+        return this.deadWords >= MIN_DEAD_WORDS_TO_REBUILD && this.deadWords * 2 > this.wordsById.size();
+    }
+
+    /**
+     * Counts the tasks in the index.
+     *
+     * @return Number of tasks.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Counts the distinct words in the index, skipping those that no longer belong to any task.
+     *
+     * @return Number of words.
+     */
+    int vocabularySize() {
+        return this.wordsById.size() - this.deadWords;
+    }
+
+    /**
+     * Counts the entries of every word's list of tasks, which is the bulk of the heap taken by the index.
+     *
+     * @return Number of task entries.
+     */
+    long postingsSize() {
+        long total = 0;
+        for (Word word : this.wordsById) {
+            total += word.taskIndices.size;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the tasks containing a word, ignoring case.
+     *
+     * @param text Word to look up.
+     * @return Sorted task indices, empty if no task contains it.
+     */
+    Postings postings(String text) {
+        Word word = this.words.get(text.toLowerCase(Locale.ROOT));
+        return word == null
+                ? new Postings(new int[0], 0)
+                : new Postings(word.taskIndices.values, word.taskIndices.size);
+    }
+
+    /**
+     * Searches for tasks with a word matching a keyword.
+     *
+     * @param keyword Keyword to match.
+     * @param mode How to match the keyword, any mode but {@code EXACT}.
+     * @param maxResults Maximum number of task indices to return.
+     * @return Best matching tasks, ranked by how closely their best word matches, then in list order.
+     */
+    Matches search(String keyword, SearchMode mode, int maxResults) {
+        assert mode != SearchMode.EXACT : "Exact searches scan the task list instead.";
+        String query = keyword.toLowerCase(Locale.ROOT);
+        // Each matching word, packed as its score (lower is better) in the high half, and its id in the low half
+        long[] matched;
+        if (mode == SearchMode.IGNORE_CASE) {
+            Word word = this.words.get(query);
+            matched = word == null ? new long[0] : new long[]{word.id};
+        } else {
+            matched = this.verify(query, mode, this.findCandidates(query, mode));
+        }
+        Arrays.sort(matched);
+        return this.rank(matched, maxResults);
+    }
+
+    /**
+     * Finds candidate words that could match a query, through the trigrams they share with it.
+     * Falls back to every word of a suitable length when the query is too short to filter by trigrams.
+     *
+     * @param query Lowercased keyword.
+     * @param mode Either {@code PREFIX} or {@code FUZZY}.
+     * @return Ids of at most {@code MAX_CANDIDATES} candidate words.
+     */
+    private int[] findCandidates(String query, SearchMode mode) {
+        boolean isFuzzy = mode == SearchMode.FUZZY;
+        // A prefix has no boundary after it, as the word may go on
+        long[] queryTrigrams = TrigramIndex.trigramsOf(query, isFuzzy);
+        int maxDistance = TrigramIndex.maxDistance(query);
+        // Each edit destroys at most three trigrams, and a prefix must contain all of its own
+        int minShared = isFuzzy ? queryTrigrams.length - 3 * maxDistance : queryTrigrams.length;
+        if (minShared <= 0 && (!isFuzzy || maxDistance == 1)) {
+            // Too short to filter by trigrams, but short words are cheap to verify
+            return this.findCandidatesByLength(query.length(), isFuzzy ? maxDistance : -1);
+        }
+        minShared = Math.max(1, minShared);
+
+        if (this.trigramCounts.length < this.wordsById.size()) {
+            this.trigramCounts = new int[this.wordsById.size()];
+        }
+        IntList[] lists = new IntList[queryTrigrams.length];
+        for (int i = 0; i < queryTrigrams.length; i++) {
+            lists[i] = this.trigrams.getOrDefault(queryTrigrams[i], new IntList());
+        }
+        // A candidate must share at least one of the rarest (length - minShared + 1) trigrams.
+        // So only their lists are scanned in full, and the rest are binary searched per candidate,
+        // which keeps trigrams shared by most words (eg: "ite" in "item1", "item2", ...) cheap
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+        int numScanned = 1;
+        long numEntries = lists[0].size;
+        while (numScanned < lists.length - minShared + 1
+                && numEntries + lists[numScanned].size <= MAX_SCANNED_ENTRIES) {
+            numEntries += lists[numScanned].size;
+            numScanned++;
+        }
+        // Past the budget, candidates must share more trigrams, which only loses the poorest fuzzy matches
+        minShared = lists.length - numScanned + 1;
+        IntList touched = new IntList();
+        for (int i = 0; i < numScanned; i++) {
+            for (int j = 0; j < lists[i].size; j++) {
+                if (this.trigramCounts[lists[i].values[j]]++ == 0) {
+                    touched.add(lists[i].values[j]);
+                }
+            }
+        }
+        for (int i = 0; i < touched.size; i++) {
+            int wordId = touched.values[i];
+            for (int j = numScanned; j < lists.length; j++) {
+                // Word ids are added in ascending order, so every list is sorted
+                if (Arrays.binarySearch(lists[j].values, 0, lists[j].size, wordId) >= 0) {
+                    this.trigramCounts[wordId]++;
+                }
+            }
+        }
+
+        // Pack as (shared trigrams, id), so that sorting puts the most promising candidates last
+        long[] candidates = new long[touched.size];
+        int numCandidates = 0;
+        for (int i = 0; i < touched.size; i++) {
+            int wordId = touched.values[i];
+            int shared = this.trigramCounts[wordId];
+            this.trigramCounts[wordId] = 0;
+            if (shared >= minShared && this.wordsById.get(wordId).taskIndices.size > 0) {
+                candidates[numCandidates++] = ((long) shared << 32) | wordId;
+            }
+        }
+        if (numCandidates > MAX_CANDIDATES) {
+            Arrays.sort(candidates, 0, numCandidates);
+        }
+        int start = Math.max(0, numCandidates - MAX_CANDIDATES);
+        int[] wordIds = new int[numCandidates - start];
+        for (int i = start; i < numCandidates; i++) {
+            wordIds[i - start] = (int) candidates[i];
+        }
+        return wordIds;
+    }
+
+    /**
+     * Finds candidate words by length alone, for queries too short to filter by trigrams.
+     * Not capped, as verifying words this short is cheap.
+     *
+     * @param length Length of the query.
+     * @param maxDistance Maximum edit distance, or -1 for words at least as long as the query.
+     * @return Ids of the candidate words.
+     */
+    private int[] findCandidatesByLength(int length, int maxDistance) {
+        IntList wordIds = new IntList();
+        for (int id = 0; id < this.wordsById.size(); id++) {
+            Word word = this.wordsById.get(id);
+            int wordLength = word.text.length();
+            boolean isLengthMatching = maxDistance < 0
+                    ? wordLength >= length
+                    : Math.abs(wordLength - length) <= maxDistance;
+            if (isLengthMatching && word.taskIndices.size > 0) {
+                wordIds.add(id);
+            }
+        }
+        return Arrays.copyOf(wordIds.values, wordIds.size);
+    }
+
+    /**
+     * Verifies candidate words against a query, scoring the ones that match.
+     *
+     * @param query Lowercased keyword.
+     * @param mode Either {@code PREFIX} or {@code FUZZY}.
+     * @param wordIds Ids of the candidate words.
+     * @return Each matching word, packed as its score in the high half, and its id in the low half.
+     */
+    private long[] verify(String query, SearchMode mode, int[] wordIds) {
+        int maxDistance = TrigramIndex.maxDistance(query);
+        long[] matched = new long[wordIds.length];
+        int numMatched = 0;
+        for (int wordId : wordIds) {
+            String text = this.wordsById.get(wordId).text;
+            int score;
+            if (mode == SearchMode.PREFIX) {
+                score = text.startsWith(query) ? text.length() - query.length() : -1;
+            } else {
+                score = TrigramIndex.editDistance(query, text, maxDistance);
+            }
+            if (score >= 0) {
+                matched[numMatched++] = ((long) score << 32) | wordId;
+            }
+        }
+        return Arrays.copyOf(matched, numMatched);
+    }
+
+    /**
+     * Ranks the tasks of the matching words, by the best score of any of their words, then in list order.
+     *
+     * @param matched Matching words, packed as (score, id) and sorted.
+     * @param maxResults Maximum number of task indices to return.
+     * @return Best matching tasks.
+     */
+    private Matches rank(long[] matched, int maxResults) {
+        BitSet seen = new BitSet(this.size);
+        IntList ranked = new IntList();
+        int start = 0;
+        while (start < matched.length) {
+            int score = (int) (matched[start] >>> 32);
+            int end = start;
+            BitSet group = new BitSet(this.size);
+            while (end < matched.length && (int) (matched[end] >>> 32) == score) {
+                IntList taskIndices = this.wordsById.get((int) matched[end]).taskIndices;
+                for (int i = 0; i < taskIndices.size; i++) {
+                    group.set(taskIndices.values[i]);
+                }
+                end++;
+            }
+            group.andNot(seen);
+            for (int i = group.nextSetBit(0); i >= 0 && ranked.size < maxResults; i = group.nextSetBit(i + 1)) {
+                ranked.add(i);
+            }
+            seen.or(group);
+            start = end;
+        }
+        return new Matches(Arrays.copyOf(ranked.values, ranked.size), seen.cardinality());
+    }
+
+    /**
+     * Gets the maximum edit distance for a fuzzy match, which grows with the length of the keyword.
+     *
+     * @param query Lowercased keyword.
+     * @return Maximum edit distance.
+     */
+    private static int maxDistance(String query) {
+        return query.length() <= 4 ? 1 : 2;
+    }
+
+    /**
+     * Splits a word into its trigrams, each packed into a long, after adding boundary chars.
+     *
+     * @param text Lowercased word.
+     * @param hasEndBoundary Whether to add a boundary char after the word, as well as before it.
+     * @return Distinct packed trigrams.
+     */
+    private static long[] trigramsOf(String text, boolean hasEndBoundary) {
+        String padded = BOUNDARY + text + (hasEndBoundary ? String.valueOf(BOUNDARY) : "");
+        long[] result = new long[Math.max(0, padded.length() - 2)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        // Repeated trigrams (eg: in "aaaa") are counted once, so that shared counts stay comparable
+        Arrays.sort(result);
+        int numDistinct = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[numDistinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, numDistinct);
+    }
+
+    /**
+     * Computes the Levenshtein distance between two words, giving up once it exceeds a limit.
+     *
+     * @param first First word.
+     * @param second Second word.
+     * @param maxDistance Largest distance of interest.
+     * @return Edit distance, or -1 if it is larger than {@code maxDistance}.
+     */
+    private static int editDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return -1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int cost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        int distance = previous[second.length()];
+        return distance <= maxDistance ? distance : -1;
+    }
+}
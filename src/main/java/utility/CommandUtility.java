@@ -1,7 +1,11 @@
 package utility;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.BitSet;
 
 import exceptions.BrockException;
 import task.TaskList;
@@ -11,6 +15,9 @@ import task.TaskList;
  *      to reduce code duplication
  */
 public class CommandUtility {
+    // Format of times entered by the user (eg: 1800)
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HHmm");
+
     /**
      * Enum used to represent due, start and end dateTimes.
      * To help validate dateTimes of deadline and event commands.
@@ -37,15 +44,110 @@ public class CommandUtility {
     }
 
     /**
-     * Gets the task index of a {@code Task} object in the task list.
-     * From a command that specifies a task number.
+     * Gets the task indices of {@code Task} objects in the task list.
+     * From a command that specifies a task selector, which is one of:
+     * {@code all}, {@code done}, or a comma separated list of task numbers and ranges (eg: {@code 1,4,9-12}).
      *
      * @param command Command to be examined.
-     * @return Task index obtained.
+     * @param tasks {@code TaskList} object that stores the current tasks.
+     * @return Selected task indices, sorted in ascending order without duplicates.
+     * @throws BrockException If the selector is malformed, refers to a task number that does not exist,
+     *      or does not select any task.
+     */
+    public static int[] getTaskIndices(String command, TaskList tasks) throws BrockException {
+        String selector = command.split(" ", 2)[1];
+        int totalTasks = tasks.numTasks();
+        BitSet selected = new BitSet(totalTasks);
+
+        if (selector.equalsIgnoreCase("all")) {
+            selected.set(0, totalTasks);
+        } else if (selector.equalsIgnoreCase("done")) {
+            for (int i = 0; i < totalTasks; i++) {
+                if (tasks.getTask(i).getStatusIcon() == 'X') {
+                    selected.set(i);
+                }
+            }
+        } else {
+            for (String item : selector.split(",")) {
+                CommandUtility.selectItem(item, totalTasks, selected);
+            }
+        }
+
+        if (selected.isEmpty()) {
+            throw new BrockException("No tasks match the task selector!");
+        }
+        return selected.stream().toArray();
+    }
+
+    /**
+     * Selects the task indices referred to by a single item of a task selector.
+     *
+     * @param item Either a task number (eg: {@code 12}) or a task number range (eg: {@code 3-500}).
+     * @param totalTasks Current number of tasks.
+     * @param selected Selected task indices so far, to be updated.
+     * @throws BrockException If the item is malformed, or refers to a task number that does not exist.
+     */
+    private static void selectItem(String item, int totalTasks, BitSet selected) throws BrockException {
+        String[] bounds = item.split("-", -1);
+        if (bounds.length > 2 || CommandUtility.isNotInteger(bounds[0])
+                || (bounds.length == 2 && CommandUtility.isNotInteger(bounds[1]))) {
+            throw new BrockException("Invalid task selector: " + item + "!");
+        }
+
+        int startNumber = Integer.parseInt(bounds[0]);
+        int endNumber = bounds.length == 2
+                ? Integer.parseInt(bounds[1])
+                : startNumber;
+        if (startNumber > endNumber) {
+            throw new BrockException("Start of task range cannot be after its end: " + item + "!");
+        }
+        if (startNumber < 1 || endNumber > totalTasks) {
+            throw new BrockException("Task number does not exist!");
+        }
+        // BitSet range is [from, to), task numbers are 1-indexed
+        selected.set(startNumber - 1, endNumber);
+    }
+
+    /**
+     * Converts task indices into task numbers, as displayed to the user.
+     *
+     * @param taskIndices Task indices to be converted.
+     * @return Corresponding task numbers.
      */
-    public static int getTaskIndex(String command) {
-        char taskNumber = command.charAt(command.length() - 1);
-        return Character.getNumericValue(taskNumber) - 1;
+    public static int[] toTaskNumbers(int[] taskIndices) {
+        int[] taskNumbers = new int[taskIndices.length];
+        for (int i = 0; i < taskIndices.length; i++) {
+            taskNumbers[i] = taskIndices[i] + 1;
+        }
+        return taskNumbers;
+    }
+
+    /**
+     * Converts task numbers into the shortest equivalent task selector.
+     * Consecutive task numbers are collapsed into ranges.
+     *
+     * @param taskNumbers Task numbers sorted in ascending order.
+     * @return Task selector (eg: {@code 1,4,9-12}).
+     */
+    public static String toTaskSelector(int[] taskNumbers) {
+        assert taskNumbers.length > 0 : "Cannot create a task selector without task numbers.";
+        StringBuilder selector = new StringBuilder();
+        int i = 0;
+        while (i < taskNumbers.length) {
+            int j = i;
+            while (j + 1 < taskNumbers.length && taskNumbers[j + 1] == taskNumbers[j] + 1) {
+                j++;
+            }
+            if (!selector.isEmpty()) {
+                selector.append(',');
+            }
+            selector.append(taskNumbers[i]);
+            if (j > i) {
+                selector.append('-').append(taskNumbers[j]);
+            }
+            i = j + 1;
+        }
+        return selector.toString();
     }
 
     /**
@@ -105,8 +207,7 @@ public class CommandUtility {
                     + label + "time is not a number!");
         } else {
             try {
-                LocalTime.parse(timeString,
-                        java.time.format.DateTimeFormatter.ofPattern("HHmm"));
+                LocalTime.parse(timeString, TIME_FORMATTER);
             } catch (DateTimeParseException e) {
                 throw new BrockException("Time must be in HHmm format and between 0000 and 2359!");
             }
@@ -166,27 +267,36 @@ public class CommandUtility {
         if (commandLength == 1) {
             throw new BrockException("Missing task number!");
         }
-        if (commandLength > 2 || CommandUtility.isNotInteger(commandWords[1])) {
+        if (commandLength > 2) {
             throw new BrockException(label
-                    + " command is in the form "
-                    + label
-                    + " <task-number>!");
+                    + "command is in the form "
+                    + label.trim().toLowerCase()
+                    + " <task-number | range | list | all | done>!\n"
+                    + "Eg: 12, 3-5, 1,4,9");
         }
     }
 
     /**
-     * Checks if task number specified is valid (for mark, unmark or delete).
+     * Gets the file named in a command (for export or import),
+     * relative to the directory the chatbot was started from.
      *
-     * @param commandWords Command to be checked.
-     * @param tasks {@code TaskList} object that stores the current tasks in an {@code ArrayList}.
-     * @throws BrockException If task number is not valid.
+     * @param command Command string, with the file after the command word.
+     * @param label String indication of which command it is.
+     * @return Path of the file.
+     * @throws BrockException If the file is missing or not a valid path.
      */
-    public static void validateTaskNumber(String[] commandWords, TaskList tasks) throws BrockException {
-        int taskNumber = Integer.parseInt(commandWords[1]);
-        int totalTasks = tasks.numTasks();
-        if (taskNumber > totalTasks || taskNumber < 1) {
-            throw new BrockException("Task number does not exist!");
+    public static Path getFilePath(String command, String label) throws BrockException {
+        String[] parts = command.trim().split(" ", 2);
+        if (parts.length < 2 || parts[1].isBlank()) {
+            throw new BrockException(label
+                    + "command is in the form "
+                    + label.trim().toLowerCase()
+                    + " <file>, where file ends with .csv or .jsonl!");
+        }
+        try {
+            return Path.of(parts[1].strip());
+        } catch (InvalidPathException e) {
+            throw new BrockException("File name is not valid!");
         }
     }
-
 }
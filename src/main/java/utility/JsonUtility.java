@@ -0,0 +1,52 @@
+package utility;
+
+/**
+ * Class with commonly used utility functions for encoding JSON
+ *      without pulling in a JSON library.
+ */
+public class JsonUtility {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Appends a string to the builder as a quoted, escaped JSON string.
+     *
+     * @param builder Builder to append to.
+     * @param value String to be encoded.
+     * @return The same builder, for chaining.
+     */
+    public static StringBuilder appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            // CHECKSTYLE.OFF: Indentation
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        builder.append("\\u00")
+                                .append(HEX_DIGITS[c >> 4])
+                                .append(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+            // CHECKSTYLE.ON: Indentation
+        }
+        return builder.append('"');
+    }
+
+    /**
+     * Encodes a string as a quoted, escaped JSON string.
+     *
+     * @param value String to be encoded.
+     * @return Encoded JSON string.
+     */
+    public static String toJsonString(String value) {
+        return JsonUtility.appendString(new StringBuilder(value.length() + 2), value).toString();
+    }
+}
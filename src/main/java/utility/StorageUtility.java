@@ -1,8 +1,11 @@
 package utility;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.zip.CRC32;
 
 import exceptions.BrockException;
 
@@ -11,6 +14,14 @@ import exceptions.BrockException;
  *      to reduce code duplication.
  */
 public class StorageUtility {
+    public static final char CHECKSUM_SEPARATOR = '\t';
+    public static final int CHECKSUM_LENGTH = 8;
+    // Offset of the status icon from the ". " after the task number, as in "1. [T][X] ..."
+    public static final int STATUS_OFFSET = 6;
+    // Format of dates in task strings, as shown and as saved (eg: Oct 10 2024)
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy");
+
+
     /**
      * Removes closing bracket from the body string of each task.
      * So that the correct date or time can be extracted for deadline and event tasks.
@@ -29,18 +40,154 @@ public class StorageUtility {
     }
 
     /**
-     * Parses date from "MMM dd yyyy format" into "yyyy-mm-dd" format.
+     * Parses date from "MMM dd yyyy" format.
      *
      * @param targetDate Date string to be parsed.
-     * @return Parsed date string.
+     * @return Parsed date.
+     * @throws BrockException If the date string is not in that format.
      */
-    public static String parseDate(String targetDate) throws BrockException {
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
+    public static LocalDate parseDate(String targetDate) throws BrockException {
         try {
-            return LocalDate.parse(targetDate, dateFormatter)
-                    .toString();
+            return LocalDate.parse(targetDate, DATE_FORMATTER);
         } catch (DateTimeParseException e) {
             throw new BrockException("Invalid deadline/event entry - date format is wrong!");
         }
     }
+
+    /**
+     * Parses time from "HH:mm" format.
+     *
+     * @param targetTime Time string to be parsed.
+     * @return Parsed time.
+     * @throws BrockException If the time string is not in that format.
+     */
+    public static LocalTime parseTime(String targetTime) throws BrockException {
+        try {
+            return LocalTime.parse(targetTime);
+        } catch (DateTimeParseException e) {
+            throw new BrockException("Invalid deadline/event entry - time format is wrong!");
+        }
+    }
+
+    /**
+     * Finds the index of the status icon in a task string.
+     *
+     * @param taskString Task string, as in the save file.
+     * @return Index of the status icon, or -1 if the task string is too short to have one.
+     */
+    public static int findStatusIndex(String taskString) {
+        int numberEnd = taskString.indexOf(". ");
+        if (numberEnd < 0 || numberEnd + STATUS_OFFSET >= taskString.length()) {
+            return -1;
+        }
+        return numberEnd + STATUS_OFFSET;
+    }
+
+    /**
+     * Counts the bytes a part of a string takes up when encoded as UTF-8.
+     * Unpaired surrogates count as 1 byte, as they are replaced by {@code ?} when encoded.
+     *
+     * @param text Text to be measured.
+     * @param start Index of the first char.
+     * @param end Index after the last char.
+     * @return Number of bytes.
+     */
+    public static long getUtf8Length(CharSequence text, int start, int end) {
+        long length = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Computes the checksum of a task string.
+     * The status icon is left out, so that marking a task does not change its checksum.
+     *
+     * @param taskString Task string, without a checksum.
+     * @return Checksum, as 8 hexadecimal digits.
+     */
+    public static String computeChecksum(String taskString) {
+        byte[] bytes = taskString.getBytes(StandardCharsets.UTF_8);
+        // Everything before the status icon is ASCII, so its char index is also its byte index
+        long checksum = computeChecksum(bytes, 0, bytes.length, findStatusIndex(taskString));
+        String hex = Long.toHexString(checksum);
+        return "0".repeat(CHECKSUM_LENGTH - hex.length()) + hex;
+    }
+
+    /**
+     * Computes the checksum of a task string encoded as UTF-8, without decoding it.
+     *
+     * @param bytes Bytes holding the task string.
+     * @param start Index of the first byte of the task string.
+     * @param end Index after the last byte of the task string, excluding its checksum.
+     * @param statusIndex Index of the status icon, to be left out, or -1 if there is none.
+     * @return Checksum value.
+     */
+    public static long computeChecksum(byte[] bytes, int start, int end, int statusIndex) {
+        CRC32 crc = new CRC32();
+        if (statusIndex < 0) {
+            crc.update(bytes, start, end - start);
+        } else {
+            crc.update(bytes, start, statusIndex - start);
+            crc.update(bytes, statusIndex + 1, end - statusIndex - 1);
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Appends a checksum to every line of save file content.
+     *
+     * @param content Lines of task strings, each ending with a newline.
+     * @return The same lines, each with a tab and its checksum before the newline.
+     */
+    public static String addChecksums(String content) {
+        StringBuilder result = new StringBuilder(content.length() + content.length() / 8);
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = content.indexOf('\n', lineStart)) >= 0) {
+            String line = content.substring(lineStart, lineEnd);
+            result.append(line).append(CHECKSUM_SEPARATOR)
+                    .append(computeChecksum(line)).append('\n');
+            lineStart = lineEnd + 1;
+        }
+        // Content is always whole lines, but keep any unterminated tail as is
+        return result.append(content, lineStart, content.length()).toString();
+    }
+
+    /**
+     * Verifies and removes the checksum of a line from the save file.
+     * Lines written before checksums were introduced have no tab at all, and are returned as is.
+     *
+     * @param line Line from the save file.
+     * @return Task string without the checksum.
+     * @throws BrockException If the checksum is malformed, or does not match the task string.
+     */
+    public static String removeChecksum(String line) throws BrockException {
+        if (line.indexOf(CHECKSUM_SEPARATOR) < 0) {
+            return line;
+        }
+        int separatorIndex = line.length() - CHECKSUM_LENGTH - 1;
+        if (separatorIndex < 0 || line.charAt(separatorIndex) != CHECKSUM_SEPARATOR) {
+            throw new BrockException("Invalid task entry - checksum is malformed!");
+        }
+        String taskString = line.substring(0, separatorIndex);
+        String checksum = line.substring(separatorIndex + 1);
+        if (!checksum.equals(computeChecksum(taskString))) {
+            throw new BrockException("Invalid task entry - checksum does not match!");
+        }
+        return taskString;
+    }
 }
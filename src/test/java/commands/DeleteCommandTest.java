@@ -0,0 +1,47 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+
+public class DeleteCommandTest extends BaseCommandTest {
+    @Test
+    public void execute_missingNumber_throwsException() {
+        DeleteCommand dc = new DeleteCommand("delete");
+        assertThrows(BrockException.class, () ->
+                dc.execute(this.taskStorage, this.tempStorage, this.tasks));
+    }
+
+    @Test
+    public void execute_doneSelector_deletesCompletedTasks() {
+        assertDoesNotThrow(() -> {
+            for (int i = 1; i <= 4; i++) {
+                new TodoCommand("todo task " + i).execute(this.taskStorage, this.tempStorage, this.tasks);
+            }
+            new MarkCommand("mark 2,4").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new DeleteCommand("delete done").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        String expectedOutput = """
+                Here are the tasks in your list:
+                1. [T][ ] task 1\s
+                2. [T][ ] task 3\s
+                """;
+        String rawOutput = new ListCommand("list").execute(this.taskStorage, this.tempStorage, this.tasks);
+        assertEquals(expectedOutput, this.removeQuirkyResponse(rawOutput));
+    }
+
+    @Test
+    public void execute_noCompletedTasks_throwsException() {
+        TodoCommand tc = new TodoCommand("todo borrow book");
+        assertDoesNotThrow(() -> tc.execute(this.taskStorage, this.tempStorage, this.tasks));
+
+        DeleteCommand dc = new DeleteCommand("delete done");
+        assertThrows(BrockException.class, () ->
+                dc.execute(this.taskStorage, this.tempStorage, this.tasks));
+    }
+}
@@ -0,0 +1,112 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+
+public class FindCommandTest extends BaseCommandTest {
+    @Test
+    public void execute_singleMatch_correctResponse() {
+        assertDoesNotThrow(() -> {
+            new TodoCommand("todo borrow book").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new TodoCommand("todo buy pen").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        String expectedOutput = """
+                Here is the matching task in your list:
+                1. [T][ ] borrow book\s
+                """;
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new FindCommand("find book").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+    }
+
+    @Test
+    public void execute_noMatch_correctResponse() {
+        String expectedOutput = """
+                Here are the matching tasks in your list:
+                No matching tasks!
+                """;
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new FindCommand("find book").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+    }
+
+    @Test
+    public void execute_fuzzyFlag_matchesTypo() {
+        assertDoesNotThrow(() -> {
+            new TodoCommand("todo borrow Book").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        String expectedOutput = """
+                Here is the matching task in your list:
+                1. [T][ ] borrow Book\s
+                """;
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new FindCommand("find /f bokk").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+    }
+
+    @Test
+    public void execute_booleanSearch_matchesInListOrder() {
+        assertDoesNotThrow(() -> {
+            new TodoCommand("todo borrow book").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new TodoCommand("todo book club").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new TodoCommand("todo return Book").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        String expectedOutput = """
+                Here are the matching tasks in your list:
+                1. [T][ ] borrow book\s
+                2. [T][ ] book club\s
+                """;
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new FindCommand("find book NOT return").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+    }
+
+    @Test
+    public void execute_singleOrCombinedKeyword_onlyCombinedIgnoresCase() {
+        assertDoesNotThrow(() -> {
+            new TodoCommand("todo borrow book").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new TodoCommand("todo buy pen").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        final String[] temp = new String[3];
+        assertDoesNotThrow(() -> {
+            temp[0] = new FindCommand("find Book").execute(this.taskStorage, this.tempStorage, this.tasks);
+            temp[1] = new FindCommand("find Book OR ink").execute(this.taskStorage, this.tempStorage, this.tasks);
+            temp[2] = new FindCommand("find OR").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals("Here are the matching tasks in your list:\nNo matching tasks!\n",
+                this.removeQuirkyResponse(temp[0]));
+        assertEquals("Here is the matching task in your list:\n1. [T][ ] borrow book \n",
+                this.removeQuirkyResponse(temp[1]));
+        assertEquals("Here are the matching tasks in your list:\nNo matching tasks!\n",
+                this.removeQuirkyResponse(temp[2]));
+    }
+
+    @Test
+    public void execute_invalidFlagOrMissingKeyword_throwsException() {
+        assertThrows(BrockException.class, () ->
+                new FindCommand("find /x book").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new FindCommand("find /p").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new FindCommand("find book AND").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new FindCommand("find /i book pen").execute(this.taskStorage, this.tempStorage, this.tasks));
+    }
+}
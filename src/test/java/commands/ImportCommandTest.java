@@ -0,0 +1,51 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+
+public class ImportCommandTest extends BaseCommandTest {
+    @Test
+    public void execute_afterExport_restoresTasks() throws Exception {
+        Path file = Files.createTempFile("brock-tasks", ".jsonl");
+        assertDoesNotThrow(() -> {
+            new TodoCommand("todo borrow book").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new DeadlineCommand("deadline return book /by 2999-10-10 2300").execute(this.taskStorage, this.tempStorage,
+                    this.tasks);
+            new MarkCommand("mark 2").execute(this.taskStorage, this.tempStorage, this.tasks);
+            new ExportCommand("export " + file).execute(this.taskStorage, this.tempStorage, this.tasks);
+            new DeleteCommand("delete 1").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        String expectedOutput = "Imported 2 tasks from " + file + "!\n"
+                + "Now you have 3 tasks in the list.\n";
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new ImportCommand("import " + file).execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        Files.delete(file);
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+        assertEquals("""
+                1. [D][X] return book (by: Oct 10 2999, 23:00)
+                2. [T][ ] borrow book\s
+                3. [D][X] return book (by: Oct 10 2999, 23:00)
+                """, this.tasks.listTasks());
+    }
+
+    @Test
+    public void execute_missingOrUnsupportedFile_throwsException() {
+        assertThrows(BrockException.class, () ->
+                new ImportCommand("import").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new ImportCommand("import tasks.txt").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new ExportCommand("export ").execute(this.taskStorage, this.tempStorage, this.tasks));
+    }
+}
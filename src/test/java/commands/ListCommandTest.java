@@ -2,22 +2,29 @@ package commands;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import com.sun.management.ThreadMXBean;
+import task.ToDo;
+
 public class ListCommandTest extends BaseCommandTest {
     private static final ListCommand LIST_COMMAND = new ListCommand("list");
 
     @Test
     public void execute_singleTask_correctResponse() {
         TodoCommand tc = new TodoCommand("todo borrow book");
-        assertDoesNotThrow(() -> tc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS));
+        assertDoesNotThrow(() -> tc.execute(this.taskStorage, this.tempStorage, this.tasks));
 
         String expectedOutput = """
                 Here is the task in your list:
                 1. [T][ ] borrow book\s
                 """;
-        String rawOutput = LIST_COMMAND.execute(TASK_STORAGE, TEMP_STORAGE, TASKS);
+        String rawOutput = LIST_COMMAND.execute(this.taskStorage, this.tempStorage, this.tasks);
         String processedOutput = this.removeQuirkyResponse(rawOutput);
         assertEquals(expectedOutput, processedOutput);
     }
@@ -28,8 +35,51 @@ public class ListCommandTest extends BaseCommandTest {
                 Here are the tasks in your list:
                 No current tasks!
                 """;
-        String rawOutput = LIST_COMMAND.execute(TASK_STORAGE, TEMP_STORAGE, TASKS);
+        String rawOutput = LIST_COMMAND.execute(this.taskStorage, this.tempStorage, this.tasks);
         String processedOutput = this.removeQuirkyResponse(rawOutput);
         assertEquals(expectedOutput, processedOutput);
     }
+
+    @Test
+    public void execute_afterLargerResponse_noLeftoverText() {
+        assertDoesNotThrow(() -> {
+            for (int i = 1; i <= 3; i++) {
+                new TodoCommand("todo book " + i).execute(this.taskStorage, this.tempStorage, this.tasks);
+            }
+        });
+        LIST_COMMAND.execute(this.taskStorage, this.tempStorage, this.tasks);
+        this.tasks.removeFromList(new int[]{1, 2});
+
+        String expectedOutput = """
+                Here is the task in your list:
+                1. [T][ ] book 1\s
+                """;
+        String rawOutput = LIST_COMMAND.execute(this.taskStorage, this.tempStorage, this.tasks);
+        assertEquals(expectedOutput, this.removeQuirkyResponse(rawOutput));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_largeList_reportsAllocatedBytes() {
+        int numTasks = 100_000;
+        for (int i = 0; i < numTasks; i++) {
+            this.tasks.addToList(new ToDo("task number " + i + " "));
+        }
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        int runs = 20;
+        int responseLength = 0;
+        for (int warmup = 0; warmup < runs; warmup++) {
+            LIST_COMMAND.execute(this.taskStorage, this.tempStorage, this.tasks);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < runs; i++) {
+            responseLength = LIST_COMMAND.execute(this.taskStorage, this.tempStorage, this.tasks).length();
+        }
+        long allocatedPerList = (threads.getCurrentThreadAllocatedBytes() - before) / runs;
+
+        System.out.printf("list of %d tasks: %d chars, ~%d bytes allocated (%.1f bytes per response char)%n",
+                numTasks, responseLength, allocatedPerList, (double) allocatedPerList / responseLength);
+        assertTrue(responseLength > 0);
+    }
 }
@@ -13,20 +13,20 @@ public class MarkCommandTest extends BaseCommandTest {
     public void execute_missingNumber_throwsException() {
         MarkCommand mc = new MarkCommand("mark");
         assertThrows(BrockException.class, () ->
-                mc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS));
+                mc.execute(this.taskStorage, this.tempStorage, this.tasks));
     }
 
     @Test
     public void execute_invalidNumber_throwsException() {
         MarkCommand mc = new MarkCommand("mark 5");
         assertThrows(BrockException.class, () ->
-                mc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS));
+                mc.execute(this.taskStorage, this.tempStorage, this.tasks));
     }
 
     @Test
     public void execute_unmarkedTask_marksTask() {
         TodoCommand tc = new TodoCommand("todo borrow book");
-        assertDoesNotThrow(() -> tc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS));
+        assertDoesNotThrow(() -> tc.execute(this.taskStorage, this.tempStorage, this.tasks));
 
         String expectedOutput = """
                 Nice! I've marked this task as done:
@@ -38,10 +38,54 @@ public class MarkCommandTest extends BaseCommandTest {
         final String[] temp = new String[1];
         MarkCommand mc = new MarkCommand("mark 1");
         assertDoesNotThrow(() -> {
-            String rawOutput = mc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS);
+            String rawOutput = mc.execute(this.taskStorage, this.tempStorage, this.tasks);
             String processedOutput = this.removeQuirkyResponse(rawOutput);
             temp[0] = processedOutput;
         });
         assertEquals(expectedOutput, temp[0]);
     }
+
+    @Test
+    public void execute_multiDigitNumber_marksCorrectTask() {
+        assertDoesNotThrow(() -> {
+            for (int i = 1; i <= 12; i++) {
+                new TodoCommand("todo task " + i).execute(this.taskStorage, this.tempStorage, this.tasks);
+            }
+            new MarkCommand("mark 12").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals('X', this.tasks.getTask(11).getStatusIcon());
+        assertEquals(' ', this.tasks.getTask(1).getStatusIcon());
+    }
+
+    @Test
+    public void execute_rangeAndList_marksSelectedTasks() {
+        assertDoesNotThrow(() -> {
+            for (int i = 1; i <= 6; i++) {
+                new TodoCommand("todo task " + i).execute(this.taskStorage, this.tempStorage, this.tasks);
+            }
+            new MarkCommand("mark 1,3-4").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        String expectedOutput = """
+                Here are the tasks in your list:
+                1. [T][X] task 1\s
+                2. [T][ ] task 2\s
+                3. [T][X] task 3\s
+                4. [T][X] task 4\s
+                5. [T][ ] task 5\s
+                6. [T][ ] task 6\s
+                """;
+        String rawOutput = new ListCommand("list").execute(this.taskStorage, this.tempStorage, this.tasks);
+        assertEquals(expectedOutput, this.removeQuirkyResponse(rawOutput));
+    }
+
+    @Test
+    public void execute_invalidRange_throwsException() {
+        TodoCommand tc = new TodoCommand("todo borrow book");
+        assertDoesNotThrow(() -> tc.execute(this.taskStorage, this.tempStorage, this.tasks));
+
+        MarkCommand mc = new MarkCommand("mark 1-3");
+        assertThrows(BrockException.class, () ->
+                mc.execute(this.taskStorage, this.tempStorage, this.tasks));
+    }
 }
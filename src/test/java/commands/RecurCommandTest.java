@@ -0,0 +1,69 @@
+package commands;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+
+public class RecurCommandTest extends BaseCommandTest {
+    @Test
+    public void execute_weeklyRepeat_savedAsSingleTask() {
+        String expectedOutput = """
+                Got it. I've added this recurring task:
+                  [R][ ] standup (every: 2 weeks on: MON WED | from: Jan 01 2999, 09:30 | until: Dec 31 2999)
+                Now you have 1 task in the list.
+                """;
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new RecurCommand("recur standup /every 2 weeks /on mon,wed /from 2999-01-01 0930 "
+                    + "/until 2999-12-31").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+        assertEquals(1, this.tasks.numTasks());
+    }
+
+    @Test
+    public void execute_dueAfterRecur_listsOccurrencesByDate() {
+        assertDoesNotThrow(() -> {
+            new RecurCommand("recur water plants /every day /times 2")
+                    .execute(this.taskStorage, this.tempStorage, this.tasks);
+            new TodoCommand("todo read book").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+
+        DateTimeFormatter headerFormatter = DateTimeFormatter.ofPattern("EEE MMM dd yyyy");
+        DateTimeFormatter ruleFormatter = DateTimeFormatter.ofPattern("MMM dd yyyy");
+        LocalDate today = LocalDate.now();
+        String details = "  1. [R][ ] water plants (every: day | from: " + today.format(ruleFormatter)
+                + " | times: 2)\n";
+        String expectedOutput = "Here is what is due in the next 7 days:\n"
+                + today.format(headerFormatter) + ":\n" + details
+                + today.plusDays(1).format(headerFormatter) + ":\n" + details;
+        final String[] temp = new String[1];
+        assertDoesNotThrow(() -> {
+            temp[0] = new DueCommand("due").execute(this.taskStorage, this.tempStorage, this.tasks);
+        });
+        assertEquals(expectedOutput, this.removeQuirkyResponse(temp[0]));
+    }
+
+    @Test
+    public void execute_invalidRepeat_throwsException() {
+        assertThrows(BrockException.class, () ->
+                new RecurCommand("recur /every day").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new RecurCommand("recur standup").execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new RecurCommand("recur standup /every day /on mon")
+                        .execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new RecurCommand("recur standup /every week /until 2999-01-01 /times 3")
+                        .execute(this.taskStorage, this.tempStorage, this.tasks));
+        assertThrows(BrockException.class, () ->
+                new DueCommand("due 0").execute(this.taskStorage, this.tempStorage, this.tasks));
+    }
+}
@@ -13,23 +13,23 @@ public class UnmarkCommandTest extends BaseCommandTest {
     public void execute_missingNumber_throwsException() {
         UnmarkCommand uc = new UnmarkCommand("unmark");
         assertThrows(BrockException.class, () ->
-                uc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS));
+                uc.execute(this.taskStorage, this.tempStorage, this.tasks));
     }
 
     @Test
     public void execute_invalidNumber_throwsException() {
         UnmarkCommand uc = new UnmarkCommand("unmark 5");
         assertThrows(BrockException.class, () ->
-                uc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS));
+                uc.execute(this.taskStorage, this.tempStorage, this.tasks));
     }
 
     @Test
     public void execute_markedTask_unmarksTask() {
         TodoCommand tc = new TodoCommand("todo borrow book");
         assertDoesNotThrow(() -> {
-            tc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS);
+            tc.execute(this.taskStorage, this.tempStorage, this.tasks);
             MarkCommand mc = new MarkCommand("mark 1");
-            mc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS);
+            mc.execute(this.taskStorage, this.tempStorage, this.tasks);
         });
 
         String expectedOutput = """
@@ -42,7 +42,7 @@ public class UnmarkCommandTest extends BaseCommandTest {
         final String[] temp = new String[1];
         UnmarkCommand uc = new UnmarkCommand("unmark 1");
         assertDoesNotThrow(() -> {
-            String rawOutput = uc.execute(TASK_STORAGE, TEMP_STORAGE, TASKS);
+            String rawOutput = uc.execute(this.taskStorage, this.tempStorage, this.tasks);
             String processedOutput = this.removeQuirkyResponse(rawOutput);
             temp[0] = processedOutput;
         });
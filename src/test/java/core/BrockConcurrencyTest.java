@@ -0,0 +1,79 @@
+package core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import storage.task.TaskStorage;
+import task.TaskList;
+import utility.Pair;
+
+public class BrockConcurrencyTest {
+    private static final int NUM_CONTEXTS = 32;
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_TASKS = 40;
+
+    private String respond(Brock brock, String command) {
+        Pair<Boolean, String> result = brock.respondToCommand(command).getSecond();
+        assertFalse(result.getFirst(), command + ": " + result.getSecond());
+        return result.getSecond();
+    }
+
+    /**
+     * Runs a session on its own chatbot, relying on its undo state and workspaces not being shared.
+     */
+    private String runSession(int contextNum) throws IOException {
+        TaskStorage taskStorage = TaskStorage.inMemory();
+        taskStorage.createFile();
+        Brock brock = new Brock(taskStorage, new TaskList(new ArrayList<>()));
+        this.respond(brock, "workspace switch side");
+        this.respond(brock, "todo side task " + contextNum);
+        this.respond(brock, "workspace switch default");
+        for (int i = 1; i <= NUM_TASKS; i++) {
+            this.respond(brock, "todo context " + contextNum + " task " + i);
+            this.respond(brock, "mark " + i);
+            if (i % 4 == 0) {
+                this.respond(brock, "todo extra");
+                this.respond(brock, "undo");
+            }
+            if (i % 5 == 0) {
+                this.respond(brock, "unmark 1-" + i);
+                this.respond(brock, "undo");
+            }
+        }
+
+        String listed = brock.getTasks().listTasks();
+        assertEquals(listed, new TaskList(taskStorage.loadTasksFromFile()).listTasks());
+        this.respond(brock, "workspace switch side");
+        assertEquals("1. [T][ ] side task " + contextNum + " \n", brock.getTasks().listTasks());
+        assertEquals(null, brock.closeSaveFile());
+        return listed;
+    }
+
+    @Test
+    public void respondToCommand_manyContextsInParallel_eachKeepsItsOwnState() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+        List<Future<String>> results = new ArrayList<>();
+        for (int c = 0; c < NUM_CONTEXTS; c++) {
+            int contextNum = c;
+            results.add(executor.submit(() -> this.runSession(contextNum)));
+        }
+
+        for (int c = 0; c < NUM_CONTEXTS; c++) {
+            StringBuilder expected = new StringBuilder();
+            for (int i = 1; i <= NUM_TASKS; i++) {
+                expected.append(i).append(". [T][X] context ").append(c).append(" task ").append(i).append(" \n");
+            }
+            assertEquals(expected.toString(), results.get(c).get());
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,38 @@
+package metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void getBucketIndex_everyPowerOfTwo_withinBucketBounds() {
+        for (int power = 0; power < 63; power++) {
+            long value = 1L << power;
+            int bucketIndex = LatencyHistogram.getBucketIndex(value);
+            assertTrue(LatencyHistogram.getBucketLowerBound(bucketIndex) <= value);
+            assertTrue(LatencyHistogram.getBucketLowerBound(bucketIndex + 1) > value);
+        }
+        assertEquals(959, LatencyHistogram.getBucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void getPercentile_uniformValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1_000_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        long median = histogram.getPercentile(50);
+        assertTrue(Math.abs(median - 500_000) <= 500_000 / 16, "median was " + median);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+        assertEquals(1_000_000, histogram.getCount());
+        assertEquals(500_000, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+}
@@ -0,0 +1,204 @@
+package server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import core.Brock;
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import task.TaskList;
+
+public class ApiServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final TaskStorage taskStorage = TaskStorage.inMemory();
+    private final TaskList tasks = new TaskList(new ArrayList<>());
+    private ApiServer server;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        this.taskStorage.createFile();
+        this.server = new ApiServer(new Brock(this.taskStorage, this.tasks));
+        this.server.start(0);
+    }
+
+    @AfterEach
+    public void stopServer() throws BrockException {
+        this.server.stop();
+        this.taskStorage.writeToFile("", false);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + this.server.getPort() + path);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(this.uri(path)).header(ApiServer.TOKEN_HEADER, this.server.getToken());
+    }
+
+    private HttpResponse<String> post(String command) throws Exception {
+        HttpRequest request = this.request("/api/commands")
+                .POST(HttpRequest.BodyPublishers.ofString(command))
+                .build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = this.request(path).GET().build();
+        return this.client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void commands_validCommand_appliedToTasks() throws Exception {
+        HttpResponse<String> response = this.post("todo borrow book");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"isError\":false"));
+        assertEquals(1, this.tasks.numTasks());
+    }
+
+    @Test
+    public void commands_invalidCommand_returnsError() throws Exception {
+        HttpResponse<String> response = this.post("fly away");
+
+        assertEquals(422, response.statusCode());
+        assertTrue(response.body().contains("Unrecognized command!"));
+    }
+
+    @Test
+    public void commands_importOrExport_rejected() throws Exception {
+        HttpResponse<String> importResponse = this.post("import /etc/passwd");
+        HttpResponse<String> exportResponse = this.post("EXPORT /tmp/tasks.txt");
+
+        assertEquals(403, importResponse.statusCode());
+        assertEquals(403, exportResponse.statusCode());
+    }
+
+    @Test
+    public void commands_byeOrWorkspaceSwitch_rejected() throws Exception {
+        assertEquals(403, this.post("bye").statusCode());
+        assertEquals(403, this.post("Workspace switch work").statusCode());
+        assertEquals(200, this.post("workspace list").statusCode());
+    }
+
+    @Test
+    public void commands_missingOrWrongToken_rejected() throws Exception {
+        HttpRequest missing = HttpRequest.newBuilder(this.uri("/api/commands"))
+                .POST(HttpRequest.BodyPublishers.ofString("todo borrow book"))
+                .build();
+        HttpRequest wrong = HttpRequest.newBuilder(this.uri("/api/commands"))
+                .header(ApiServer.TOKEN_HEADER, "guess")
+                .POST(HttpRequest.BodyPublishers.ofString("todo borrow book"))
+                .build();
+
+        assertEquals(401, this.client.send(missing, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(401, this.client.send(wrong, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(0, this.tasks.numTasks());
+    }
+
+    @Test
+    public void commands_otherOrigin_rejected() throws Exception {
+        HttpRequest request = this.request("/api/commands")
+                .header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("todo borrow book"))
+                .build();
+
+        assertEquals(403, this.client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(0, this.tasks.numTasks());
+    }
+
+    @Test
+    public void tasks_pagination_returnsRequestedPage() throws Exception {
+        for (int i = 1; i <= 5; i++) {
+            this.post("todo task " + i);
+        }
+
+        HttpResponse<String> response = this.get("/api/tasks?offset=3&limit=1");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().startsWith("{\"tasks\":[{\"number\":4,"));
+        assertTrue(response.body().endsWith("\"offset\":3,\"limit\":1,\"total\":5}"));
+    }
+
+    @Test
+    public void tasks_keyword_sameTasksAsFind() throws Exception {
+        this.post("todo borrow book");
+        this.post("todo return Book");
+
+        HttpResponse<String> response = this.get("/api/tasks?keyword=Book");
+        String found = this.post("find Book").body();
+
+        assertTrue(response.body().startsWith("{\"tasks\":[{\"number\":2,"));
+        assertTrue(response.body().endsWith("\"total\":1}"));
+        assertTrue(found.contains("1. [T][ ] return Book"));
+        assertFalse(found.contains("borrow book"));
+    }
+
+    @Test
+    public void tasks_negativeOffset_returnsBadRequest() throws Exception {
+        assertEquals(400, this.get("/api/tasks?offset=-1").statusCode());
+    }
+
+    @Test
+    public void export_existingTasks_streamsSaveFileFormat() throws Exception {
+        this.post("todo borrow book");
+        this.post("mark 1");
+
+        HttpResponse<String> response = this.get("/api/export");
+
+        assertEquals("1. [T][X] borrow book \n", response.body());
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_concurrentClients_reportsThroughput() throws Exception {
+        for (int i = 1; i <= 1000; i++) {
+            this.post("todo task " + i);
+        }
+
+        int numRequests = 20_000;
+        AtomicInteger failures = new AtomicInteger();
+        HttpRequest query = this.request("/api/tasks?offset=500&limit=20").GET().build();
+        HttpRequest command = this.request("/api/commands")
+                .POST(HttpRequest.BodyPublishers.ofString("find task"))
+                .build();
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        for (int i = 0; i < numRequests; i++) {
+            // One in ten requests goes through the single writer
+            HttpRequest request = i % 10 == 0 ? command : query;
+            pending.add(this.client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(response -> {
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }));
+            if (pending.size() == 256) {
+                CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+                pending.clear();
+            }
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("ApiServer: %d requests in %.2fs, %.0f requests/s, %d failures%n",
+                numRequests, seconds, numRequests / seconds, failures.get());
+        assertEquals(0, failures.get());
+    }
+}
@@ -0,0 +1,538 @@
+package storage.task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import metrics.MetricsRegistry;
+import task.Task;
+import task.TaskList;
+import task.ToDo;
+import utility.StorageUtility;
+
+// Asserts on process-wide metrics (eg: the number of fsyncs), which other tests, including the other methods
+// of this class, would add to
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+public class TaskStorageTest {
+    private Path directory;
+    private Path saveFile;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("brock-storage");
+        this.saveFile = this.directory.resolve("saveFile.txt");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    private String readSaveFile() throws IOException {
+        // Leave out the checksums, which are covered by their own tests
+        return Files.readString(this.saveFile, StandardCharsets.UTF_8)
+                .replaceAll("\t[0-9a-f]{8}\n", "\n");
+    }
+
+    @Test
+    public void writeToFile_overwriteWithoutWindow_replacesContent() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+
+        taskStorage.writeToFile("1. [T][ ] read book \n", true);
+        taskStorage.writeToFile("1. [T][X] read book \n", false);
+
+        assertEquals("1. [T][X] read book \n", this.readSaveFile());
+        assertFalse(Files.exists(this.directory.resolve("saveFile.txt.tmp")));
+    }
+
+    @Test
+    public void writeToFile_rapidOverwrites_coalescedIntoOneCommit() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 60_000, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+        taskStorage.writeToFile("1. [T][ ] read book \n", true);
+        taskStorage.endCommand();
+        long fsyncsBefore = MetricsRegistry.global().counter("storage.fsyncs").sum();
+
+        taskStorage.writeToFile("1. [T][X] read book \n", false);
+        taskStorage.writeToFile("1. [T][ ] read book \n", false);
+        taskStorage.writeToFile("2. [T][ ] return book \n", true);
+
+        // Nothing is committed until the window passes or the storage is flushed
+        assertEquals("1. [T][ ] read book \n", this.readSaveFile());
+
+        taskStorage.close();
+
+        assertEquals("1. [T][ ] read book \n2. [T][ ] return book \n", this.readSaveFile());
+        assertEquals(fsyncsBefore + 1, MetricsRegistry.global().counter("storage.fsyncs").sum());
+    }
+
+    @Test
+    public void loadTasksFromFile_afterOverwrite_readsCommittedTasks() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 60_000, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+
+        taskStorage.writeToFile("1. [T][X] read book \n", false);
+        taskStorage.flush();
+
+        assertEquals(1, new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND).loadTasksFromFile().size());
+    }
+
+    @Test
+    public void writeToFile_appendPerCommand_writtenAtEndOfCommand() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+
+        taskStorage.writeToFile("1. [T][ ] read book \n", true);
+        assertEquals("", this.readSaveFile());
+
+        taskStorage.endCommand();
+        assertEquals("1. [T][ ] read book \n", this.readSaveFile());
+        taskStorage.close();
+    }
+
+    @Test
+    public void writeToFile_appendOnExit_writtenOnlyOnClose() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.ON_EXIT);
+        taskStorage.createFile();
+
+        taskStorage.writeToFile("1. [T][ ] read book \n", true);
+        taskStorage.endCommand();
+        assertEquals("", this.readSaveFile());
+
+        taskStorage.close();
+        assertEquals("1. [T][ ] read book \n", this.readSaveFile());
+    }
+
+    @Test
+    public void writeToFile_appendAfterOverwrite_appendsToNewFile() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+        taskStorage.writeToFile("1. [T][ ] read book \n", true);
+        taskStorage.endCommand();
+
+        // Replaces the file the append channel was opened on
+        taskStorage.writeToFile("1. [T][X] read book \n", false);
+        taskStorage.writeToFile("2. [T][ ] return book \n", true);
+        taskStorage.close();
+
+        assertEquals("1. [T][X] read book \n2. [T][ ] return book \n", this.readSaveFile());
+    }
+
+    @Test
+    public void loadTasksFromFile_corruptedLines_quarantinedAndValidTasksKept() throws Exception {
+        Files.writeString(this.saveFile, StorageUtility.addChecksums("1. [T][ ] read book \n")
+                + "2. [D][ ] return book (by: Someday)\n"
+                + StorageUtility.addChecksums("3. [T][X] buy pen \n"), StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        ArrayList<Task> tasks = taskStorage.loadTasksFromFile();
+
+        assertEquals(2, tasks.size());
+        assertEquals("buy pen ", tasks.get(1).getDescription());
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 2: Invalid deadline/event entry"));
+        assertEquals("1. [T][ ] read book \n2. [T][X] buy pen \n", this.readSaveFile());
+        assertEquals("2\t2. [D][ ] return book (by: Someday)\n",
+                Files.readString(this.directory.resolve("saveFile.txt.quarantine"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void loadTasksFromFile_checksumMismatch_lineQuarantined() throws Exception {
+        String sealedLine = StorageUtility.addChecksums("1. [T][ ] read book \n");
+        Files.writeString(this.saveFile, sealedLine.replace("read", "reap"), StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        assertEquals(0, taskStorage.loadTasksFromFile().size());
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 1: Invalid task entry - checksum does not match!"));
+    }
+
+    @Test
+    public void loadTasksFromFile_linesWithoutChecksums_loaded() throws Exception {
+        Files.writeString(this.saveFile, "1. [T][ ] read book \n2. [T][X] buy pen \n", StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        assertEquals(2, taskStorage.loadTasksFromFile().size());
+        assertNull(taskStorage.getCorruptionReport());
+    }
+
+    @Test
+    public void loadTasksLazily_validLines_sameTasksAsEagerLoad() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+        taskStorage.writeToFile("1. [T][ ] read book \n2. [D][X] return book (by: Dec 31 2999, 18:00)\n"
+                + "3. [E][ ] fair (from: Dec 30 2999 | to: Dec 31 2999)\n", false);
+        // Older line without a checksum
+        Files.writeString(this.saveFile, "4. [T][X] buy pen \n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        ArrayList<Task> lazyTasks = taskStorage.loadTasksLazily();
+        ArrayList<Task> eagerTasks = taskStorage.loadTasksFromFile();
+
+        assertNull(taskStorage.getCorruptionReport());
+        assertEquals(new TaskList(eagerTasks).listTasks(), new TaskList(lazyTasks).listTasks());
+        assertEquals('X', lazyTasks.get(1).withStatus(true).getStatusIcon());
+        assertEquals(' ', lazyTasks.get(1).withStatus(false).getStatusIcon());
+    }
+
+    @Test
+    public void loadTasksLazily_legacyNonUtf8Lines_sameTasksAsEagerLoad() throws Exception {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.write(StorageUtility.addChecksums("1. [T][ ] caf\u00e9 \n").replace("\n", "\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+        // Older line without a checksum, written in Latin-1
+        content.write("2. [T][X] na\u00efve \r\n".getBytes(StandardCharsets.ISO_8859_1));
+        Files.write(this.saveFile, content.toByteArray());
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        ArrayList<Task> lazyTasks = taskStorage.loadTasksLazily();
+        ArrayList<Task> eagerTasks = taskStorage.loadTasksFromFile();
+
+        assertNull(taskStorage.getCorruptionReport());
+        assertEquals(new TaskList(eagerTasks).listTasks(), new TaskList(lazyTasks).listTasks());
+        assertEquals("caf\u00e9 ", lazyTasks.get(0).getDescription());
+    }
+
+    @Test
+    public void estimateHeapBytes_lazyTasks_countLinesUntilParsed() throws Exception {
+        Files.writeString(this.saveFile, StorageUtility.addChecksums("1. [T][ ] read book \n2. [T][ ] buy pen \n"),
+                StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        TaskList eagerTasks = new TaskList(taskStorage.loadTasksFromFile());
+        TaskList lazyTasks = new TaskList(taskStorage.loadTasksLazily());
+
+        assertTrue(lazyTasks.estimateHeapBytes() > eagerTasks.estimateHeapBytes());
+        lazyTasks.listTasks();
+        assertEquals(eagerTasks.estimateHeapBytes(), lazyTasks.estimateHeapBytes());
+    }
+
+    @Test
+    public void loadTasksLazily_checksumMismatch_lineQuarantined() throws Exception {
+        String sealedLines = StorageUtility.addChecksums("1. [T][ ] read book \n2. [T][ ] buy pen \n");
+        Files.writeString(this.saveFile, sealedLines.replace("pen", "pin"), StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        assertEquals(1, taskStorage.loadTasksLazily().size());
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 2: Invalid task entry - checksum does not match!"));
+    }
+
+    @Test
+    public void loadTasksFromFile_pastDeadlineAndEvent_loaded() throws Exception {
+        Files.writeString(this.saveFile, StorageUtility.addChecksums("1. [D][ ] return book (by: Jan 02 2020, 18:00)\n"
+                + "2. [E][X] fair (from: Jan 01 2020 | to: Jan 03 2020)\n"), StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        ArrayList<Task> tasks = taskStorage.loadTasksFromFile();
+
+        assertNull(taskStorage.getCorruptionReport());
+        assertEquals("1. [D][ ] return book (by: Jan 02 2020, 18:00)\n"
+                + "2. [E][X] fair (from: Jan 01 2020 | to: Jan 03 2020)\n", new TaskList(tasks).listTasks());
+    }
+
+    @Test
+    public void loadTasksFromFile_recurringTasks_loadedAsSingleEntries() throws Exception {
+        String lines = "1. [R][ ] standup (every: 2 weeks on: MON WED | from: Jan 01 2020, 09:30"
+                + " | until: Dec 31 2999)\n"
+                + "2. [R][X] water plants (every: day | from: Jan 01 2020 | times: 365)\n"
+                + "3. [R][ ] rent (every: month | from: Jan 31 2020)\n";
+        Files.writeString(this.saveFile, StorageUtility.addChecksums(lines + "4. [R][ ] bad (every: fortnight)\n"),
+                StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        ArrayList<Task> tasks = taskStorage.loadTasksFromFile();
+
+        assertEquals(lines, new TaskList(tasks).listTasks());
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 4: Invalid recurring entry - missing start date!"));
+        assertEquals(lines, new TaskList(taskStorage.loadTasksLazily()).listTasks());
+    }
+
+    @Test
+    public void writeStatuses_afterLoad_onlyStatusIconsWritten() throws Exception {
+        // Multi-byte description before the second task, and an older line without a checksum
+        String lines = StorageUtility.addChecksums("1. [T][ ] caf\u00e9 \u2615 \n2. [D][ ] return book "
+                + "(by: Dec 31 2999, 18:00)\n") + "3. [T][X] buy pen \n";
+        Files.writeString(this.saveFile, lines, StandardCharsets.UTF_8);
+        for (boolean isLazy : new boolean[]{false, true}) {
+            TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+            TaskList tasks = new TaskList(isLazy ? taskStorage.loadTasksLazily() : taskStorage.loadTasksFromFile());
+            long fsyncsBefore = MetricsRegistry.global().counter("storage.fsyncs").sum();
+
+            taskStorage.writeStatuses(tasks, tasks.markTasks(new int[]{0, 1}), true);
+            taskStorage.writeStatuses(tasks, tasks.unmarkTasks(new int[]{2}), false);
+            taskStorage.close();
+
+            assertEquals(lines.replace("[ ]", "[X]").replace("[X] buy", "[ ] buy"),
+                    Files.readString(this.saveFile, StandardCharsets.UTF_8));
+            assertEquals(fsyncsBefore, MetricsRegistry.global().counter("storage.fsyncs").sum());
+            assertEquals(tasks.listTasks(), new TaskList(new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND)
+                    .loadTasksFromFile()).listTasks());
+            Files.writeString(this.saveFile, lines, StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void writeStatuses_pendingOverwriteOrAppend_savedCorrectly() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 60_000, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+        TaskList tasks = new TaskList(taskStorage.loadTasksFromFile());
+        taskStorage.writeToFile("1. [T][ ] read book \n2. [T][ ] buy pen \n", false);
+
+        // Still pending, so the whole list is written instead
+        tasks.addToList(new ToDo("read book "));
+        tasks.addToList(new ToDo("buy pen "));
+        taskStorage.writeStatuses(tasks, tasks.markTasks(new int[]{0}), true);
+        taskStorage.flush();
+        assertEquals("1. [T][X] read book \n2. [T][ ] buy pen \n", this.readSaveFile());
+
+        // Appended, but not yet written out
+        tasks.addToList(new ToDo("return book "));
+        taskStorage.writeToFile("3. [T][ ] return book \n", true);
+        taskStorage.writeStatuses(tasks, tasks.markTasks(new int[]{2}), true);
+        taskStorage.close();
+        assertEquals("1. [T][X] read book \n2. [T][ ] buy pen \n3. [T][X] return book \n", this.readSaveFile());
+        assertEquals(tasks.listTasks(), new TaskList(new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND)
+                .loadTasksLazily()).listTasks());
+    }
+
+    @Test
+    public void writeToFile_overwriteAboveThreshold_compressedAndLoaded() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND, 0);
+        taskStorage.createFile();
+        taskStorage.writeToFile("1. [T][ ] read book \n2. [D][ ] return book (by: Dec 31 2999, 18:00)\n", false);
+        TaskList tasks = new TaskList(taskStorage.loadTasksFromFile());
+
+        // Appended as a gzip member of its own, and marked by a rewrite
+        tasks.addToList(new ToDo("buy pen "));
+        taskStorage.writeToFile("3. [T][ ] buy pen \n", true);
+        taskStorage.endCommand();
+        taskStorage.writeStatuses(tasks, tasks.markTasks(new int[]{0}), true);
+        tasks.addToList(new ToDo("buy ink "));
+        taskStorage.writeToFile("4. [T][ ] buy ink \n", true);
+        taskStorage.close();
+
+        byte[] bytes = Files.readAllBytes(this.saveFile);
+        assertEquals(0x1f, bytes[0] & 0xFF);
+        assertEquals(0x8b, bytes[1] & 0xFF);
+        TaskStorage plainStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        assertEquals(tasks.listTasks(), new TaskList(plainStorage.loadTasksFromFile()).listTasks());
+        assertEquals(tasks.listTasks(), new TaskList(plainStorage.loadTasksLazily()).listTasks());
+        assertNull(plainStorage.getCorruptionReport());
+
+        // Rewritten uncompressed, once below the threshold
+        plainStorage.writeToFile(tasks.listTasks(), false);
+        assertEquals(tasks.listTasks(), this.readSaveFile());
+    }
+
+    @Test
+    public void loadTasksFromFile_truncatedCompressedFile_validTasksKept() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND, 0);
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 20_000; i++) {
+            content.append(i).append(". [T][ ] task ").append(i).append(" \n");
+        }
+        taskStorage.writeToFile(content.toString(), false);
+        byte[] bytes = Files.readAllBytes(this.saveFile);
+        Files.write(this.saveFile, Arrays.copyOf(bytes, bytes.length - 100));
+
+        int numTasks = taskStorage.loadTasksFromFile().size();
+
+        assertTrue(numTasks > 0 && numTasks < 20_000, String.valueOf(numTasks));
+        assertTrue(taskStorage.getCorruptionReport().contains("Unable to read the rest of the save file"));
+        assertTrue(taskStorage.getCorruptionReport().contains("Save file was not rewritten"));
+        assertArrayEquals(Arrays.copyOf(bytes, bytes.length - 100), Files.readAllBytes(this.saveFile));
+    }
+
+    @Test
+    public void loadTasksLazily_corruptCompressedFile_saveFileLeftAsIsAndCopied() throws Exception {
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND, 0);
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= 20_000; i++) {
+            content.append(i).append(". [T][ ] task ").append(i).append(" \n");
+        }
+        taskStorage.writeToFile(content.toString(), false);
+        byte[] bytes = Files.readAllBytes(this.saveFile);
+        bytes[bytes.length / 2] ^= 0x5a;
+        Files.write(this.saveFile, bytes);
+
+        int numTasks = taskStorage.loadTasksLazily().size();
+
+        assertTrue(numTasks < 20_000, String.valueOf(numTasks));
+        assertTrue(taskStorage.getCorruptionReport().contains("saveFile.txt.unreadable"));
+        assertArrayEquals(bytes, Files.readAllBytes(this.saveFile));
+        assertArrayEquals(bytes, Files.readAllBytes(this.directory.resolve("saveFile.txt.unreadable")));
+        assertFalse(Files.exists(this.directory.resolve("saveFile.txt.quarantine")));
+    }
+
+    @Test
+    public void loadTasksFromFile_damagedChecksumSeparator_lineQuarantined() throws Exception {
+        String sealedLine = StorageUtility.addChecksums("1. [T][ ] read book \n");
+        // A tab replaced within the line, and a checksum missing its last digit
+        Files.writeString(this.saveFile, sealedLine.replace("book \t", "book\t\t")
+                + StorageUtility.addChecksums("2. [T][ ] buy pen \n").replaceAll(".\n", "\n"), StandardCharsets.UTF_8);
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+
+        assertEquals(0, taskStorage.loadTasksLazily().size());
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 1: Invalid task entry - checksum does not match!"));
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 2: Invalid task entry - checksum is malformed!"));
+    }
+
+    @Test
+    public void inMemory_writeAndLoad_sameAsOnDiskWithoutFiles() throws Exception {
+        TaskStorage taskStorage = TaskStorage.inMemory();
+        assertThrows(FileNotFoundException.class, taskStorage::loadTasksFromFile);
+        taskStorage.createFile();
+        taskStorage.writeToFile("1. [T][ ] read book \n2. [D][ ] return book (by: Someday)\n", true);
+        taskStorage.writeToFile("3. [T][ ] buy pen \n", true);
+
+        TaskList tasks = new TaskList(taskStorage.loadTasksFromFile());
+        tasks.markTask(1);
+        taskStorage.writeStatuses(tasks, new int[]{1}, true);
+        TaskStorage sameFile = taskStorage.withSaveFile(Path.of(taskStorage.getSaveFilePath().toString()));
+        TaskStorage otherFile = taskStorage.withSaveFile(this.saveFile);
+
+        assertTrue(taskStorage.getCorruptionReport().contains("Line 2: Invalid deadline/event entry"));
+        assertEquals(tasks.listTasks(), new TaskList(sameFile.loadTasksLazily()).listTasks());
+        assertEquals("1. [T][ ] read book \n2. [T][X] buy pen \n", new TaskList(sameFile.loadTasksFromFile())
+                .listTasks());
+        assertThrows(FileNotFoundException.class, otherFile::loadTasksFromFile);
+        otherFile.createFile();
+        assertEquals(0, otherFile.loadTasksFromFile().size());
+        assertFalse(Files.exists(this.saveFile));
+    }
+
+    @Test
+    public void computeChecksum_statusChanged_checksumUnchanged() {
+        assertEquals(StorageUtility.computeChecksum("12. [T][ ] read book "),
+                StorageUtility.computeChecksum("12. [T][X] read book "));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_bulkAdd_reportsThroughput() throws Exception {
+        int numTasks = 20_000;
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= numTasks; i++) {
+            // Previous behaviour, a new writer per task added
+            FileWriter fw = new FileWriter(this.saveFile.toFile(), true);
+            fw.write(i + ". [T][ ] task " + i + " \n");
+            fw.close();
+        }
+        this.printThroughput("new FileWriter per add", numTasks, start);
+
+        for (FlushPolicy flushPolicy : FlushPolicy.values()) {
+            Files.delete(this.saveFile);
+            TaskStorage taskStorage = new TaskStorage(this.saveFile, 50, flushPolicy);
+            taskStorage.createFile();
+            start = System.nanoTime();
+            for (int i = 1; i <= numTasks; i++) {
+                taskStorage.writeToFile(i + ". [T][ ] task " + i + " \n", true);
+                taskStorage.endCommand();
+            }
+            taskStorage.close();
+            this.printThroughput(flushPolicy.toString(), numTasks, start);
+            assertEquals(numTasks, new TaskStorage(this.saveFile, 0, flushPolicy).loadTasksFromFile().size());
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_eagerVersusLazyLoad_reportsLoadTime() throws Exception {
+        int numTasks = 100_000;
+        TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND);
+        taskStorage.createFile();
+        StringBuilder content = new StringBuilder();
+        for (int i = 1; i <= numTasks; i++) {
+            content.append(i).append(i % 2 == 0
+                    ? ". [D][ ] task " + i + " (by: Dec 31 2999, 18:00)\n"
+                    : ". [T][X] task " + i + " \n");
+        }
+        taskStorage.writeToFile(content.toString(), false);
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            int numEager = taskStorage.loadTasksFromFile().size();
+            double eagerMillis = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            int numLazy = taskStorage.loadTasksLazily().size();
+            double lazyMillis = (System.nanoTime() - start) / 1e6;
+
+            assertEquals(numEager, numLazy);
+            System.out.printf("TaskStorage load (%d tasks): eager %.1fms, lazy %.1fms%n",
+                    numTasks, eagerMillis, lazyMillis);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_compressedVersusPlain_reportsSizeAndLoadTime() throws Exception {
+        String[] descriptions = {"read book", "return book", "weekly report", "pay rent", "call mum"};
+        for (int numTasks : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            StringBuilder content = new StringBuilder();
+            for (int i = 1; i <= numTasks; i++) {
+                String description = descriptions[i % descriptions.length] + " " + (i % 997);
+                content.append(i).append(i % 3 == 0
+                        ? ". [D][ ] " + description + " (by: Dec " + (i % 18 + 10) + " 2999, 18:00)\n"
+                        : i % 3 == 1
+                        ? ". [T][X] " + description + " \n"
+                        : ". [E][ ] " + description + " (from: Jan 01 2999 | to: Jan 0" + (i % 9 + 1) + " 2999)\n");
+            }
+
+            for (long compressAboveBytes : new long[]{-1, 0}) {
+                TaskStorage taskStorage = new TaskStorage(this.saveFile, 0, FlushPolicy.PER_COMMAND,
+                        compressAboveBytes);
+                long[] nanos = new long[3];
+                for (int round = 0; round < 5; round++) {
+                    long start = System.nanoTime();
+                    taskStorage.writeToFile(content.toString(), false);
+                    long written = System.nanoTime();
+                    assertEquals(numTasks, taskStorage.loadTasksFromFile().size());
+                    long eagerLoaded = System.nanoTime();
+                    assertEquals(numTasks, taskStorage.loadTasksLazily().size());
+                    long lazyLoaded = System.nanoTime();
+                    // Keep the best round, which is least affected by warm up and garbage collection
+                    nanos[0] = round == 0 ? written - start : Math.min(nanos[0], written - start);
+                    nanos[1] = round == 0 ? eagerLoaded - written : Math.min(nanos[1], eagerLoaded - written);
+                    nanos[2] = round == 0 ? lazyLoaded - eagerLoaded : Math.min(nanos[2], lazyLoaded - eagerLoaded);
+                }
+                taskStorage.close();
+                System.out.printf("TaskStorage %s (%d tasks): %d KB, write %.1fms, eager load %.1fms,"
+                                + " lazy load %.1fms%n", compressAboveBytes < 0 ? "plain" : "gzip", numTasks,
+                        Files.size(this.saveFile) >> 10, nanos[0] / 1e6, nanos[1] / 1e6, nanos[2] / 1e6);
+            }
+        }
+    }
+
+    private void printThroughput(String name, int numTasks, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("TaskStorage bulk add (%s): %d tasks in %.3fs, %.0f tasks/s%n",
+                name, numTasks, seconds, numTasks / seconds);
+    }
+}
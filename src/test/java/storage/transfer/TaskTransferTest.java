@@ -0,0 +1,167 @@
+package storage.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import task.Deadline;
+import task.Event;
+import task.Recurrence;
+import task.RecurringTask;
+import task.Task;
+import task.TaskList;
+import task.ToDo;
+
+public class TaskTransferTest {
+    private final TaskTransfer transfer = new TaskTransfer(TaskStorage.inMemory());
+    private Path directory;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("brock-transfer");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(this.directory);
+    }
+
+    private TaskList createTasks() throws BrockException {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read \"War, and Peace\" "));
+        tasks.add(Deadline.restore("return caf\u00e9 book ", LocalDate.of(2999, 12, 31), LocalTime.of(18, 0),
+                true));
+        tasks.add(Event.restore("book fair ", LocalDate.of(2999, 12, 30), null, LocalDate.of(2999, 12, 31), null,
+                false));
+        tasks.add(new RecurringTask("standup ", Recurrence.restore("2 weeks", "mon,wed", LocalDate.of(2999, 1, 1),
+                LocalTime.of(9, 30), null, 10)));
+        return new TaskList(tasks);
+    }
+
+    @Test
+    public void exportTasks_thenReadTasks_sameTasks() throws Exception {
+        TaskList tasks = this.createTasks();
+        for (String fileName : new String[]{"tasks.csv", "tasks.jsonl"}) {
+            Path file = this.directory.resolve(fileName);
+
+            assertEquals(4, this.transfer.exportTasks(tasks, file));
+
+            assertEquals(tasks.listTasks(), new TaskList(this.transfer.readTasks(file)).listTasks());
+        }
+    }
+
+    @Test
+    public void exportTasks_csvAndJsonLines_expectedRecords() throws Exception {
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.addToList(new ToDo("read \"War, and Peace\" "));
+        tasks.addToList(Deadline.restore("return book ", LocalDate.of(2999, 12, 31), null, true));
+        Path csv = this.directory.resolve("tasks.csv");
+        Path jsonLines = this.directory.resolve("tasks.jsonl");
+
+        this.transfer.exportTasks(tasks, csv);
+        this.transfer.exportTasks(tasks, jsonLines);
+
+        assertEquals("""
+                type,isDone,description,extra
+                T,false,"read ""War, and Peace\"\"",
+                D,true,return book,(by: Dec 31 2999)
+                """, Files.readString(csv, StandardCharsets.UTF_8));
+        assertEquals("""
+                {"type":"T","isDone":false,"description":"read \\"War, and Peace\\"","extra":""}
+                {"type":"D","isDone":true,"description":"return book","extra":"(by: Dec 31 2999)"}
+                """, Files.readString(jsonLines, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void readTasks_handWrittenRecords_parsed() throws Exception {
+        Path csv = this.directory.resolve("tasks.csv");
+        Files.writeString(csv, "T,TRUE,read book,\n\n\"D\",false,\"return\nbook\",\"(by: Dec 31 2999)\"\n",
+                StandardCharsets.UTF_8);
+        Path jsonLines = this.directory.resolve("tasks.jsonl");
+        Files.writeString(jsonLines, "{ \"id\": 7, \"description\": \"caf\\u00e9\", \"type\": \"T\","
+                + " \"tags\": null }\n", StandardCharsets.UTF_8);
+
+        // Each task takes up a single line of the save file
+        BrockException e = assertThrows(BrockException.class, () -> this.transfer.readTasks(csv));
+        assertTrue(e.getMessage().startsWith("Line 4 of tasks.csv: "), e.getMessage());
+        Files.writeString(csv, "T,TRUE,read book,\n", StandardCharsets.UTF_8);
+        assertEquals("1. [T][X] read book \n", new TaskList(this.transfer.readTasks(csv)).listTasks());
+        assertEquals("1. [T][ ] caf\u00e9 \n", new TaskList(this.transfer.readTasks(jsonLines)).listTasks());
+    }
+
+    @Test
+    public void readTasks_invalidRecords_throwsExceptionWithLineNumber() throws Exception {
+        Path csv = this.directory.resolve("tasks.csv");
+        Path jsonLines = this.directory.resolve("tasks.jsonl");
+        String[] invalidCsv = {"T,false,read book\n", "T,maybe,read book,\n", "X,false,read book,\n",
+            "D,false,return book,(by: Someday)\n", "T,false,\"read book,\n", "T,false,,\n"};
+        String[] invalidJsonLines = {"{\"type\":\"T\"}\n", "{\"type\":\"T\",\"description\":\"a\"\n",
+            "[\"T\",false,\"read book\"]\n", "{\"type\":\"T\",\"description\":\"a\\x\"}\n",
+            "{\"type\":\"T\",\"description\":{}}\n"};
+
+        for (String record : invalidCsv) {
+            Files.writeString(csv, "T,false,read book,\n" + record, StandardCharsets.UTF_8);
+            BrockException e = assertThrows(BrockException.class, () -> this.transfer.readTasks(csv), record);
+            assertTrue(e.getMessage().startsWith("Line 2 of tasks.csv: "), e.getMessage());
+        }
+        for (String record : invalidJsonLines) {
+            Files.writeString(jsonLines, record, StandardCharsets.UTF_8);
+            BrockException e = assertThrows(BrockException.class, () -> this.transfer.readTasks(jsonLines), record);
+            assertTrue(e.getMessage().startsWith("Line 1 of tasks.jsonl: "), e.getMessage());
+        }
+        assertThrows(BrockException.class, () -> this.transfer.readTasks(this.directory.resolve("tasks.txt")));
+        assertThrows(BrockException.class, () -> this.transfer.readTasks(this.directory.resolve("missing.csv")));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_exportAndImportMillionRows_reportsThroughput() throws Exception {
+        int numTasks = 1_000_000;
+        ArrayList<Task> tasks = new ArrayList<>(numTasks);
+        for (int i = 0; i < numTasks; i++) {
+            tasks.add(i % 2 == 0
+                    ? new ToDo("task, number " + i + " ")
+                    : Deadline.restore("task " + i + " ", LocalDate.of(2999, 12, 31), LocalTime.of(18, 0), false));
+        }
+        TaskList taskList = TaskList.columnar(tasks);
+
+        for (String fileName : new String[]{"tasks.csv", "tasks.jsonl"}) {
+            Path file = this.directory.resolve(fileName);
+            for (int round = 0; round < 3; round++) {
+                long start = System.nanoTime();
+                this.transfer.exportTasks(taskList, file);
+                double exportMillis = (System.nanoTime() - start) / 1e6;
+                start = System.nanoTime();
+                TaskList imported = TaskList.columnar(new ArrayList<>());
+                imported.addAllToList(this.transfer.readTasks(file));
+                double importMillis = (System.nanoTime() - start) / 1e6;
+
+                assertEquals(numTasks, imported.numTasks());
+                System.out.printf("TaskTransfer %s (%d rows, %d MB): export %.0fms (%.0f rows/s),"
+                                + " import %.0fms (%.0f rows/s)%n", fileName, numTasks, Files.size(file) >> 20,
+                        exportMillis, numTasks / exportMillis * 1000, importMillis, numTasks / importMillis * 1000);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package storage.workspace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+import storage.task.TaskStorage;
+import task.TaskList;
+import task.ToDo;
+
+public class WorkspaceManagerTest {
+    private final ArrayList<String> loadedNames = new ArrayList<>();
+    private Path directory;
+    private Path saveFile;
+
+    @BeforeEach
+    public void createDirectory() throws IOException {
+        this.directory = Files.createTempDirectory("brock-workspace");
+        this.saveFile = this.directory.resolve("saveFile.txt");
+    }
+
+    @AfterEach
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Workspace load(String name, Path saveFilePath) throws BrockException {
+        this.loadedNames.add(name);
+        TaskStorage taskStorage = new TaskStorage(saveFilePath);
+        try {
+            taskStorage.createFile();
+            return new Workspace(name, taskStorage, new TaskList(taskStorage.loadTasksFromFile()));
+        } catch (IOException e) {
+            throw new BrockException(e.getMessage());
+        }
+    }
+
+    private WorkspaceManager createManager(long memoryBudgetBytes) throws BrockException {
+        WorkspaceManager workspaces = new WorkspaceManager(this.saveFile, memoryBudgetBytes, this::load);
+        workspaces.open(this.load(WorkspaceManager.DEFAULT_NAME, this.saveFile));
+        return workspaces;
+    }
+
+    private void addTask(Workspace workspace, String description) throws BrockException {
+        workspace.getTasks().addToList(new ToDo(description));
+        workspace.getTaskStorage().writeToFile(workspace.getTasks().listTasks(), false);
+    }
+
+    @Test
+    public void switchTo_withinBudget_loadedOnceAndKeptApart() throws Exception {
+        WorkspaceManager workspaces = this.createManager(Long.MAX_VALUE);
+
+        Workspace work = workspaces.switchTo("Work");
+        this.addTask(work, "write report ");
+        Workspace home = workspaces.switchTo("default");
+        this.addTask(home, "read book ");
+
+        assertSame(work, workspaces.switchTo("work"));
+        assertEquals(List.of("default", "work"), this.loadedNames);
+        assertEquals("1. [T][ ] write report \n", work.getTasks().listTasks());
+        assertEquals("1. [T][ ] read book \n", home.getTasks().listTasks());
+        assertTrue(Files.exists(this.directory.resolve("workspaces").resolve("work.txt")));
+        workspaces.close();
+    }
+
+    @Test
+    public void switchTo_overBudget_leastRecentlyUsedDroppedThenReloaded() throws Exception {
+        WorkspaceManager workspaces = this.createManager(0);
+        this.addTask(workspaces.getCurrent(), "read book ");
+
+        workspaces.switchTo("work");
+        workspaces.evictOverBudget();
+        workspaces.switchTo("home");
+        workspaces.evictOverBudget();
+
+        // Only the current workspace is kept, as every other one is over the budget
+        assertFalse(workspaces.isLoaded("default"));
+        assertFalse(workspaces.isLoaded("work"));
+        assertTrue(workspaces.isLoaded("home"));
+        assertEquals("1. [T][ ] read book \n", workspaces.switchTo("default").getTasks().listTasks());
+        assertEquals(List.of("default", "work", "home", "default"), this.loadedNames);
+        assertEquals(List.of("default", "home", "work"), workspaces.listNames());
+        workspaces.close();
+    }
+
+    @Test
+    public void switchTo_invalidName_throwsException() throws Exception {
+        WorkspaceManager workspaces = this.createManager(Long.MAX_VALUE);
+
+        for (String name : new String[]{"", "../work", "my work", "w".repeat(33)}) {
+            assertThrows(BrockException.class, () -> workspaces.switchTo(name), name);
+        }
+        assertEquals(WorkspaceManager.DEFAULT_NAME, workspaces.getCurrent().getName());
+        workspaces.close();
+    }
+}
@@ -0,0 +1,215 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarTaskStoreTest {
+    private ArrayList<Task> createTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("read book "));
+        tasks.add(Deadline.restore("return book ", LocalDate.of(2999, 12, 31), LocalTime.of(18, 0), false));
+        tasks.add(Event.restore("book fair ", LocalDate.of(2999, 12, 30), null, LocalDate.of(2999, 12, 31), null,
+                false));
+        tasks.add(new ToDo("buy pen ").withStatus(true));
+        return tasks;
+    }
+
+    @Test
+    public void listTasks_columnar_sameAsObjectList() {
+        TaskList columnar = TaskList.columnar(this.createTasks());
+
+        assertEquals(new TaskList(this.createTasks()).listTasks(), columnar.listTasks());
+        assertEquals("return book ", columnar.getTask(1).getDescription());
+        assertEquals("(by: Dec 31 2999, 18:00)", columnar.getTask(1).getExtraInfo());
+    }
+
+    @Test
+    public void writes_columnar_sameAsObjectList() {
+        TaskList objects = new TaskList(this.createTasks());
+        TaskList columnar = TaskList.columnar(this.createTasks());
+
+        for (TaskList tasks : List.of(objects, columnar)) {
+            tasks.markTasks(new int[]{0, 3});
+            tasks.addToList(new ToDo("new task "));
+            ArrayList<Task> removed = tasks.removeFromList(new int[]{1, 2});
+            // As when undoing a delete
+            tasks.addToList(removed.get(1));
+        }
+
+        assertEquals(objects.listTasks(), columnar.listTasks());
+    }
+
+    @Test
+    public void addAllToList_columnar_sameAsAddingEachTask() {
+        TaskList objects = new TaskList(this.createTasks());
+        TaskList columnar = TaskList.columnar(this.createTasks());
+        TaskList snapshot = columnar.snapshot();
+        TaskList expected = new TaskList(this.createTasks());
+
+        for (TaskList tasks : List.of(objects, columnar)) {
+            // Builds the search index, which is then kept in step
+            assertEquals(1, tasks.appendMatchingTasks(new StringBuilder(), "PEN", SearchMode.IGNORE_CASE));
+            tasks.addAllToList(this.createTasks());
+            tasks.addAllToList(List.of());
+        }
+        for (Task task : this.createTasks()) {
+            expected.addToList(task);
+        }
+
+        assertEquals(expected.listTasks(), objects.listTasks());
+        assertEquals(expected.listTasks(), columnar.listTasks());
+        assertEquals(4, snapshot.numTasks());
+        assertEquals(2, objects.appendMatchingTasks(new StringBuilder(), "PEN", SearchMode.IGNORE_CASE));
+        assertEquals(2, columnar.appendMatchingTasks(new StringBuilder(), "PEN", SearchMode.IGNORE_CASE));
+        assertEquals("2", columnar.findMatchingTasks("pen")[1]);
+    }
+
+    @Test
+    public void snapshot_columnarLaterWrites_snapshotUnchanged() {
+        TaskList columnar = TaskList.columnar(this.createTasks());
+        TaskList snapshot = columnar.snapshot();
+        Task firstTask = columnar.getTask(0);
+
+        columnar.markTask(0);
+        columnar.removeFromList(1);
+
+        assertEquals(' ', firstTask.getStatusIcon());
+        assertEquals(' ', snapshot.getTask(0).getStatusIcon());
+        assertEquals('X', columnar.getTask(0).getStatusIcon());
+        assertEquals(4, snapshot.numTasks());
+    }
+
+    @Test
+    public void findMatchingTasks_columnar_sameAsObjectList() {
+        TaskList objects = new TaskList(this.createTasks());
+        TaskList columnar = TaskList.columnar(this.createTasks());
+
+        for (String keyword : new String[]{"book", "pen", "boo", "fair"}) {
+            assertEquals(objects.findMatchingTasks(keyword)[0], columnar.findMatchingTasks(keyword)[0]);
+        }
+    }
+
+    @Test
+    public void findMatchingTasks_columnarNonAscii_sameAsObjectList() {
+        ArrayList<Task> tasks = this.createTasks();
+        tasks.add(new ToDo("caf\u00e9 cr\u00e8me book "));
+        TaskList objects = new TaskList(tasks);
+        TaskList columnar = TaskList.columnar(tasks);
+
+        assertEquals(objects.listTasks(), columnar.listTasks());
+        assertEquals("caf\u00e9 cr\u00e8me book ", columnar.getTask(4).getDescription());
+        for (String keyword : new String[]{"caf\u00e9", "cr\u00e8me", "book", "cafe"}) {
+            assertEquals(objects.findMatchingTasks(keyword)[0], columnar.findMatchingTasks(keyword)[0]);
+        }
+    }
+
+    @Test
+    public void appendDueTasks_columnarRecurring_sameAsObjectList() throws Exception {
+        ArrayList<Task> tasks = this.createTasks();
+        tasks.add(new RecurringTask("standup ", Recurrence.restore("week", "mon,fri", LocalDate.of(2999, 12, 1),
+                LocalTime.of(9, 30), LocalDate.of(2999, 12, 31), 0)));
+        tasks.add(new RecurringTask("rent ", Recurrence.restore("2 months", null, LocalDate.of(2999, 10, 30),
+                null, null, 12)).withStatus(true));
+        TaskList objects = new TaskList(tasks);
+        TaskList columnar = TaskList.columnar(tasks);
+        StringBuilder objectsDue = new StringBuilder();
+        StringBuilder columnarDue = new StringBuilder();
+
+        objects.appendDueTasks(objectsDue, LocalDate.of(2999, 12, 25), LocalDate.of(2999, 12, 31));
+        columnar.appendDueTasks(columnarDue, LocalDate.of(2999, 12, 25), LocalDate.of(2999, 12, 31));
+
+        assertEquals(objects.listTasks(), columnar.listTasks());
+        assertEquals(objectsDue.toString(), columnarDue.toString());
+        assertEquals(new RecurringTask("rent ", Recurrence.restore("2 months", null, LocalDate.of(2999, 10, 30),
+                null, null, 12)).getExtraInfo(), columnar.getTask(5).withStatus(false).getExtraInfo());
+    }
+
+    @Test
+    public void columnar_unsupportedTaskType_backedByTaskObjects() {
+        Task custom = new Task("custom task ") {
+            @Override
+            public String getTaskType() {
+                return "C";
+            }
+
+            @Override
+            public String getExtraInfo() {
+                return "";
+            }
+        };
+        ArrayList<Task> tasks = this.createTasks();
+        tasks.add(custom);
+        TaskList columnar = TaskList.columnar(this.createTasks());
+        TaskList snapshot = columnar.snapshot();
+
+        columnar.addToList(custom);
+        columnar.addAllToList(List.of(custom, new ToDo("buy ink ")));
+        tasks.add(custom);
+        tasks.add(new ToDo("buy ink "));
+
+        assertEquals(new TaskList(tasks).listTasks(), columnar.listTasks());
+        assertEquals(new TaskList(tasks).listTasks(), TaskList.columnar(tasks).listTasks());
+        assertEquals(4, snapshot.numTasks());
+    }
+
+    @Test
+    public void addToList_columnarLongDescriptions_sameAsObjectList() {
+        TaskList objects = new TaskList(new ArrayList<>());
+        TaskList columnar = TaskList.columnar(List.of());
+
+        for (int i = 0; i < 100; i++) {
+            // Alternates between growing only the arena and growing every column
+            String description = "task " + i + " " + "x".repeat(i % 2 == 0 ? 1 : 500) + " ";
+            objects.addToList(new ToDo(description));
+            columnar.addToList(new ToDo(description));
+        }
+
+        assertEquals(objects.listTasks(), columnar.listTasks());
+    }
+
+    private long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_millionDeadlines_reportsHeapAndScan() throws Exception {
+        int numTasks = 1_000_000;
+        ArrayList<Task> source = new ArrayList<>(numTasks);
+        for (int i = 0; i < numTasks; i++) {
+            source.add(Deadline.restore("submit report " + i, LocalDate.of(2999, 1, 1).plusDays(i % 365),
+                    i % 2 == 0 ? null : LocalTime.of(i % 24, 0), false));
+        }
+        TaskList columnar = TaskList.columnar(source);
+
+        long before = this.usedHeap();
+        source = null;
+        long objectBytes = before - this.usedHeap();
+        long start = System.nanoTime();
+        int matches = Integer.parseInt(columnar.findMatchingTasks("999999")[1]);
+        double scanMillis = (System.nanoTime() - start) / 1e6;
+
+        System.out.printf("Objects: ~%d bytes/task; columnar find over %d tasks: %.1fms%n",
+                objectBytes / numTasks, numTasks, scanMillis);
+        assertTrue(matches == 1 && columnar.numTasks() == numTasks);
+
+        long columnarBefore = this.usedHeap();
+        columnar = null;
+        long columnarBytes = columnarBefore - this.usedHeap();
+        System.out.printf("Columnar: ~%d bytes/task (%.1fx smaller)%n",
+                columnarBytes / numTasks, (double) objectBytes / columnarBytes);
+    }
+}
@@ -0,0 +1,86 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import com.sun.management.ThreadMXBean;
+
+// The pool is shared by every task created, so other tests, including the other methods of this class,
+// could evict a description mid-test
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+public class DescriptionPoolTest {
+    private static final String[] RECURRING = {"standup", "submit timesheet", "water plants", "gym", "review PRs"};
+
+    @Test
+    public void constructor_equalDescriptions_shareOneString() {
+        // Built at runtime, so that they are distinct instances, as when parsed from input
+        Task first = new ToDo(new StringBuilder("standup ").toString());
+        Task second = new ToDo(new StringBuilder("standup ").toString());
+
+        assertSame(first.getDescription(), second.getDescription());
+        assertSame(first.getDescription(), second.withStatus(true).getDescription());
+    }
+
+    @Test
+    public void intern_collidingDescriptions_keepsLatestAndStaysCorrect() {
+        for (int i = 0; i < 10_000; i++) {
+            String description = "task " + i;
+            assertEquals(description, DescriptionPool.intern(description));
+        }
+        assertNull(DescriptionPool.intern(null));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_recurringDescriptions_reportsHeapSaved() {
+        int numTasks = 1_000_000;
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        // Bytes allocated for each description, as parsed from input, which a task would keep without the pool
+        long[] descriptionBytes = new long[numTasks];
+        ArrayList<String> descriptions = new ArrayList<>(numTasks);
+        for (int i = 0; i < numTasks; i++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            // Mostly recurring tasks, with some one-off ones, as in a long-lived save file
+            String description = i % 10 == 0 ? "one-off errand " + i + " " : RECURRING[i % RECURRING.length] + " ";
+            descriptionBytes[i] = threads.getCurrentThreadAllocatedBytes() - before;
+            descriptions.add(description);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        ArrayList<Task> tasks = new ArrayList<>(numTasks);
+        for (String description : descriptions) {
+            tasks.add(new ToDo(description));
+        }
+        long taskBytes = threads.getCurrentThreadAllocatedBytes() - before;
+
+        Set<String> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task task : tasks) {
+            kept.add(task.getDescription());
+        }
+        long unpooledBytes = 0;
+        long pooledBytes = 0;
+        for (int i = 0; i < numTasks; i++) {
+            unpooledBytes += descriptionBytes[i];
+            pooledBytes += kept.contains(descriptions.get(i)) ? descriptionBytes[i] : 0;
+        }
+        System.out.printf("Descriptions kept unpooled: %d bytes/task; pooled: %d bytes/task "
+                + "(%d distinct strings kept for %d tasks, %d bytes/task allocated creating the tasks)%n",
+                unpooledBytes / numTasks, pooledBytes / numTasks, kept.size(), numTasks, taskBytes / numTasks);
+        assertTrue(kept.size() < numTasks / 5);
+    }
+}
@@ -0,0 +1,144 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+
+public class RecurrenceTest {
+    private static final LocalDate START = LocalDate.of(2999, 1, 1);
+
+    private List<LocalDate> dates(String... dates) {
+        List<LocalDate> result = new ArrayList<>();
+        for (String date : dates) {
+            result.add(LocalDate.parse(date));
+        }
+        return result;
+    }
+
+    @Test
+    public void getOccurrences_weeklyOnDays_onlyInEveryOtherWeek() throws BrockException {
+        // Jan 01 2999 is a Tuesday
+        Recurrence recurrence = Recurrence.restore("2 weeks", "mon,wed", START, null, null, 0);
+
+        assertEquals(this.dates("2999-01-02", "2999-01-14", "2999-01-16", "2999-01-28", "2999-01-30"),
+                recurrence.getOccurrences(START.minusDays(10), LocalDate.of(2999, 1, 31)));
+        assertEquals("(every: 2 weeks on: MON WED | from: Jan 01 2999)", recurrence.format());
+    }
+
+    @Test
+    public void getOccurrences_monthlyOn31st_skipsShorterMonths() throws BrockException {
+        Recurrence recurrence = Recurrence.restore("month", null, LocalDate.of(2999, 1, 31), LocalTime.of(9, 0),
+                null, 0);
+
+        assertEquals(this.dates("2999-01-31", "2999-03-31", "2999-05-31"),
+                recurrence.getOccurrences(START, LocalDate.of(2999, 6, 30)));
+    }
+
+    @Test
+    public void getOccurrences_untilOrCount_endsRule() throws BrockException {
+        Recurrence until = Recurrence.restore("day", null, START, null, LocalDate.of(2999, 1, 3), 0);
+        Recurrence count = Recurrence.restore("3 days", null, START, null, null, 2);
+
+        assertEquals(this.dates("2999-01-01", "2999-01-02", "2999-01-03"),
+                until.getOccurrences(START, START.plusYears(1)));
+        assertEquals(this.dates("2999-01-01", "2999-01-04"), count.getOccurrences(START, START.plusYears(1)));
+        assertEquals("(every: 3 days | from: Jan 01 2999 | times: 2)", count.format());
+    }
+
+    @Test
+    public void unpack_withLastDate_sameAsRestored() throws BrockException {
+        Recurrence until = Recurrence.restore("week", "mon,fri", START, LocalTime.of(9, 0), START.plusYears(2), 0);
+        Recurrence count = Recurrence.restore("2 days", null, START, null, null, Recurrence.MAX_COUNT);
+
+        for (Recurrence recurrence : List.of(until, count)) {
+            Recurrence unpacked = Recurrence.unpack(recurrence.getStartDate(), recurrence.getTime(),
+                    recurrence.getLastDate(), recurrence.pack());
+            assertEquals(recurrence.format(), unpacked.format());
+            assertEquals(recurrence.getLastDate(), unpacked.getLastDate());
+            assertEquals(recurrence.getOccurrences(START.plusYears(50), START.plusYears(60)),
+                    unpacked.getOccurrences(START.plusYears(50), START.plusYears(60)));
+        }
+        assertEquals(START.plusDays(2 * (Recurrence.MAX_COUNT - 1)), count.getLastDate());
+    }
+
+    @Test
+    public void getOccurrences_farFromStart_onlyWindowExpanded() throws BrockException {
+        Recurrence recurrence = Recurrence.restore("day", null, START, null, null, 0);
+        LocalDate from = START.plusYears(5000);
+
+        assertEquals(List.of(from, from.plusDays(1)), recurrence.getOccurrences(from, from.plusDays(1)));
+    }
+
+    @Test
+    public void restore_invalidRule_throwsException() {
+        assertThrows(BrockException.class, () -> Recurrence.restore("fortnight", null, START, null, null, 0));
+        assertThrows(BrockException.class, () -> Recurrence.restore("0 days", null, START, null, null, 0));
+        assertThrows(BrockException.class, () -> Recurrence.restore("day", "mon", START, null, null, 0));
+        assertThrows(BrockException.class, () -> Recurrence.restore("week", "funday", START, null, null, 0));
+        assertThrows(BrockException.class, () -> Recurrence.restore("week", null, START, null, START, 3));
+        assertThrows(BrockException.class, () -> Recurrence.create("week", null, LocalDate.now().minusDays(1),
+                null, null, 0));
+    }
+
+    @Test
+    public void getOccurrences_randomRules_sameAsCheckingEveryDay() throws BrockException {
+        Random random = new Random(42);
+        String[] units = {"day", "week", "month"};
+        for (int run = 0; run < 300; run++) {
+            LocalDate start = START.plusDays(random.nextInt(400));
+            int unit = random.nextInt(units.length);
+            int interval = 1 + random.nextInt(4);
+            int daysOfWeek = 1 + random.nextInt(127);
+            int count = random.nextBoolean() ? 1 + random.nextInt(30) : 0;
+            StringBuilder days = new StringBuilder();
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if ((daysOfWeek & (1 << (dayOfWeek.getValue() - 1))) != 0) {
+                    days.append(dayOfWeek.name(), 0, 3).append(',');
+                }
+            }
+            Recurrence recurrence = Recurrence.restore(interval + " " + units[unit], unit == 1 ? days.toString()
+                    : null, start, null, null, count);
+            LocalDate from = start.plusDays(random.nextInt(200) - 100);
+            LocalDate to = from.plusDays(random.nextInt(400));
+
+            LocalDate firstMonday = start.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            List<LocalDate> expected = new ArrayList<>();
+            int seen = 0;
+            for (LocalDate date = start; !date.isAfter(to) && (count == 0 || seen < count);
+                    date = date.plusDays(1)) {
+                // CHECKSTYLE.OFF: Indentation
+                boolean isOccurrence = switch (unit) {
+                    case 0 -> ChronoUnit.DAYS.between(start, date) % interval == 0;
+                    case 1 -> ChronoUnit.WEEKS.between(firstMonday, date) % interval == 0
+                            && (daysOfWeek & (1 << (date.getDayOfWeek().getValue() - 1))) != 0;
+                    default -> date.getDayOfMonth() == start.getDayOfMonth()
+                            && ChronoUnit.MONTHS.between(start.withDayOfMonth(1), date.withDayOfMonth(1))
+                            % interval == 0;
+                };
+                // CHECKSTYLE.ON: Indentation
+                if (isOccurrence) {
+                    seen++;
+                    if (!date.isBefore(from)) {
+                        expected.add(date);
+                    }
+                }
+            }
+            assertEquals(expected, recurrence.getOccurrences(from, to), recurrence.format());
+
+            Recurrence unpacked = Recurrence.unpack(start, LocalTime.MAX, null, recurrence.pack());
+            assertEquals(recurrence.format(), unpacked.format());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import exceptions.BrockException;
+
+public class SearchQueryTest {
+    private static final String[] DESCRIPTIONS = {
+        "Return book ", "read book club notes ", "buy pen ", "book club ", "club book fair ", "buy pencil case "
+    };
+
+    private int[] evaluate(String expression, String... descriptions) throws BrockException {
+        TrigramIndex index = new TrigramIndex();
+        for (String description : descriptions) {
+            index.add(description);
+        }
+        return SearchQuery.parse(expression).evaluate(index, taskIndex -> descriptions[taskIndex]);
+    }
+
+    @Test
+    public void evaluate_operators_matchExpectedTasks() throws BrockException {
+        assertArrayEquals(new int[]{0, 1, 3, 4}, this.evaluate("BOOK", DESCRIPTIONS));
+        assertArrayEquals(new int[]{1, 3, 4}, this.evaluate("book AND club", DESCRIPTIONS));
+        assertArrayEquals(new int[]{1, 3, 4}, this.evaluate("book club", DESCRIPTIONS));
+        assertArrayEquals(new int[]{2, 3, 4}, this.evaluate("pen OR club NOT read", DESCRIPTIONS));
+        assertArrayEquals(new int[]{0, 1, 3}, this.evaluate("book NOT (fair OR return) OR return", DESCRIPTIONS));
+        assertArrayEquals(new int[]{2, 5}, this.evaluate("NOT book", DESCRIPTIONS));
+        assertArrayEquals(new int[]{5}, this.evaluate("NOT book NOT pen", DESCRIPTIONS));
+    }
+
+    @Test
+    public void evaluate_phrase_wordsMustBeAdjacentAndInOrder() throws BrockException {
+        assertArrayEquals(new int[]{1, 3}, this.evaluate("\"book club\"", DESCRIPTIONS));
+        assertArrayEquals(new int[]{4}, this.evaluate("\"club book\"", DESCRIPTIONS));
+        assertArrayEquals(new int[]{3}, this.evaluate("\"book club\" NOT notes", DESCRIPTIONS));
+        assertArrayEquals(new int[]{0}, this.evaluate("\"return\"", DESCRIPTIONS));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsException() {
+        for (String expression : new String[]{"book AND", "OR book", "(book", "book)", "\"book", "\" \"", "NOT"}) {
+            assertThrows(BrockException.class, () -> SearchQuery.parse(expression), expression);
+        }
+    }
+
+    @Test
+    public void evaluate_randomQueries_sameAsBruteForce() throws BrockException {
+        Random random = new Random(42);
+        String[] words = {"a", "b", "c", "d", "e"};
+        String[] descriptions = new String[500];
+        for (int i = 0; i < descriptions.length; i++) {
+            StringBuilder description = new StringBuilder();
+            for (String word : words) {
+                if (random.nextInt(3) == 0) {
+                    description.append(word).append(' ');
+                }
+            }
+            descriptions[i] = description.toString();
+        }
+        IntPredicate[] predicates = new IntPredicate[words.length];
+        for (int w = 0; w < words.length; w++) {
+            String word = words[w] + " ";
+            predicates[w] = i -> descriptions[i].contains(word);
+        }
+
+        for (int run = 0; run < 200; run++) {
+            int x = random.nextInt(words.length);
+            int y = random.nextInt(words.length);
+            int z = random.nextInt(words.length);
+            String expression = words[x] + " AND (" + words[y] + " OR NOT " + words[z] + ")";
+            int[] expected = IntStream.range(0, descriptions.length)
+                    .filter(i -> predicates[x].test(i) && (predicates[y].test(i) || !predicates[z].test(i)))
+                    .toArray();
+            assertArrayEquals(expected, this.evaluate(expression, descriptions), expression);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_rareAndCommon_costFollowsShortestList() throws BrockException {
+        int numTasks = 1_000_000;
+        ArrayList<Task> source = new ArrayList<>(numTasks);
+        for (int i = 0; i < numTasks; i++) {
+            // "weekly" is in every task, "urgent" in one in ten thousand
+            source.add(new ToDo("weekly report " + (i % 10_000 == 0 ? "urgent " : "") + "item" + i + " "));
+        }
+        TaskList tasks = new TaskList(source);
+        tasks.appendMatchingTasks(new StringBuilder(), SearchQuery.parse("weekly urgent"));
+
+        for (String expression : new String[]{"urgent AND weekly AND report", "urgent NOT item0",
+            "\"weekly report\" urgent", "item42 OR item4242 OR urgent"}) {
+            SearchQuery query = SearchQuery.parse(expression);
+            for (int warmup = 0; warmup < 10; warmup++) {
+                tasks.appendMatchingTasks(new StringBuilder(), query);
+            }
+            long start = System.nanoTime();
+            int numMatching = tasks.appendMatchingTasks(new StringBuilder(), query);
+            System.out.printf("%s: %d matches in %.2fms%n", expression, numMatching,
+                    (System.nanoTime() - start) / 1e6);
+            assertTrue(numMatching > 0);
+        }
+        assertEquals(99, tasks.appendMatchingTasks(new StringBuilder(), SearchQuery.parse("urgent NOT item0")));
+    }
+}
@@ -0,0 +1,168 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TaskListConcurrencyTest {
+    private static final int NUM_READERS = 4;
+
+    private TaskList createTasks(int numTasks) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < numTasks; i++) {
+            tasks.add(new ToDo("task " + i));
+        }
+        return new TaskList(tasks);
+    }
+
+    @Test
+    public void snapshot_laterWrites_snapshotUnchanged() {
+        TaskList tasks = this.createTasks(3);
+        TaskList snapshot = tasks.snapshot();
+
+        tasks.markTask(0);
+        tasks.addToList(new ToDo("task 3"));
+        tasks.removeFromList(1);
+
+        assertEquals(3, snapshot.numTasks());
+        assertEquals(' ', snapshot.getTask(0).getStatusIcon());
+        assertEquals("task 1", snapshot.getTask(1).getDescription());
+        assertEquals(3, tasks.numTasks());
+        assertEquals('X', tasks.getTask(0).getStatusIcon());
+    }
+
+    @Test
+    public void markTasks_concurrentReaders_neverSeePartialBulkToggle() throws Exception {
+        TaskList tasks = this.createTasks(1000);
+        int[] allIndices = new int[1000];
+        for (int i = 0; i < allIndices.length; i++) {
+            allIndices[i] = i;
+        }
+
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicBoolean isTornRead = new AtomicBoolean(false);
+        ExecutorService readers = Executors.newFixedThreadPool(NUM_READERS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int r = 0; r < NUM_READERS; r++) {
+            results.add(readers.submit(() -> {
+                while (isRunning.get()) {
+                    TaskList snapshot = tasks.snapshot();
+                    char firstIcon = snapshot.getTask(0).getStatusIcon();
+                    for (int i = 1; i < snapshot.numTasks(); i++) {
+                        if (snapshot.getTask(i).getStatusIcon() != firstIcon) {
+                            isTornRead.set(true);
+                        }
+                    }
+                }
+            }));
+        }
+
+        for (int round = 0; round < 200; round++) {
+            tasks.markTasks(allIndices);
+            tasks.unmarkTasks(allIndices);
+        }
+        isRunning.set(false);
+        for (Future<?> result : results) {
+            result.get();
+        }
+        readers.shutdown();
+
+        assertFalse(isTornRead.get());
+    }
+
+    @Test
+    public void appendMatchingTasks_writeWhileIndexBuilt_writeNotBlockedAndFound() throws Exception {
+        CountDownLatch isWritten = new CountDownLatch(1);
+        ArrayList<Task> initialTasks = new ArrayList<>();
+        initialTasks.add(new ToDo("read book ") {
+            @Override
+            public String getDescription() {
+                try {
+                    // Slow to read, as a lazily loaded task, until the write below is done
+                    isWritten.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.getDescription();
+            }
+        });
+        TaskList tasks = new TaskList(initialTasks);
+        ExecutorService searcher = Executors.newSingleThreadExecutor();
+
+        Future<String> result = searcher.submit(() -> {
+            StringBuilder found = new StringBuilder();
+            tasks.appendMatchingTasks(found, "boo", SearchMode.PREFIX);
+            return found.toString();
+        });
+        Thread.sleep(100);
+        long startNanos = System.nanoTime();
+        tasks.addToList(new ToDo("book fair "));
+        long writeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        isWritten.countDown();
+
+        assertTrue(writeMillis < 5000, writeMillis + "ms");
+        assertTrue(result.get().contains("book fair"), result.get());
+        assertTrue(result.get().contains("read book"), result.get());
+        searcher.shutdown();
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_mixedReadWrite_reportsThroughput() throws Exception {
+        int numTasks = 10_000;
+        long durationMillis = 2000;
+        TaskList tasks = this.createTasks(numTasks);
+
+        AtomicBoolean isRunning = new AtomicBoolean(true);
+        AtomicLong reads = new AtomicLong();
+        ExecutorService readers = Executors.newFixedThreadPool(NUM_READERS);
+        for (int r = 0; r < NUM_READERS; r++) {
+            readers.submit(() -> {
+                long count = 0;
+                while (isRunning.get()) {
+                    TaskList snapshot = tasks.snapshot();
+                    int done = 0;
+                    for (int i = 0; i < snapshot.numTasks(); i++) {
+                        done += snapshot.getTask(i).getStatusIcon() == 'X' ? 1 : 0;
+                    }
+                    assertTrue(done <= snapshot.numTasks());
+                    count++;
+                }
+                reads.addAndGet(count);
+            });
+        }
+
+        long writes = 0;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        while (System.nanoTime() < deadline) {
+            int taskIndex = (int) (writes % numTasks);
+            if (writes % 2 == 0) {
+                tasks.markTask(taskIndex);
+            } else {
+                tasks.addToList(new ToDo("new task"));
+                tasks.removeFromList(tasks.numTasks() - 1);
+            }
+            writes++;
+        }
+        isRunning.set(false);
+        readers.shutdown();
+        assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+
+        double seconds = durationMillis / 1000.0;
+        System.out.printf("TaskList (%d tasks, %d readers): %.0f full-scan reads/s, %.0f writes/s%n",
+                numTasks, NUM_READERS, reads.get() / seconds, writes / seconds);
+    }
+}
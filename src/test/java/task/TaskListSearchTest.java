@@ -0,0 +1,135 @@
+package task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TaskListSearchTest {
+    private TaskList createTasks() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new ToDo("Return Book "));
+        tasks.add(new ToDo("read bookshelf manual "));
+        tasks.add(new ToDo("buy pen "));
+        tasks.add(new ToDo("book club "));
+        return new TaskList(tasks);
+    }
+
+    private String search(TaskList tasks, String keyword, SearchMode mode) {
+        StringBuilder result = new StringBuilder();
+        tasks.appendMatchingTasks(result, keyword, mode);
+        return result.toString();
+    }
+
+    @Test
+    public void appendMatchingTasks_ignoreCase_matchesAnyCaseInListOrder() {
+        TaskList tasks = this.createTasks();
+
+        assertEquals("1. [T][ ] Return Book \n2. [T][ ] book club \n", this.search(tasks, "BOOK",
+                SearchMode.IGNORE_CASE));
+        assertEquals("1. [T][ ] book club \n", this.search(tasks, "book", SearchMode.EXACT));
+    }
+
+    @Test
+    public void trigramIndex_addAndRemove_sizesCountLiveWordsAndEntries() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("Return Book ");
+        index.add("book book club ");
+        index.add("buy pen ");
+
+        assertEquals(5, index.vocabularySize());
+        assertEquals(6, index.postingsSize());
+        index.remove(new int[]{2});
+        assertEquals(3, index.vocabularySize());
+        assertEquals(4, index.postingsSize());
+    }
+
+    @Test
+    public void appendMatchingTasks_prefix_shorterCompletionsFirst() {
+        TaskList tasks = this.createTasks();
+
+        assertEquals("1. [T][ ] Return Book \n2. [T][ ] book club \n3. [T][ ] read bookshelf manual \n",
+                this.search(tasks, "boo", SearchMode.PREFIX));
+        assertEquals("1. [T][ ] read bookshelf manual \n", this.search(tasks, "m", SearchMode.PREFIX));
+    }
+
+    @Test
+    public void appendMatchingTasks_fuzzy_closerWordsFirst() {
+        TaskList tasks = this.createTasks();
+
+        assertEquals("1. [T][ ] Return Book \n2. [T][ ] book club \n", this.search(tasks, "bokk", SearchMode.FUZZY));
+        assertEquals("1. [T][ ] read bookshelf manual \n", this.search(tasks, "manaul", SearchMode.FUZZY));
+        assertEquals("1. [T][ ] buy pen \n", this.search(tasks, "pem", SearchMode.FUZZY));
+        assertEquals("", this.search(tasks, "pencil", SearchMode.FUZZY));
+    }
+
+    @Test
+    public void appendMatchingTasks_afterWrites_indexKeptInStep() {
+        TaskList tasks = this.createTasks();
+        this.search(tasks, "book", SearchMode.PREFIX);
+
+        tasks.removeFromList(new int[]{0, 2});
+        tasks.addToList(new ToDo("bookmark page "));
+        tasks.markTask(0);
+
+        assertEquals("1. [T][ ] book club \n2. [T][ ] bookmark page \n3. [T][X] read bookshelf manual \n",
+                this.search(tasks, "book", SearchMode.PREFIX));
+        assertEquals("", this.search(tasks, "pen", SearchMode.IGNORE_CASE));
+    }
+
+    @Test
+    public void appendMatchingTasks_columnar_sameAsObjectList() {
+        TaskList objects = this.createTasks();
+        TaskList columnar = TaskList.columnar(objects.asList());
+
+        for (SearchMode mode : SearchMode.values()) {
+            assertEquals(this.search(objects, "boo", mode), this.search(columnar, "boo", mode));
+            assertEquals(this.search(objects, "book", mode), this.search(columnar, "book", mode));
+        }
+    }
+
+    @Test
+    public void appendMatchingTasks_manyMatches_listsBestWithTotal() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            tasks.add(new ToDo("task " + i + " "));
+        }
+        StringBuilder result = new StringBuilder();
+
+        int numMatching = new TaskList(tasks).appendMatchingTasks(result, "tas", SearchMode.PREFIX);
+
+        assertEquals(150, numMatching);
+        assertTrue(result.toString().endsWith("100. [T][ ] task 99 \n(Showing the best 100 of 150 matches)\n"));
+    }
+
+    @Test
+    @Tag("benchmark")
+    public void benchmark_millionDescriptions_reportsQueryTimes() {
+        String[] words = {"submit", "report", "standup", "review", "budget", "meeting", "invoice", "dentist"};
+        ArrayList<Task> source = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            source.add(new ToDo(words[i % words.length] + " " + words[(i / 8) % words.length] + " item" + i + " "));
+        }
+        TaskList tasks = new TaskList(source);
+
+        long start = System.nanoTime();
+        this.search(tasks, "submit", SearchMode.IGNORE_CASE);
+        System.out.printf("Index build and first query over 1M tasks: %.0fms%n", (System.nanoTime() - start) / 1e6);
+        String[][] queries = {{"budgte", "FUZZY"}, {"item12345", "FUZZY"}, {"item9999", "PREFIX"},
+            {"rev", "PREFIX"}, {"DENTIST", "IGNORE_CASE"}, {"item4242", "EXACT"}};
+        for (String[] query : queries) {
+            SearchMode mode = SearchMode.valueOf(query[1]);
+            for (int warmup = 0; warmup < 10; warmup++) {
+                this.search(tasks, query[0], mode);
+            }
+            start = System.nanoTime();
+            int numMatching = tasks.appendMatchingTasks(new StringBuilder(), query[0], mode);
+            System.out.printf("%s %s: %d matches in %.1fms%n", mode, query[0], numMatching,
+                    (System.nanoTime() - start) / 1e6);
+            assertTrue(numMatching > 0);
+        }
+    }
+}